@@ -2,6 +2,7 @@ package internal.org.springframework.content.fs.boot.autoconfigure;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,11 +12,15 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.content.fs.config.FilesystemStoreConfigurer;
+import org.springframework.content.fs.config.FilesystemStoreProperties;
 import org.springframework.content.fs.io.FileSystemResourceLoader;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 import internal.org.springframework.content.fs.config.FilesystemStoreConfiguration;
 import internal.org.springframework.content.fs.config.FilesystemStoreFactoryBean;
@@ -44,6 +49,40 @@ public class FilesystemContentAutoConfiguration {
 		return new FileSystemResourceLoader(props.getFilesystemRoot());
 	}
 
+	@Bean
+	FilesystemStoreConfigurer filesystemPropertiesConfigurer(FilesystemProperties props) {
+		return new FilesystemStoreConfigurer() {
+
+			@Override
+			public void configureFilesystemStoreConverters(ConverterRegistry registry) {
+			}
+
+			@Override
+			public void configure(FilesystemStoreProperties store) {
+				FilesystemProperties.Sharding sharding = props.getSharding();
+				if (sharding.getLevels() > 0) {
+					store.sharding(sharding.getLevels(), sharding.getWidth());
+					store.shardingMigration(sharding.isMigrating());
+				}
+				FilesystemProperties.GroupCommit groupCommit = props.getGroupCommit();
+				if (groupCommit.isEnabled()) {
+					store.groupCommit(groupCommit.getWindow());
+				}
+				FilesystemProperties.Write write = props.getWrite();
+				store.writeBufferSize(Math.toIntExact(write.getBufferSize().toBytes()));
+				if (write.getPreallocationThreshold() != null) {
+					store.preallocation(write.getPreallocationThreshold().toBytes());
+				}
+				if (write.getDirectIoThreshold() != null) {
+					store.directIo(write.getDirectIoThreshold().toBytes(), Math.toIntExact(write.getDirectIoBufferSize().toBytes()));
+				}
+				if (props.getPacking().getThreshold() != null) {
+					store.packing(props.getPacking().getThreshold().toBytes());
+				}
+			}
+		};
+	}
+
 	@Component
 	@ConfigurationProperties(prefix = "spring.content.fs")
 	public static class FilesystemProperties {
@@ -55,6 +94,26 @@ public class FilesystemContentAutoConfiguration {
 		 */
 		String filesystemRoot;
 
+		/**
+		 * Hash-sharded directory layout
+		 */
+		private final Sharding sharding = new Sharding();
+
+		/**
+		 * Batched durability for concurrent writers
+		 */
+		private final GroupCommit groupCommit = new GroupCommit();
+
+		/**
+		 * How content is written
+		 */
+		private final Write write = new Write();
+
+		/**
+		 * Pack files for small content
+		 */
+		private final Packing packing = new Packing();
+
 		public String getFilesystemRoot() {
 			if (filesystemRoot == null) {
 				try {
@@ -73,5 +132,163 @@ public class FilesystemContentAutoConfiguration {
 		public void setFilesystemRoot(String filesystemRoot) {
 			this.filesystemRoot = filesystemRoot;
 		}
+
+		public Sharding getSharding() {
+			return sharding;
+		}
+
+		public GroupCommit getGroupCommit() {
+			return groupCommit;
+		}
+
+		public Write getWrite() {
+			return write;
+		}
+
+		public Packing getPacking() {
+			return packing;
+		}
+
+		public static class Sharding {
+
+			/**
+			 * Number of directory levels content is sharded into; 0 disables sharding
+			 */
+			private int levels = 0;
+
+			/**
+			 * Number of hex digits naming each directory level
+			 */
+			private int width = 2;
+
+			/**
+			 * Whether content is being migrated from the unsharded layout
+			 */
+			private boolean migrating = false;
+
+			public int getLevels() {
+				return levels;
+			}
+
+			public void setLevels(int levels) {
+				this.levels = levels;
+			}
+
+			public int getWidth() {
+				return width;
+			}
+
+			public void setWidth(int width) {
+				this.width = width;
+			}
+
+			public boolean isMigrating() {
+				return migrating;
+			}
+
+			public void setMigrating(boolean migrating) {
+				this.migrating = migrating;
+			}
+		}
+
+		public static class GroupCommit {
+
+			/**
+			 * Whether concurrent writes are made durable in shared batches
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * How long a batch waits for further writers before it is flushed
+			 */
+			private Duration window = Duration.ZERO;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public Duration getWindow() {
+				return window;
+			}
+
+			public void setWindow(Duration window) {
+				this.window = window;
+			}
+		}
+
+		public static class Write {
+
+			/**
+			 * Size of the buffer content is copied through
+			 */
+			private DataSize bufferSize = DataSize.ofKilobytes(8);
+
+			/**
+			 * Minimum known content length that is preallocated before it is written; unset disables preallocation
+			 */
+			private DataSize preallocationThreshold;
+
+			/**
+			 * Minimum known content length that is written with direct I/O; unset disables direct I/O
+			 */
+			private DataSize directIoThreshold;
+
+			/**
+			 * Size of the off-heap buffer used for direct I/O
+			 */
+			private DataSize directIoBufferSize = DataSize.ofMegabytes(1);
+
+			public DataSize getBufferSize() {
+				return bufferSize;
+			}
+
+			public void setBufferSize(DataSize bufferSize) {
+				this.bufferSize = bufferSize;
+			}
+
+			public DataSize getPreallocationThreshold() {
+				return preallocationThreshold;
+			}
+
+			public void setPreallocationThreshold(DataSize preallocationThreshold) {
+				this.preallocationThreshold = preallocationThreshold;
+			}
+
+			public DataSize getDirectIoThreshold() {
+				return directIoThreshold;
+			}
+
+			public void setDirectIoThreshold(DataSize directIoThreshold) {
+				this.directIoThreshold = directIoThreshold;
+			}
+
+			public DataSize getDirectIoBufferSize() {
+				return directIoBufferSize;
+			}
+
+			public void setDirectIoBufferSize(DataSize directIoBufferSize) {
+				this.directIoBufferSize = directIoBufferSize;
+			}
+		}
+
+		public static class Packing {
+
+			/**
+			 * Content shorter than this is appended to pack files instead of being stored in a file of its own; unset disables packing
+			 */
+			private DataSize threshold;
+
+			public DataSize getThreshold() {
+				return threshold;
+			}
+
+			public void setThreshold(DataSize threshold) {
+				this.threshold = threshold;
+			}
+		}
 	}
 }
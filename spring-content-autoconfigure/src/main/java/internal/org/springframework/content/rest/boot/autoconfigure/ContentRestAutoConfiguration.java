@@ -27,6 +27,7 @@ public class ContentRestAutoConfiguration {
 		private boolean fullyQualifiedLinks = RestConfiguration.FULLY_QUALIFIED_DEFAULTS_DEFAULT;
 		private ShortcutRequestMappings requestMappings = new ShortcutRequestMappings();
 		private boolean overwriteExistingContent = RestConfiguration.OVERWRITE_EXISTING_CONTENT_DEFAULT;
+		private boolean prepareMappingContext = RestConfiguration.PREPARE_MAPPING_CONTEXT_DEFAULT;
 
 		private SetContentDisposition setContentDisposition = RestConfiguration.SETCONTENT_CONTENT_DISPOSITION_DEFAULT;
 		private UnsetContentDisposition unsetContentDisposition = RestConfiguration.UNSETCONTENT_CONTENT_DISPOSITION_DEFAULT;
@@ -63,6 +64,14 @@ public class ContentRestAutoConfiguration {
 			this.overwriteExistingContent = overwriteExistingContent;
 		}
 
+		public boolean getPrepareMappingContext() {
+			return this.prepareMappingContext;
+		}
+
+		public void setPrepareMappingContext(boolean prepareMappingContext) {
+			this.prepareMappingContext = prepareMappingContext;
+		}
+
 		public SetContentDisposition getSetContentDisposition() {
 			return this.setContentDisposition;
 		}
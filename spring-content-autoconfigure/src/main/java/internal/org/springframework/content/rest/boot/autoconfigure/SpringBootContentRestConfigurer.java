@@ -60,6 +60,8 @@ public class SpringBootContentRestConfigurer implements ContentRestConfigurer {
 
         config.setOverwriteExistingContent(properties.getOverwriteExistingContent());
 
+        config.setPrepareMappingContext(properties.getPrepareMappingContext());
+
         config.setSetContentDisposition(properties.getSetContentDisposition());
         config.setUnsetContentDisposition(properties.getUnsetContentDisposition());
     }
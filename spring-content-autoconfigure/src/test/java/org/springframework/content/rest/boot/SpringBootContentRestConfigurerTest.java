@@ -77,6 +77,21 @@ public class SpringBootContentRestConfigurerTest {
             }
         }
 
+        @Nested
+        @DisplayName("given a prepareMappingContext property setting")
+        class PrepareMappingContext {
+            @BeforeEach
+            void setUp() {
+                properties.setPrepareMappingContext(true);
+                executeConfigure();
+            }
+            @Test
+            @DisplayName("should set the property on the RestConfiguration")
+            void shouldSetProperty() {
+                verify(restConfig).setPrepareMappingContext(eq(true));
+            }
+        }
+
         @Nested
         @DisplayName("given disabled shortcut request mappings")
         class DisabledShortcutMappings {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Accepts the usual JMH command line, but writes the results as JSON to {@value #DEFAULT_RESULT}
+ * unless {@code -rf} or {@code -rff} say otherwise, so that runs of different releases can be
+ * compared.
+ */
+public final class Benchmarks {
+
+    public static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getResultFormat().hasValue() == false) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (commandLine.getResult().hasValue() == false) {
+            options.result(DEFAULT_RESULT);
+        }
+        new Runner(options.build()).run();
+    }
+}
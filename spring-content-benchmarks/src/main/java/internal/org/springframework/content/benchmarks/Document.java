@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks;
+
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity used by the store benchmarks.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class Document {
+
+    @ContentId
+    private String contentId;
+
+    @ContentLength
+    private Long contentLength;
+
+    @MimeType
+    private String contentMimeType;
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * Content used by the I/O benchmarks.
+ */
+public final class Payloads {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private Payloads() {
+    }
+
+    /**
+     * Returns {@code size} pseudo-random bytes; the same size always yields the same bytes.
+     */
+    public static byte[] of(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    /**
+     * Reads the stream to its end and closes it, returning the bytes read.
+     */
+    public static byte[] toByteArray(InputStream in) {
+        try (in) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the stream to its end and closes it, returning the number of bytes read.
+     */
+    public static long drain(InputStream in) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        try (in) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return total;
+    }
+}
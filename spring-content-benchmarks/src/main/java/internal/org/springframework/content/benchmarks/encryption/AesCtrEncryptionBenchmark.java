@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.encryption;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.content.encryption.engine.ContentEncryptionEngine.EncryptionParameters;
+import org.springframework.content.encryption.engine.ContentEncryptionEngine.InputStreamRequestParameters;
+
+import internal.org.springframework.content.benchmarks.Payloads;
+import internal.org.springframework.content.encryption.engine.AesCtrEncryptionEngine;
+
+/**
+ * Streaming AES-CTR encryption and decryption, of whole contents and of a range starting in the
+ * middle of the content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AesCtrEncryptionBenchmark {
+
+    @Param({"128", "256"})
+    public int keySize;
+
+    @Param({"4096", "1048576", "16777216"})
+    public int size;
+
+    private AesCtrEncryptionEngine engine;
+    private EncryptionParameters parameters;
+    private byte[] plainText;
+    private byte[] cipherText;
+
+    @Setup
+    public void setUp() {
+        engine = new AesCtrEncryptionEngine(keySize);
+        parameters = engine.createNewParameters();
+        plainText = Payloads.of(size);
+        cipherText = Payloads.toByteArray(engine.encrypt(new ByteArrayInputStream(plainText), parameters));
+    }
+
+    @Benchmark
+    public long encrypt() {
+        return Payloads.drain(engine.encrypt(new ByteArrayInputStream(plainText), parameters));
+    }
+
+    @Benchmark
+    public long decrypt() {
+        return Payloads.drain(engine.decrypt(request -> new ByteArrayInputStream(cipherText), parameters, InputStreamRequestParameters.full()));
+    }
+
+    @Benchmark
+    public long decryptSecondHalf() throws IOException {
+        InputStream decrypted = engine.decrypt(request -> new ByteArrayInputStream(cipherText), parameters, InputStreamRequestParameters.startingFrom(size / 2));
+        decrypted.skip(size / 2);
+        return Payloads.drain(decrypted);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.fs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.content.fs.config.EnableFilesystemStores;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.content.fs.store.FilesystemContentStore;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.FileSystemUtils;
+
+import internal.org.springframework.content.benchmarks.Document;
+import internal.org.springframework.content.benchmarks.Payloads;
+
+/**
+ * Filesystem store writes and reads at several content sizes. The store root defaults to a
+ * temporary directory; set {@code spring-content-benchmarks.fs.root} to measure another device.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilesystemStoreBenchmark {
+
+    static final String ROOT_PROPERTY = "spring-content-benchmarks.fs.root";
+
+    @Param({"4096", "1048576", "16777216"})
+    public int size;
+
+    private Path root;
+    private AnnotationConfigApplicationContext context;
+    private DocumentStore store;
+    private byte[] content;
+    private Document stored;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String configured = System.getProperty(ROOT_PROPERTY);
+        root = Files.createTempDirectory(configured != null ? Files.createDirectories(Path.of(configured)) : Path.of(System.getProperty("java.io.tmpdir")), "fs");
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(FileSystemResourceLoader.class, root.toString());
+        context.register(StoreConfig.class);
+        context.refresh();
+        store = context.getBean(DocumentStore.class);
+
+        content = Payloads.of(size);
+        stored = store.setContent(new Document(), new ByteArrayInputStream(content));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public Document write() {
+        return store.setContent(stored, new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public long read() {
+        return Payloads.drain(store.getContent(stored));
+    }
+
+    public interface DocumentStore extends FilesystemContentStore<Document, String> {
+    }
+
+    @Configuration
+    @EnableFilesystemStores
+    public static class StoreConfig {
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.fs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.content.fs.config.FilesystemStoreConfigurer;
+import org.springframework.content.fs.config.FilesystemStoreProperties;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.util.FileSystemUtils;
+
+import internal.org.springframework.content.benchmarks.Document;
+import internal.org.springframework.content.benchmarks.Payloads;
+import internal.org.springframework.content.benchmarks.fs.FilesystemStoreBenchmark.DocumentStore;
+import internal.org.springframework.content.benchmarks.fs.FilesystemStoreBenchmark.StoreConfig;
+
+/**
+ * Concurrent writers of new content, each {@code fsync}ing on its own against sharing the
+ * directory {@code fsync}s through group commit. The store root is chosen as for
+ * {@link FilesystemStoreBenchmark}; run against the device of interest, as a RAM-backed
+ * temporary directory makes {@code fsync} all but free.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class GroupCommitBenchmark {
+
+    @Param({"false", "true"})
+    public boolean groupCommit;
+
+    @Param({"4096", "65536"})
+    public int size;
+
+    private Path root;
+    private AnnotationConfigApplicationContext context;
+    private DocumentStore store;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String configured = System.getProperty(FilesystemStoreBenchmark.ROOT_PROPERTY);
+        root = Files.createTempDirectory(configured != null ? Files.createDirectories(Path.of(configured)) : Path.of(System.getProperty("java.io.tmpdir")), "group-commit");
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(FileSystemResourceLoader.class, root.toString());
+        if (groupCommit) {
+            context.registerBean(FilesystemStoreConfigurer.class, GroupCommit::new);
+        }
+        context.register(StoreConfig.class);
+        context.refresh();
+        store = context.getBean(DocumentStore.class);
+
+        content = Payloads.of(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public Document write() {
+        return store.setContent(new Document(), new ByteArrayInputStream(content));
+    }
+
+    static class GroupCommit implements FilesystemStoreConfigurer {
+
+        @Override
+        public void configureFilesystemStoreConverters(ConverterRegistry registry) {
+        }
+
+        @Override
+        public void configure(FilesystemStoreProperties store) {
+            store.groupCommit(Duration.ZERO);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.jpa;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.content.jpa.config.EnableJpaStores;
+import org.springframework.content.jpa.store.JpaContentStore;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import internal.org.springframework.content.benchmarks.Document;
+import internal.org.springframework.content.benchmarks.Payloads;
+
+/**
+ * JPA store BLOB writes and reads at several content sizes against the embedded H2 and HSQLDB
+ * databases, using the schemas shipped with {@code spring-content-jpa}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpaBlobBenchmark {
+
+    @Param({"h2", "hsqldb"})
+    public String database;
+
+    @Param({"4096", "1048576"})
+    public int size;
+
+    private AnnotationConfigApplicationContext context;
+    private DocumentStore store;
+    private TransactionTemplate transactions;
+    private byte[] content;
+    private Document stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder()
+                .setType("h2".equals(database) ? EmbeddedDatabaseType.H2 : EmbeddedDatabaseType.HSQL)
+                .generateUniqueName(true)
+                .addScript("classpath:org/springframework/content/jpa/schema-" + database + ".sql")
+                .build();
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(DataSource.class, () -> dataSource, definition -> definition.setDestroyMethodName("shutdown"));
+        context.register(StoreConfig.class);
+        context.refresh();
+        store = context.getBean(DocumentStore.class);
+        transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        content = Payloads.of(size);
+        stored = store.setContent(new Document(), new ByteArrayInputStream(content));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Document write() {
+        return store.setContent(stored, new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public Long read() {
+        return transactions.execute(status -> Payloads.drain(store.getContent(stored)));
+    }
+
+    public interface DocumentStore extends JpaContentStore<Document, String> {
+    }
+
+    @Configuration
+    @EnableJpaStores
+    public static class StoreConfig {
+
+        @Bean
+        public PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.mapping;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.utils.BeanUtils;
+
+import internal.org.springframework.content.benchmarks.Document;
+
+/**
+ * Throughput of reading and writing content attributes, through {@link MappingContext} content
+ * properties and through {@link BeanUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentPropertyAccessorBenchmark {
+
+    private MappingContext mappingContext;
+    private ContentProperty property;
+    private Document document;
+
+    @Setup
+    public void setUp() {
+        mappingContext = new MappingContext("/", ".");
+        property = mappingContext.getContentProperty(Document.class, "content");
+        document = new Document();
+        document.setContentId("an-id");
+        document.setContentLength(42L);
+        document.setContentMimeType("text/plain");
+    }
+
+    @Benchmark
+    public ContentProperty lookupContentProperty() {
+        return mappingContext.getContentProperty(Document.class, "content");
+    }
+
+    @Benchmark
+    public void readContentProperty(Blackhole blackhole) {
+        blackhole.consume(property.getContentId(document));
+        blackhole.consume(property.getContentLength(document));
+        blackhole.consume(property.getMimeType(document));
+    }
+
+    @Benchmark
+    public Document writeContentProperty() {
+        property.setContentId(document, "an-id", null);
+        property.setContentLength(document, 42L);
+        property.setMimeType(document, "text/plain");
+        return document;
+    }
+
+    @Benchmark
+    public Object readWithBeanUtils() {
+        return BeanUtils.getFieldWithAnnotation(document, ContentId.class);
+    }
+
+    @Benchmark
+    public Document writeWithBeanUtils() {
+        BeanUtils.setFieldWithAnnotation(document, ContentId.class, "an-id");
+        return document;
+    }
+}
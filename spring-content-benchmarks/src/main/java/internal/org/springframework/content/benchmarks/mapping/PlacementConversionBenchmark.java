@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.mapping;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.content.commons.config.ContentPropertyInfo;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+
+import internal.org.springframework.content.benchmarks.Document;
+import internal.org.springframework.content.commons.utils.ContentPropertyInfoTypeDescriptor;
+
+/**
+ * Throughput of the conversions stores make to place content: plain content ids and
+ * {@link ContentPropertyInfo} resolved against a converter registered for a specific entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlacementConversionBenchmark {
+
+    private PlacementServiceImpl placementService;
+    private UUID id;
+    private ContentPropertyInfo<Document, String> info;
+    private TypeDescriptor infoType;
+    private TypeDescriptor stringType;
+
+    @Setup
+    public void setUp() {
+        placementService = new PlacementServiceImpl();
+        placementService.addConverter(new Converter<ContentPropertyInfo<Document, String>, String>() {
+            @Override
+            public String convert(ContentPropertyInfo<Document, String> source) {
+                return "documents/" + source.contentId();
+            }
+        });
+
+        ContentProperty property = new MappingContext("/", ".").getContentProperty(Document.class, "content");
+        Document document = new Document();
+        document.setContentId(UUID.randomUUID().toString());
+
+        id = UUID.randomUUID();
+        info = ContentPropertyInfo.of(document, document.getContentId(), PropertyPath.from("content"), property);
+        infoType = ContentPropertyInfoTypeDescriptor.withGenerics(document, property);
+        stringType = TypeDescriptor.valueOf(String.class);
+    }
+
+    @Benchmark
+    public String convertContentId() {
+        return placementService.convert(id, String.class);
+    }
+
+    @Benchmark
+    public Object convertContentPropertyInfo() {
+        return placementService.convert(info, infoType, stringType);
+    }
+
+    @Benchmark
+    public Object convertContentPropertyInfoWithNewDescriptor() {
+        return placementService.convert(info, ContentPropertyInfoTypeDescriptor.withGenerics(info.entity(), info.contentProperty()), stringType);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.content.fs.config.EnableFilesystemStores;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.content.fs.store.FilesystemStore;
+import org.springframework.content.rest.StoreRestResource;
+import org.springframework.content.rest.config.RestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.WritableResource;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.DelegatingWebMvcConfiguration;
+
+import internal.org.springframework.content.benchmarks.Payloads;
+
+/**
+ * Store REST endpoint requests through {@link MockMvc}, so that the measured path is the
+ * dispatcher, {@code StoreRestController} and the content service down to a filesystem store,
+ * without a network or servlet container.
+ * <p>
+ * Whole-content GETs are written by {@code ChannelResourceHttpMessageConverter}; ranged GETs
+ * ask for the first half of the content and go through {@code StoreByteRangeHttpRequestHandler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoreRestBenchmark {
+
+    static final String ROOT_PROPERTY = "spring-content-benchmarks.rest.root";
+
+    private static final String PATH = "/documents/content.bin";
+
+    @Param({"4096", "1048576"})
+    public int size;
+
+    private Path root;
+    private AnnotationConfigWebApplicationContext context;
+    private MockMvc mvc;
+    private byte[] content;
+    private String range;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("spring-content-benchmarks");
+
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(ROOT_PROPERTY, root.toString())));
+        context.register(StoreConfig.class, DelegatingWebMvcConfiguration.class, RepositoryRestMvcConfiguration.class, RestConfiguration.class);
+        context.refresh();
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        content = Payloads.of(size);
+        range = "bytes=0-" + (size / 2 - 1);
+
+        WritableResource resource = (WritableResource) context.getBean(DocumentStore.class).getResource("/content.bin");
+        try (OutputStream out = resource.getOutputStream()) {
+            new ByteArrayInputStream(content).transferTo(out);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public int get() throws Exception {
+        return body(mvc.perform(MockMvcRequestBuilders.get(PATH)).andReturn().getResponse());
+    }
+
+    @Benchmark
+    public int getRange() throws Exception {
+        return body(mvc.perform(MockMvcRequestBuilders.get(PATH).header(HttpHeaders.RANGE, range)).andReturn().getResponse());
+    }
+
+    @Benchmark
+    public int put() throws Exception {
+        return mvc.perform(MockMvcRequestBuilders.put(PATH).contentType(MediaType.APPLICATION_OCTET_STREAM).content(content))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private static int body(MockHttpServletResponse response) {
+        if (response.getStatus() >= 300) {
+            throw new IllegalStateException(String.format("Request failed with status %s", response.getStatus()));
+        }
+        return response.getContentAsByteArray().length;
+    }
+
+    @StoreRestResource(path = "documents")
+    public interface DocumentStore extends FilesystemStore<String> {
+    }
+
+    @Configuration
+    @EnableFilesystemStores
+    public static class StoreConfig {
+
+        @Bean
+        FileSystemResourceLoader fileSystemResourceLoader(@Value("${" + ROOT_PROPERTY + "}") String root) {
+            return new FileSystemResourceLoader(root);
+        }
+    }
+}
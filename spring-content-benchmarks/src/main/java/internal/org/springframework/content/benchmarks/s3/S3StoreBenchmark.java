@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.s3;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.content.s3.config.EnableS3Stores;
+import org.springframework.content.s3.store.S3ContentStore;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import internal.org.springframework.content.benchmarks.Document;
+import internal.org.springframework.content.benchmarks.Payloads;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+
+/**
+ * S3 store writes and reads at several content sizes against a local S3-compatible service.
+ * <p>
+ * Set {@code spring-content-benchmarks.s3.endpoint} (and optionally
+ * {@code spring-content-benchmarks.s3.access-key} and {@code spring-content-benchmarks.s3.secret-key})
+ * to use a running service such as MinIO; otherwise a LocalStack container is started, which
+ * needs Docker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class S3StoreBenchmark {
+
+    static final String ENDPOINT_PROPERTY = "spring-content-benchmarks.s3.endpoint";
+    static final String ACCESS_KEY_PROPERTY = "spring-content-benchmarks.s3.access-key";
+    static final String SECRET_KEY_PROPERTY = "spring-content-benchmarks.s3.secret-key";
+
+    private static final String BUCKET = "spring-content-benchmarks";
+    private static final DockerImageName LOCALSTACK_IMAGE = DockerImageName.parse("localstack/localstack:4.9.0");
+
+    @Param({"4096", "1048576", "16777216"})
+    public int size;
+
+    private LocalStackContainer localStack;
+    private S3Client client;
+    private AnnotationConfigApplicationContext context;
+    private DocumentStore store;
+    private byte[] content;
+    private Document stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String endpoint = System.getProperty(ENDPOINT_PROPERTY);
+        String accessKey = System.getProperty(ACCESS_KEY_PROPERTY, "test");
+        String secretKey = System.getProperty(SECRET_KEY_PROPERTY, "test");
+        if (endpoint == null) {
+            localStack = new LocalStackContainer(LOCALSTACK_IMAGE).withServices(LocalStackContainer.Service.S3);
+            localStack.start();
+            endpoint = localStack.getEndpointOverride(LocalStackContainer.Service.S3).toString();
+            accessKey = localStack.getAccessKey();
+            secretKey = localStack.getSecretKey();
+        }
+
+        client = S3Client.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .forcePathStyle(true)
+                .build();
+        try {
+            client.headBucket(request -> request.bucket(BUCKET));
+        } catch (NoSuchBucketException e) {
+            client.createBucket(request -> request.bucket(BUCKET));
+        }
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("spring.content.s3.bucket", BUCKET)));
+        context.registerBean(S3Client.class, () -> client);
+        context.register(StoreConfig.class);
+        context.refresh();
+        store = context.getBean(DocumentStore.class);
+
+        content = Payloads.of(size);
+        stored = store.setContent(new Document(), new ByteArrayInputStream(content));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.unsetContent(stored);
+        context.close();
+        client.close();
+        if (localStack != null) {
+            localStack.stop();
+        }
+    }
+
+    @Benchmark
+    public Document write() {
+        return store.setContent(stored, new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public long read() {
+        return Payloads.drain(store.getContent(stored));
+    }
+
+    public interface DocumentStore extends S3ContentStore<Document, String> {
+    }
+
+    @Configuration
+    @EnableS3Stores
+    public static class StoreConfig {
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.benchmarks.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.content.commons.annotations.HandleAfterSetContent;
+import org.springframework.content.commons.annotations.HandleBeforeSetContent;
+import org.springframework.content.commons.annotations.StoreEventHandler;
+import org.springframework.content.commons.store.events.AfterSetContentEvent;
+import org.springframework.content.commons.store.events.BeforeSetContentEvent;
+import org.springframework.content.fs.config.EnableFilesystemStores;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.content.fs.store.FilesystemContentStore;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.FileSystemUtils;
+
+import internal.org.springframework.content.benchmarks.Document;
+import internal.org.springframework.content.benchmarks.Payloads;
+
+/**
+ * Small set and get calls through the complete store proxy: the fragment dispatch, the event
+ * chain and {@code StoreImpl}, backed by a filesystem store so that the backend contributes as
+ * little as possible.
+ * <p>
+ * {@code handlers} selects which annotated event handlers are registered: none, an after-set
+ * handler, or a before-set handler that reads the content and so forces it to be buffered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoreImplBenchmark {
+
+    @Param({"none", "after", "before"})
+    public String handlers;
+
+    @Param({"4096"})
+    public int size;
+
+    private Path root;
+    private AnnotationConfigApplicationContext context;
+    private DocumentStore store;
+    private byte[] content;
+    private Document stored;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("spring-content-benchmarks");
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(FileSystemResourceLoader.class, root.toString());
+        context.register(StoreConfig.class);
+        switch (handlers) {
+            case "after" -> context.register(AfterSetHandler.class);
+            case "before" -> context.register(BeforeSetHandler.class);
+            default -> { }
+        }
+        context.refresh();
+        store = context.getBean(DocumentStore.class);
+
+        content = Payloads.of(size);
+        stored = store.setContent(new Document(), new ByteArrayInputStream(content));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public Document setContent() {
+        return store.setContent(stored, new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public long getContent() {
+        InputStream in = store.getContent(stored);
+        return Payloads.drain(in);
+    }
+
+    public interface DocumentStore extends FilesystemContentStore<Document, String> {
+    }
+
+    @Configuration
+    @EnableFilesystemStores
+    public static class StoreConfig {
+    }
+
+    @StoreEventHandler
+    public static class AfterSetHandler {
+
+        @HandleAfterSetContent
+        public void onAfterSetContent(AfterSetContentEvent event) {
+        }
+    }
+
+    @StoreEventHandler
+    public static class BeforeSetHandler {
+
+        @HandleBeforeSetContent
+        public void onBeforeSetContent(BeforeSetContentEvent event) throws IOException {
+            IOUtils.consume(event.getInputStream());
+        }
+    }
+}
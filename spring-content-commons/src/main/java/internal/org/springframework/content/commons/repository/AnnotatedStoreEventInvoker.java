@@ -1,14 +1,23 @@
 package internal.org.springframework.content.commons.repository;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.content.commons.annotations.HandleAfterAssociate;
 import org.springframework.content.commons.annotations.HandleAfterGetContent;
@@ -37,7 +46,6 @@ import org.springframework.content.commons.store.events.BeforeSetContentEvent;
 import org.springframework.content.commons.store.events.BeforeUnassociateEvent;
 import org.springframework.content.commons.store.events.BeforeUnsetContentEvent;
 import org.springframework.content.commons.utils.ReflectionService;
-import org.springframework.content.commons.utils.ReflectionServiceImpl;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -46,17 +54,40 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
 
+/**
+ * Invokes the methods of {@link StoreEventHandler} beans annotated with the {@code @Handle*}
+ * annotations.
+ * <p>
+ * Handlers are registered per event type as beans are initialized. The handlers that apply to a
+ * given (event type, event source type) pair are resolved on first use and cached, so dispatching
+ * an event is a map lookup followed by a {@link MethodHandle} invocation per matching handler.
+ * The same index answers {@link #hasHandlers(Class, Class)}, which lets stores skip building
+ * events nobody handles.
+ */
 public class AnnotatedStoreEventInvoker
-		implements ApplicationListener<StoreEvent>, BeanPostProcessor {
+		implements ApplicationListener<StoreEvent>, BeanPostProcessor, BeanFactoryAware, SmartInitializingSingleton {
 
 	private static final Log logger = LogFactory.getLog(AnnotatedStoreEventInvoker.class);
 
+	private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", AnnotatedStoreEventInvoker.class.getClassLoader());
+
+	private static final EventHandlerMethod[] NO_HANDLERS = new EventHandlerMethod[0];
+
 	private final MultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod> handlerMethods = new LinkedMultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod>();
 
+	// event type -> event source type -> matching handlers, in order; cleared whenever a handler is registered
+	private final Map<Class<?>, Map<Class<?>, EventHandlerMethod[]>> index = new ConcurrentHashMap<>();
+
 	private ReflectionService reflectionService;
 
+	private BeanFactory beanFactory;
+
+	// handler latency is recorded once a MeterRegistry is available; null otherwise
+	private volatile EventHandlerMetrics metrics;
+
 	public AnnotatedStoreEventInvoker() {
-		reflectionService = new ReflectionServiceImpl();
+		// handlers are invoked through their method handles
+		reflectionService = null;
 	}
 
 	public AnnotatedStoreEventInvoker(ReflectionService reflectionService) {
@@ -67,6 +98,18 @@ public class AnnotatedStoreEventInvoker
 		return handlerMethods;
 	}
 
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (MICROMETER_PRESENT && beanFactory != null) {
+			metrics = EventHandlerMetrics.create(beanFactory);
+		}
+	}
+
 	@Override
 	public Object postProcessBeforeInitialization(Object bean, String beanName)
 			throws BeansException {
@@ -122,41 +165,76 @@ public class AnnotatedStoreEventInvoker
 
 	@Override
 	public void onApplicationEvent(StoreEvent event) {
-		Class<? extends StoreEvent> eventType = event.getClass();
+		Object src = event.getSource();
+		EventHandlerMethod[] handlers = handlersFor(event.getClass(), src.getClass());
 
-		if (!handlerMethods.containsKey(eventType)) {
-			return;
+		for (EventHandlerMethod handlerMethod : handlers) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Invoking %s handler for %s.",
+						event.getClass().getSimpleName(), src));
+			}
+
+			Object argument = handlerMethod.acceptsEvent ? event : src;
+			EventHandlerMetrics metrics = this.metrics;
+			long start = metrics != null ? System.nanoTime() : 0L;
+			try {
+				if (reflectionService != null) {
+					reflectionService.invokeMethod(handlerMethod.method, handlerMethod.handler, argument);
+				} else {
+					handlerMethod.invoke(argument);
+				}
+			} catch (RuntimeException | Error e) {
+				if (metrics != null) {
+					metrics.record(event.getClass(), handlerMethod.method, start, true);
+				}
+				throw e;
+			}
+			if (metrics != null) {
+				metrics.record(event.getClass(), handlerMethod.method, start, false);
+			}
 		}
+	}
 
-		for (EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
+	/**
+	 * Whether any registered handler would be invoked for an event of the given type raised for a
+	 * source of the given type.
+	 */
+	public boolean hasHandlers(Class<?> eventType, Class<?> sourceType) {
+		return handlersFor(eventType, sourceType).length > 0;
+	}
 
-			Object src = event.getSource();
+	EventHandlerMethod[] handlersFor(Class<?> eventType, Class<?> sourceType) {
+		if (handlerMethods.containsKey(eventType) == false) {
+			return NO_HANDLERS;
+		}
 
-			if ((ClassUtils.isAssignable(StoreEvent.class, handlerMethod.targetType) &&
-					ClassUtils.isAssignable(handlerMethod.targetType, event.getClass()) == false) ||
-					(ClassUtils.isAssignable(StoreEvent.class, handlerMethod.targetType) == false &&
-							ClassUtils.isAssignable(handlerMethod.targetType, src.getClass()) == false)) {
-				continue;
-			}
+		Map<Class<?>, EventHandlerMethod[]> bySource = index.computeIfAbsent(eventType, type -> new ConcurrentHashMap<>());
+		EventHandlerMethod[] handlers = bySource.get(sourceType);
+		if (handlers == null) {
+			handlers = bySource.computeIfAbsent(sourceType, type -> resolveHandlers(eventType, type));
+		}
+		return handlers;
+	}
 
-			List<Object> parameters = new ArrayList<Object>();
-			if (ClassUtils.isAssignable(StoreEvent.class, handlerMethod.targetType)) {
-				parameters.add(event);
-			} else {
-				parameters.add(src);
-			}
+	private synchronized EventHandlerMethod[] resolveHandlers(Class<?> eventType, Class<?> sourceType) {
+		List<EventHandlerMethod> candidates = handlerMethods.get(eventType);
+		if (candidates == null) {
+			return NO_HANDLERS;
+		}
 
-			if (logger.isDebugEnabled()) {
-				logger.debug(String.format("Invoking {} handler for {}.",
-						event.getClass().getSimpleName(), event.getSource()));
+		List<EventHandlerMethod> matches = new ArrayList<>(candidates.size());
+		for (EventHandlerMethod handlerMethod : candidates) {
+			if (handlerMethod.acceptsEvent ?
+					ClassUtils.isAssignable(handlerMethod.targetType, eventType) :
+					ClassUtils.isAssignable(handlerMethod.targetType, sourceType)) {
+				matches.add(handlerMethod);
 			}
-
-			reflectionService.invokeMethod(handlerMethod.method, handlerMethod.handler,
-					parameters.toArray());
 		}
+		return matches.isEmpty() ? NO_HANDLERS : matches.toArray(new EventHandlerMethod[0]);
 	}
 
-	<H extends Annotation, E> void findHandler(Object bean, Method method,
+	synchronized <H extends Annotation, E> void findHandler(Object bean, Method method,
 			Class<H> handler, Class<? extends StoreEvent> eventType) {
 		H annotation = AnnotationUtils.findAnnotation(method, handler);
 
@@ -186,27 +264,62 @@ public class AnnotatedStoreEventInvoker
 
 		if (events.isEmpty()) {
 			handlerMethods.add(eventType, handlerMethod);
+			index.clear();
 			return;
 		}
 
 		events.add(handlerMethod);
 		Collections.sort(events);
 		handlerMethods.put(eventType, events);
+		index.clear();
 	}
 
 	static class EventHandlerMethod implements Comparable<EventHandlerMethod> {
 
+		private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class);
+
 		final Class<?> targetType;
 		final Method method;
 		final Object handler;
+		final boolean acceptsEvent;
+		private final MethodHandle handle;
 
 		private EventHandlerMethod(Class<?> targetType, Object handler, Method method) {
 
 			this.targetType = targetType;
 			this.method = method;
 			this.handler = handler;
+			this.acceptsEvent = ClassUtils.isAssignable(StoreEvent.class, targetType);
 
 			ReflectionUtils.makeAccessible(this.method);
+			this.handle = handle(handler, method);
+		}
+
+		void invoke(Object argument) {
+			if (handle == null) {
+				ReflectionUtils.invokeMethod(method, handler, argument);
+				return;
+			}
+
+			try {
+				handle.invokeExact(argument);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new UndeclaredThrowableException(t);
+			}
+		}
+
+		private static MethodHandle handle(Object handler, Method method) {
+			if (method.getParameterCount() != 1) {
+				return null;
+			}
+			try {
+				return MethodHandles.lookup().unreflect(method).bindTo(handler).asType(HANDLER_TYPE);
+			} catch (IllegalAccessException | RuntimeException e) {
+				logger.debug(String.format("Unable to create a method handle for %s, falling back to reflection", method), e);
+				return null;
+			}
 		}
 
 		/*
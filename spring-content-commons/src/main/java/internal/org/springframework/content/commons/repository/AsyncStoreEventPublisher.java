@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.commons.repository;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.utils.BeanUtils;
+import org.springframework.content.commons.utils.DomainObjectUtils;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Delivers After* store events off the calling thread.
+ * <p>
+ * Registered when {@code spring.content.store.events.async.enabled} is {@code true}. Events
+ * raised inside a transaction are queued once it commits and dropped if it rolls back; events
+ * raised outside a transaction are queued immediately. Events for the same domain object are
+ * delivered one at a time, in the order they were raised, so every listener sees the operations
+ * on a given content in order; events for different objects are delivered concurrently.
+ * <p>
+ * At most {@code max-pending} events are queued or being delivered at once; beyond that the
+ * publishing thread waits for room. The number of pending events is available from
+ * {@link #getPendingEvents()} and, when Micrometer is present, as the
+ * {@code spring.content.store.events.pending} gauge.
+ */
+public class AsyncStoreEventPublisher implements ApplicationEventPublisherAware, BeanFactoryAware, InitializingBean, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(AsyncStoreEventPublisher.class);
+
+	public static final String ENABLED_PROPERTY = "spring.content.store.events.async.enabled";
+
+	public static final int DEFAULT_MAX_PENDING = 10000;
+
+	private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", AsyncStoreEventPublisher.class.getClassLoader());
+
+	private ApplicationEventPublisher publisher;
+	private BeanFactory beanFactory;
+
+	private Executor executor;
+	private boolean ownsExecutor;
+
+	@Value("${spring.content.store.events.async.max-pending:" + DEFAULT_MAX_PENDING + "}")
+	private int maxPending = DEFAULT_MAX_PENDING;
+
+	@Value("${spring.content.store.events.async.virtual-threads:true}")
+	private boolean virtualThreads = true;
+
+	@Value("${spring.content.store.events.async.threads:0}")
+	private int threads = 0;
+
+	@Value("${spring.content.store.events.async.shutdown-timeout:30}")
+	private long shutdownTimeoutSeconds = 30;
+
+	private Semaphore permits;
+	private final AtomicInteger pending = new AtomicInteger();
+	private final Map<Object, Queue<ApplicationEvent>> lanes = new ConcurrentHashMap<>();
+
+	public AsyncStoreEventPublisher() {
+	}
+
+	/**
+	 * @param executor   runs deliveries; it is not shut down by this publisher
+	 * @param maxPending maximum number of events queued or being delivered at once
+	 */
+	public AsyncStoreEventPublisher(ApplicationEventPublisher publisher, Executor executor, int maxPending) {
+		this.publisher = publisher;
+		this.executor = executor;
+		this.maxPending = maxPending;
+		this.permits = new Semaphore(maxPending);
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		if (this.publisher == null) {
+			this.publisher = publisher;
+		}
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (executor == null) {
+			if (virtualThreads) {
+				executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("store-events-", 0).factory());
+			} else {
+				executor = Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+			}
+			ownsExecutor = true;
+		}
+		if (permits == null) {
+			permits = new Semaphore(maxPending);
+		}
+		if (MICROMETER_PRESENT && beanFactory != null) {
+			Metrics.bind(this, beanFactory);
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if (ownsExecutor && executor instanceof ExecutorService service) {
+			service.shutdown();
+			if (service.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS) == false) {
+				logger.warn(String.format("%s store events were not delivered before shutdown", pending.get()));
+				service.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Number of events queued or being delivered.
+	 */
+	public int getPendingEvents() {
+		return pending.get();
+	}
+
+	/**
+	 * Publishes the given event once the current transaction, if any, has committed.
+	 *
+	 * @param entity the domain object the event was raised for; events for the same object are
+	 *               delivered in order
+	 */
+	public void publish(ApplicationEvent event, Object entity) {
+		Object key = orderingKey(entity);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(key, event);
+				}
+			});
+			return;
+		}
+		enqueue(key, event);
+	}
+
+	void enqueue(Object key, ApplicationEvent event) {
+		permits.acquireUninterruptibly();
+		pending.incrementAndGet();
+
+		boolean[] idle = new boolean[1];
+		lanes.compute(key, (k, lane) -> {
+			if (lane == null) {
+				lane = new ArrayDeque<>();
+				idle[0] = true;
+			}
+			lane.add(event);
+			return lane;
+		});
+
+		if (idle[0]) {
+			try {
+				executor.execute(() -> drain(key));
+			} catch (RuntimeException e) {
+				logger.error("Unable to schedule store event delivery, delivering synchronously", e);
+				drain(key);
+			}
+		}
+	}
+
+	private void drain(Object key) {
+		ApplicationEvent[] next = new ApplicationEvent[1];
+		while (true) {
+			next[0] = null;
+			lanes.computeIfPresent(key, (k, lane) -> {
+				next[0] = lane.poll();
+				return next[0] != null ? lane : null;
+			});
+			if (next[0] == null) {
+				return;
+			}
+
+			try {
+				publisher.publishEvent(next[0]);
+			} catch (RuntimeException e) {
+				logger.error(String.format("Error delivering %s for %s", next[0].getClass().getSimpleName(), next[0].getSource()), e);
+			} finally {
+				pending.decrementAndGet();
+				permits.release();
+			}
+		}
+	}
+
+	private static Object orderingKey(Object entity) {
+		if (entity == null) {
+			return OrderingKey.NONE;
+		}
+		Object id = DomainObjectUtils.getId(entity);
+		if (id == null) {
+			id = BeanUtils.getFieldWithAnnotation(entity, ContentId.class);
+		}
+		return id != null ? new OrderingKey(entity.getClass(), id) : new IdentityKey(entity);
+	}
+
+	private record OrderingKey(Class<?> type, Object id) {
+		private static final OrderingKey NONE = new OrderingKey(Object.class, Object.class);
+	}
+
+	/**
+	 * Orders the events of an object with no id by the object itself, whatever its
+	 * {@code equals} and {@code hashCode}, which may change as listeners mutate it.
+	 */
+	private static final class IdentityKey {
+
+		private final Object entity;
+
+		private IdentityKey(Object entity) {
+			this.entity = entity;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof IdentityKey key && key.entity == entity;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(entity);
+		}
+	}
+
+	private static final class Metrics {
+
+		private static void bind(AsyncStoreEventPublisher publisher, BeanFactory beanFactory) {
+			beanFactory.getBeanProvider(MeterRegistry.class).ifAvailable(registry ->
+					Gauge.builder("spring.content.store.events.pending", publisher, AsyncStoreEventPublisher::getPendingEvents)
+							.description("Store events queued or being delivered asynchronously")
+							.register(registry));
+		}
+	}
+}
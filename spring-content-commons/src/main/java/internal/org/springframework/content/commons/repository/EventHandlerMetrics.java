@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.commons.repository;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times annotated store event handlers as {@value #HANDLER_TIMER}, tagged with the event type, the
+ * handler method and the outcome. Only loaded when Micrometer is on the classpath.
+ */
+final class EventHandlerMetrics {
+
+	static final String HANDLER_TIMER = "spring.content.store.event.handler";
+
+	private final MeterRegistry registry;
+	private final Map<HandlerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	EventHandlerMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	static EventHandlerMetrics create(BeanFactory beanFactory) {
+		if (beanFactory instanceof ListableBeanFactory listable && listable.getBeanNamesForType(MeterRegistry.class, true, false).length > 0) {
+			MeterRegistry registry = beanFactory.getBeanProvider(MeterRegistry.class).getIfAvailable();
+			return registry != null ? new EventHandlerMetrics(registry) : null;
+		}
+		return null;
+	}
+
+	void record(Class<?> eventType, Method handler, long startNanos, boolean failed) {
+		long duration = System.nanoTime() - startNanos;
+		Timer timer = timers.computeIfAbsent(new HandlerKey(eventType, handler, failed), key -> Timer.builder(HANDLER_TIMER)
+				.description("Annotated store event handler invocations")
+				.tag("event", eventType.getSimpleName())
+				.tag("handler", handler.getDeclaringClass().getSimpleName() + "." + handler.getName())
+				.tag("outcome", failed ? "error" : "success")
+				.register(registry));
+		timer.record(duration, TimeUnit.NANOSECONDS);
+	}
+
+	private record HandlerKey(Class<?> eventType, Method handler, boolean failed) {
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.commons.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Answers whether anyone listens for a given store event type raised for a given source type, so
+ * that stores can skip constructing and publishing events that would not be delivered.
+ * <p>
+ * Annotated handlers are looked up in the {@link AnnotatedStoreEventInvoker}'s own index; every
+ * other application listener (including {@code @EventListener} methods) is matched on event and
+ * source type the same way the application event multicaster would. Until the application
+ * context has been refreshed every event is reported as having listeners, and the answers are
+ * recomputed after each refresh.
+ */
+public class StoreEventListenerIndex implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
+
+	private ApplicationContext context;
+
+	private volatile boolean refreshed = false;
+
+	private volatile Collection<AnnotatedStoreEventInvoker> invokers = Collections.emptyList();
+
+	// event type -> event source type -> whether a listener other than the annotated invoker applies
+	private final Map<Class<?>, Map<Class<?>, Boolean>> listeners = new ConcurrentHashMap<>();
+
+	@Override
+	public void setApplicationContext(ApplicationContext context) throws BeansException {
+		this.context = context;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		List<AnnotatedStoreEventInvoker> found = new ArrayList<>();
+		for (ApplicationContext ctx = context; ctx != null; ctx = ctx.getParent()) {
+			found.addAll(ctx.getBeansOfType(AnnotatedStoreEventInvoker.class, false, false).values());
+		}
+		invokers = found;
+		listeners.clear();
+		refreshed = true;
+	}
+
+	public boolean hasListeners(Class<? extends ApplicationEvent> eventType, Object source) {
+		if (refreshed == false || source == null) {
+			return true;
+		}
+
+		Class<?> sourceType = source.getClass();
+		Map<Class<?>, Boolean> bySource = listeners.get(eventType);
+		if (bySource == null) {
+			bySource = listeners.computeIfAbsent(eventType, type -> new ConcurrentHashMap<>());
+		}
+		Boolean found = bySource.get(sourceType);
+		if (found == null) {
+			found = bySource.computeIfAbsent(sourceType, type -> resolve(eventType, type));
+		}
+		return found || hasAnnotatedHandlers(eventType, sourceType);
+	}
+
+	private boolean hasAnnotatedHandlers(Class<?> eventType, Class<?> sourceType) {
+		for (AnnotatedStoreEventInvoker invoker : invokers) {
+			if (invoker.hasHandlers(eventType, sourceType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean resolve(Class<?> eventType, Class<?> sourceType) {
+		ResolvableType type = ResolvableType.forClass(eventType);
+		for (ApplicationListener<?> listener : applicationListeners()) {
+			if (listener instanceof AnnotatedStoreEventInvoker || listener == this) {
+				continue;
+			}
+			GenericApplicationListener adapter = listener instanceof GenericApplicationListener generic ? generic : new GenericApplicationListenerAdapter(listener);
+			if (adapter.supportsEventType(type) && adapter.supportsSourceType(sourceType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Collection<ApplicationListener<?>> applicationListeners() {
+		Set<ApplicationListener<?>> all = new LinkedHashSet<>();
+		for (ApplicationContext ctx = context; ctx != null; ctx = ctx.getParent()) {
+			if (ctx instanceof AbstractApplicationContext abstractContext) {
+				all.addAll(abstractContext.getApplicationListeners());
+			}
+			for (ApplicationListener<?> listener : ctx.getBeansOfType(ApplicationListener.class, false, false).values()) {
+				all.add(listener);
+			}
+		}
+		return all;
+	}
+}
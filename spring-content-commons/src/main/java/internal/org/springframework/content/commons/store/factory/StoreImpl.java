@@ -1,9 +1,7 @@
 package internal.org.springframework.content.commons.store.factory;
 
-import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -14,6 +12,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.DeferredFileOutputStream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.content.commons.property.PropertyPath;
@@ -31,25 +30,61 @@ import org.springframework.content.commons.store.events.BeforeGetResourceEvent;
 import org.springframework.content.commons.store.events.BeforeSetContentEvent;
 import org.springframework.content.commons.store.events.BeforeUnassociateEvent;
 import org.springframework.content.commons.store.events.BeforeUnsetContentEvent;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 
+import internal.org.springframework.content.commons.repository.AsyncStoreEventPublisher;
+import internal.org.springframework.content.commons.repository.StoreEventListenerIndex;
 import lombok.Getter;
 
 public class StoreImpl implements org.springframework.content.commons.repository.ContentStore<Object, Serializable>, ContentStore<Object, Serializable> {
 
     private static final Log logger = LogFactory.getLog(StoreImpl.class);
 
+    public static final int DEFAULT_COPY_CONTENT_THRESHOLD = 1024 * 1024;
+
     private final Class<? extends Store> storeInterface;
     private final Store<Serializable> delegate;
     private final ApplicationEventPublisher publisher;
     private final Path copyContentRootPath;
+    private final int copyContentThreshold;
+    private final StoreEventListenerIndex listenerIndex;
+    private final AsyncStoreEventPublisher asyncPublisher;
+    private final boolean legacyEvents;
+    private final boolean storeEvents;
 
     public StoreImpl(Class<? extends Store> storeInterface, Store<Serializable> delegate, ApplicationEventPublisher publisher, Path copyContentRootPath) {
+        this(storeInterface, delegate, publisher, copyContentRootPath, DEFAULT_COPY_CONTENT_THRESHOLD);
+    }
+
+    public StoreImpl(Class<? extends Store> storeInterface, Store<Serializable> delegate, ApplicationEventPublisher publisher, Path copyContentRootPath, int copyContentThreshold) {
+        this(storeInterface, delegate, publisher, copyContentRootPath, copyContentThreshold, null);
+    }
+
+    /**
+     * @param copyContentThreshold number of bytes of content read by before-set-content handlers that is
+     *                             buffered in memory before the copy spills to a file under {@code copyContentRootPath}
+     * @param listenerIndex        used to skip events nobody listens for; when {@code null} every event is published
+     */
+    public StoreImpl(Class<? extends Store> storeInterface, Store<Serializable> delegate, ApplicationEventPublisher publisher, Path copyContentRootPath, int copyContentThreshold, StoreEventListenerIndex listenerIndex) {
+        this(storeInterface, delegate, publisher, copyContentRootPath, copyContentThreshold, listenerIndex, null);
+    }
+
+    /**
+     * @param asyncPublisher delivers the after-set, after-unset, after-associate and after-unassociate events
+     *                       off the calling thread; when {@code null} they are published synchronously
+     */
+    public StoreImpl(Class<? extends Store> storeInterface, Store<Serializable> delegate, ApplicationEventPublisher publisher, Path copyContentRootPath, int copyContentThreshold, StoreEventListenerIndex listenerIndex, AsyncStoreEventPublisher asyncPublisher) {
         this.storeInterface = storeInterface;
         this.delegate = delegate;
         this.publisher = publisher;
         this.copyContentRootPath = copyContentRootPath;
+        this.copyContentThreshold = copyContentThreshold;
+        this.listenerIndex = listenerIndex;
+        this.asyncPublisher = asyncPublisher;
+        this.legacyEvents = org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface);
+        this.storeEvents = org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface);
     }
 
     @Override
@@ -127,21 +162,33 @@ public class StoreImpl implements org.springframework.content.commons.repository
     public Object internalSetContent(Object property, PropertyPath propertyPath, InputStream content, Function<InputStream, Object> invocation) {
         Object result = null;
 
-        File contentCopy = null;
+        // bytes are only copied if a before-set-content handler reads the stream, and only spill to disk
+        // once they exceed the threshold
+        DeferredFileOutputStream contentCopy = null;
         TeeInputStream contentCopyStream = null;
         try {
-            contentCopy = Files.createTempFile(copyContentRootPath, "contentCopy", ".tmp").toFile();
-            contentCopyStream = new TeeInputStream(content, new FileOutputStream(contentCopy), true);
+            boolean notifyLegacy = legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeSetContentEvent.class, property);
+            boolean notify = storeEvents && publishes(BeforeSetContentEvent.class, property);
+
+            if (notifyLegacy || notify) {
+                contentCopy = DeferredFileOutputStream.builder()
+                        .setThreshold(copyContentThreshold)
+                        .setPrefix("contentCopy")
+                        .setSuffix(".tmp")
+                        .setDirectory(copyContentRootPath.toFile())
+                        .get();
+                contentCopyStream = new TeeInputStream(content, contentCopy, true);
+            }
 
             org.springframework.content.commons.repository.events.BeforeSetContentEvent oldBefore = null;
             BeforeSetContentEvent before = null;
 
-            if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+            if (notifyLegacy) {
                 oldBefore = new org.springframework.content.commons.repository.events.BeforeSetContentEvent(property, propertyPath, delegate, contentCopyStream);
                 publisher.publishEvent(oldBefore);
             }
 
-            if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+            if (notify) {
                 before = new BeforeSetContentEvent(property, propertyPath, castToContentStore(delegate), contentCopyStream);
                 publisher.publishEvent(before);
             }
@@ -155,23 +202,25 @@ public class StoreImpl implements org.springframework.content.commons.repository
             }
             // content was processed but not replaced
             else if (contentCopyStream != null && contentCopyStream.isDirty()) {
-                while (contentCopyStream.read(new byte[4096]) != -1) {
-                }
-                content = new FileInputStream(contentCopy);
+                IOUtils.consume(contentCopyStream);
+                contentCopy.close();
+                // a spilled copy is handed over as a FileInputStream so that file-backed stores can transfer
+                // it channel to channel
+                content = contentCopy.isInMemory() ? contentCopy.toInputStream() : new FileInputStream(contentCopy.getFile());
             }
 
             result = invocation.apply(content);
 
-            if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+            if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterSetContentEvent.class, property)) {
                 org.springframework.content.commons.repository.events.AfterSetContentEvent oldAfter = new org.springframework.content.commons.repository.events.AfterSetContentEvent(property, propertyPath, delegate);
                 oldAfter.setResult(result);
-                publisher.publishEvent(oldAfter);
+                publishAfter(oldAfter, property);
             }
 
-            if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+            if (storeEvents && publishes(AfterSetContentEvent.class, property)) {
                 AfterSetContentEvent after = new AfterSetContentEvent(property, propertyPath, castToContentStore(delegate));
                 after.setResult(result);
-                publisher.publishEvent(after);
+                publishAfter(after, property);
             }
         } catch (FileNotFoundException fileNotFoundException) {
             fileNotFoundException.printStackTrace();
@@ -181,11 +230,12 @@ public class StoreImpl implements org.springframework.content.commons.repository
             if (contentCopyStream != null) {
                 IOUtils.closeQuietly(contentCopyStream);
             }
-            if (contentCopy != null) {
+            IOUtils.closeQuietly(content);
+            if (contentCopy != null && contentCopy.getPath() != null) {
                 try {
-                    Files.deleteIfExists(contentCopy.toPath());
+                    Files.deleteIfExists(contentCopy.getPath());
                 } catch (IOException e) {
-                    logger.error(String.format("Unable to delete content copy %s", contentCopy.toPath()), e);
+                    logger.error(String.format("Unable to delete content copy %s", contentCopy.getPath()), e);
                 }
             }
         }
@@ -226,28 +276,28 @@ public class StoreImpl implements org.springframework.content.commons.repository
     }
 
     public Object internalSetContent(Object property, PropertyPath propertyPath, Resource resourceContent, Supplier invocation) {
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeSetContentEvent.class, property)) {
             org.springframework.content.commons.repository.events.BeforeSetContentEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeSetContentEvent(property, propertyPath, delegate, resourceContent);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeSetContentEvent.class, property)) {
             BeforeSetContentEvent before = new BeforeSetContentEvent(property, propertyPath, castToContentStore(delegate), resourceContent);
             publisher.publishEvent(before);
         }
 
         Object result = invocation.get();
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterSetContentEvent.class, property)) {
             org.springframework.content.commons.repository.events.AfterSetContentEvent oldAfter = new org.springframework.content.commons.repository.events.AfterSetContentEvent(property, propertyPath, delegate);
             oldAfter.setResult(result);
-            publisher.publishEvent(oldAfter);
+            publishAfter(oldAfter, property);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterSetContentEvent.class, property)) {
             AfterSetContentEvent after = new AfterSetContentEvent(property, propertyPath, castToContentStore(delegate));
             after.setResult(result);
-            publisher.publishEvent(after);
+            publishAfter(after, property);
         }
         return result;
     }
@@ -334,28 +384,28 @@ public class StoreImpl implements org.springframework.content.commons.repository
 
     public Object internalUnsetContent(Object entity, PropertyPath propertyPath, Supplier invocation) {
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeUnsetContentEvent.class, entity)) {
             org.springframework.content.commons.repository.events.BeforeUnsetContentEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeUnsetContentEvent(entity, propertyPath, delegate);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeUnsetContentEvent.class, entity)) {
             BeforeUnsetContentEvent before = new BeforeUnsetContentEvent(entity, propertyPath, castToContentStore(delegate));
             publisher.publishEvent(before);
         }
 
         Object result = invocation.get();
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterUnsetContentEvent.class, entity)) {
             org.springframework.content.commons.repository.events.AfterUnsetContentEvent oldAfter = new org.springframework.content.commons.repository.events.AfterUnsetContentEvent(entity, propertyPath, delegate);
             oldAfter.setResult(result);
-            publisher.publishEvent(oldAfter);
+            publishAfter(oldAfter, entity);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterUnsetContentEvent.class, entity)) {
             AfterUnsetContentEvent after = new AfterUnsetContentEvent(entity, propertyPath, castToContentStore(delegate));
             after.setResult(result);
-            publisher.publishEvent(after);
+            publishAfter(after, entity);
         }
 
         return result;
@@ -393,19 +443,19 @@ public class StoreImpl implements org.springframework.content.commons.repository
 
     public InputStream internalGetContent(Object entity, PropertyPath propertyPath, Supplier<InputStream> invocation) {
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeGetContentEvent.class, entity)) {
             org.springframework.content.commons.repository.events.BeforeGetContentEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeGetContentEvent(entity, propertyPath, delegate);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeGetContentEvent.class, entity)) {
             BeforeGetContentEvent before = new BeforeGetContentEvent(entity, propertyPath, castToContentStore(this.delegate));
             publisher.publishEvent(before);
         }
 
         InputStream result = invocation.get();
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterGetContentEvent.class, entity)) {
             org.springframework.content.commons.repository.events.AfterGetContentEvent oldAfter = new org.springframework.content.commons.repository.events.AfterGetContentEvent(entity, propertyPath, delegate);
             oldAfter.setResult(result);
             publisher.publishEvent(oldAfter);
@@ -414,7 +464,7 @@ public class StoreImpl implements org.springframework.content.commons.repository
             }
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterGetContentEvent.class, entity)) {
             AfterGetContentEvent after = new AfterGetContentEvent(entity, propertyPath, castToContentStore(this.delegate));
             after.setResult(result);
             publisher.publishEvent(after);
@@ -484,19 +534,19 @@ public class StoreImpl implements org.springframework.content.commons.repository
 
     public Resource internalGetResource(Object entity, PropertyPath propertyPath, Supplier<Resource> invocation) {
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeGetResourceEvent.class, entity)) {
             org.springframework.content.commons.repository.events.BeforeGetResourceEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeGetResourceEvent(entity, propertyPath, delegate);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeGetResourceEvent.class, entity)) {
             BeforeGetResourceEvent before = new BeforeGetResourceEvent(entity, propertyPath, castToContentStore(delegate));
             publisher.publishEvent(before);
         }
 
         Resource result = invocation.get();
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterGetResourceEvent.class, entity)) {
             org.springframework.content.commons.repository.events.AfterGetResourceEvent oldAfter = new org.springframework.content.commons.repository.events.AfterGetResourceEvent(entity, propertyPath, delegate);
             oldAfter.setResult(result);
             publisher.publishEvent(oldAfter);
@@ -505,7 +555,7 @@ public class StoreImpl implements org.springframework.content.commons.repository
             }
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterGetResourceEvent.class, entity)) {
             AfterGetResourceEvent after = new AfterGetResourceEvent(entity, propertyPath, castToContentStore(delegate));
             after.setResult(result);
             publisher.publishEvent(after);
@@ -520,11 +570,13 @@ public class StoreImpl implements org.springframework.content.commons.repository
     @Override
     public Resource getResource(Serializable id) {
 
-        org.springframework.content.commons.repository.events.BeforeGetResourceEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeGetResourceEvent(id, delegate);
-        publisher.publishEvent(oldBefore);
+        if (publishes(org.springframework.content.commons.repository.events.BeforeGetResourceEvent.class, id)) {
+            org.springframework.content.commons.repository.events.BeforeGetResourceEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeGetResourceEvent(id, delegate);
+            publisher.publishEvent(oldBefore);
+        }
 
         ContentStore contentStore = castToContentStore(delegate);
-        if (contentStore != null) {
+        if (contentStore != null && publishes(BeforeGetResourceEvent.class, id)) {
             BeforeGetResourceEvent before = new BeforeGetResourceEvent(id, contentStore);
             publisher.publishEvent(before);
         }
@@ -541,11 +593,13 @@ public class StoreImpl implements org.springframework.content.commons.repository
             throw e;
         }
 
-        org.springframework.content.commons.repository.events.AfterGetResourceEvent oldAfter = new org.springframework.content.commons.repository.events.AfterGetResourceEvent(id, delegate);
-        oldAfter.setResult(result);
-        publisher.publishEvent(oldAfter);
+        if (publishes(org.springframework.content.commons.repository.events.AfterGetResourceEvent.class, id)) {
+            org.springframework.content.commons.repository.events.AfterGetResourceEvent oldAfter = new org.springframework.content.commons.repository.events.AfterGetResourceEvent(id, delegate);
+            oldAfter.setResult(result);
+            publisher.publishEvent(oldAfter);
+        }
 
-        if (contentStore != null) {
+        if (contentStore != null && publishes(AfterGetResourceEvent.class, id)) {
             AfterGetResourceEvent after = new AfterGetResourceEvent(id, contentStore);
             after.setResult(result);
             publisher.publishEvent(after);
@@ -557,12 +611,12 @@ public class StoreImpl implements org.springframework.content.commons.repository
     @Override
     public void associate(Object entity, Serializable id) {
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeAssociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.BeforeAssociateEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeAssociateEvent(entity, delegate);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeAssociateEvent.class, entity)) {
             BeforeAssociateEvent before = new BeforeAssociateEvent(entity, castToContentStore(delegate));
             publisher.publishEvent(before);
         }
@@ -578,26 +632,26 @@ public class StoreImpl implements org.springframework.content.commons.repository
             throw e;
         }
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterAssociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.AfterAssociateEvent oldAfter = new org.springframework.content.commons.repository.events.AfterAssociateEvent(entity, delegate);
-            publisher.publishEvent(oldAfter);
+            publishAfter(oldAfter, entity);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterAssociateEvent.class, entity)) {
             AfterAssociateEvent after = new AfterAssociateEvent(entity, castToContentStore(delegate));
-            publisher.publishEvent(after);
+            publishAfter(after, entity);
         }
     }
 
     @Override
     public void associate(Object entity, PropertyPath propertyPath, Serializable id) {
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeAssociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.BeforeAssociateEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeAssociateEvent(entity, propertyPath, delegate);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeAssociateEvent.class, entity)) {
             BeforeAssociateEvent before = new BeforeAssociateEvent(entity, propertyPath, castToContentStore(delegate));
             publisher.publishEvent(before);
         }
@@ -613,26 +667,26 @@ public class StoreImpl implements org.springframework.content.commons.repository
             throw e;
         }
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterAssociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.AfterAssociateEvent oldAfter = new org.springframework.content.commons.repository.events.AfterAssociateEvent(entity, propertyPath, delegate);
-            publisher.publishEvent(oldAfter);
+            publishAfter(oldAfter, entity);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterAssociateEvent.class, entity)) {
             AfterAssociateEvent after = new AfterAssociateEvent(entity, propertyPath, castToContentStore(delegate));
-            publisher.publishEvent(after);
+            publishAfter(after, entity);
         }
     }
 
     @Override
     public void unassociate(Object entity) {
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeUnassociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.BeforeUnassociateEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeUnassociateEvent(entity, delegate);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeUnassociateEvent.class, entity)) {
             BeforeUnassociateEvent before = new BeforeUnassociateEvent(entity, castToContentStore(delegate));
             publisher.publishEvent(before);
         }
@@ -648,26 +702,26 @@ public class StoreImpl implements org.springframework.content.commons.repository
             throw e;
         }
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterUnassociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.AfterUnassociateEvent oldAfter = new org.springframework.content.commons.repository.events.AfterUnassociateEvent(entity, delegate);
-            publisher.publishEvent(oldAfter);
+            publishAfter(oldAfter, entity);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterUnassociateEvent.class, entity)) {
             AfterUnassociateEvent after = new AfterUnassociateEvent(entity, castToContentStore(delegate));
-            publisher.publishEvent(after);
+            publishAfter(after, entity);
         }
     }
 
     @Override
     public void unassociate(Object entity, PropertyPath propertyPath) {
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.BeforeUnassociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.BeforeUnassociateEvent oldBefore = new org.springframework.content.commons.repository.events.BeforeUnassociateEvent(entity, propertyPath, delegate);
             publisher.publishEvent(oldBefore);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(BeforeUnassociateEvent.class, entity)) {
             BeforeUnassociateEvent before = new BeforeUnassociateEvent(entity, propertyPath, castToContentStore(delegate));
             publisher.publishEvent(before);
         }
@@ -683,14 +737,26 @@ public class StoreImpl implements org.springframework.content.commons.repository
             throw e;
         }
 
-        if (org.springframework.content.commons.repository.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (legacyEvents && publishes(org.springframework.content.commons.repository.events.AfterUnassociateEvent.class, entity)) {
             org.springframework.content.commons.repository.events.AfterUnassociateEvent oldAfter = new org.springframework.content.commons.repository.events.AfterUnassociateEvent(entity, propertyPath, delegate);
-            publisher.publishEvent(oldAfter);
+            publishAfter(oldAfter, entity);
         }
 
-        if (org.springframework.content.commons.store.ContentStore.class.isAssignableFrom(storeInterface)) {
+        if (storeEvents && publishes(AfterUnassociateEvent.class, entity)) {
             AfterUnassociateEvent after = new AfterUnassociateEvent(entity, propertyPath, castToContentStore(delegate));
-            publisher.publishEvent(after);
+            publishAfter(after, entity);
+        }
+    }
+
+    private boolean publishes(Class<? extends ApplicationEvent> eventType, Object source) {
+        return listenerIndex == null || listenerIndex.hasListeners(eventType, source);
+    }
+
+    private void publishAfter(ApplicationEvent event, Object entity) {
+        if (asyncPublisher != null) {
+            asyncPublisher.publish(event, entity);
+        } else {
+            publisher.publishEvent(event);
         }
     }
 
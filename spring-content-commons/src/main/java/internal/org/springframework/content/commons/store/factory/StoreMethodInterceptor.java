@@ -5,6 +5,11 @@ import static java.lang.String.format;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -21,6 +26,14 @@ import org.springframework.util.ReflectionUtils;
 import internal.org.springframework.content.commons.config.StoreFragment;
 import internal.org.springframework.content.commons.config.StoreFragments;
 
+/**
+ * Dispatches store method invocations to the store fragment that implements them.
+ * <p>
+ * When {@link #prepare(Object, Class[])} is called at proxy creation time the store is injected into
+ * {@link ContentStoreAware} fragments once and an immutable dispatch table from each proxied method to its
+ * fragment and bound {@link MethodHandle} is built, so that invocations are a single map lookup. Methods
+ * outside that table, or interceptors that were never prepared, resolve their fragment on first use.
+ */
 public class StoreMethodInterceptor implements MethodInterceptor {
 
 	private static final Log LOGGER = LogFactory.getLog(StoreMethodInterceptor.class);
@@ -28,6 +41,10 @@ public class StoreMethodInterceptor implements MethodInterceptor {
 	private StoreFragments storeFragments;
 	private Map<Method, Method> methodCache = new ConcurrentReferenceHashMap<>();
 
+	private volatile boolean prepared = false;
+	private Map<Method, Dispatch> dispatchTable = Collections.emptyMap();
+	private final Map<Method, Dispatch> lateDispatches = new ConcurrentReferenceHashMap<>();
+
 	// ContentStoreAware methods
 	private static Method deprecatedSetContentStoreMethod;
 	private static Method setContentStoreMethod;
@@ -46,35 +63,66 @@ public class StoreMethodInterceptor implements MethodInterceptor {
 		this.storeFragments = storeFragments;
 	}
 
+	/**
+	 * Injects the store into the fragments that need it and builds the dispatch table for the given
+	 * proxied interfaces.
+	 *
+	 * @param store the store implementation backing the proxy
+	 * @param interfaces the interfaces implemented by the proxy
+	 */
+	public void prepare(Object store, Class<?>[] interfaces) {
+		Assert.notNull(storeFragments, "storeFragments must be set");
+
+		for (StoreFragment fragment : storeFragments) {
+			injectStore(fragment, store);
+		}
+
+		Map<Method, Dispatch> table = new HashMap<>();
+		for (Class<?> iface : interfaces) {
+			for (Method method : iface.getMethods()) {
+				if (table.containsKey(method)) {
+					continue;
+				}
+				Optional<StoreFragment> fragment = findFragment(method);
+				if (fragment.isPresent()) {
+					Method implementationMethod = getMethod(method, fragment.get());
+					if (implementationMethod != null) {
+						table.put(method, new Dispatch(fragment.get(), implementationMethod));
+					}
+				}
+			}
+		}
+
+		this.dispatchTable = Collections.unmodifiableMap(table);
+		this.prepared = true;
+	}
+
 	@Override
 	public Object invoke(MethodInvocation invocation) throws Throwable {
 
 		if (storeFragments != null) {
-			Optional<StoreFragment> fragment = storeFragments.stream()
-					.filter(it -> it.hasMethod(invocation.getMethod()))
-					.findFirst();
-
-		     if (fragment.isPresent() == false) {
-		            fragment = storeFragments.stream()
-		                    .filter(it -> it.hasImplementationMethod(invocation.getMethod()))
-		                    .findFirst();
-		     }
-
-			fragment.orElseThrow(() -> new IllegalStateException(format("No fragment found for method %s", invocation.getMethod())));
+			Method method = invocation.getMethod();
 
-			StoreFragment f = fragment.get();
-			if (f.hasImplementationMethod(deprecatedSetContentStoreMethod)) {
-				ReflectionUtils.invokeMethod(deprecatedSetContentStoreMethod, f.getImplementation(), invocation.getThis());
+			Dispatch dispatch = dispatchTable.get(method);
+			if (dispatch == null) {
+				dispatch = lateDispatches.get(method);
 			}
-			if (f.hasImplementationMethod(setContentStoreMethod)) {
-				ReflectionUtils.invokeMethod(setContentStoreMethod, f.getImplementation(), invocation.getThis());
+			if (dispatch == null) {
+				StoreFragment f = findFragment(method)
+						.orElseThrow(() -> new IllegalStateException(format("No fragment found for method %s", method)));
+
+				Method implementationMethod = getMethod(method, f);
+				if (implementationMethod == null) {
+					throw new IllegalStateException(format("No implementation of %s found on fragment %s", method, f.getImplementation().getClass()));
+				}
+				dispatch = lateDispatches.computeIfAbsent(method, key -> new Dispatch(f, implementationMethod));
 			}
 
-			try {
-			    return getMethod(invocation.getMethod(), f).invoke(fragment.get().getImplementation(), invocation.getArguments());
-			} catch (InvocationTargetException ite) {
-			    throw ite.getTargetException();
+			if (!prepared) {
+				injectStore(dispatch.fragment, invocation.getThis());
 			}
+
+			return dispatch.invoke(invocation.getArguments());
 		}
 
 		String msg = format("No fragment implementation found for invoked method %s", invocation);
@@ -82,6 +130,29 @@ public class StoreMethodInterceptor implements MethodInterceptor {
 		return null;
 	}
 
+	private Optional<StoreFragment> findFragment(Method method) {
+		for (StoreFragment fragment : storeFragments) {
+			if (fragment.hasMethod(method)) {
+				return Optional.of(fragment);
+			}
+		}
+		for (StoreFragment fragment : storeFragments) {
+			if (fragment.hasImplementationMethod(method)) {
+				return Optional.of(fragment);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private void injectStore(StoreFragment fragment, Object store) {
+		if (store instanceof ContentStore && fragment.hasImplementationMethod(deprecatedSetContentStoreMethod)) {
+			ReflectionUtils.invokeMethod(deprecatedSetContentStoreMethod, fragment.getImplementation(), store);
+		}
+		if (store instanceof org.springframework.content.commons.store.ContentStore && fragment.hasImplementationMethod(setContentStoreMethod)) {
+			ReflectionUtils.invokeMethod(setContentStoreMethod, fragment.getImplementation(), store);
+		}
+	}
+
 	/* package */ Method getMethod(Method invokedMethod, StoreFragment fragment) {
 		return methodCache.computeIfAbsent(invokedMethod,
 				key -> resolveImplementationMethod(invokedMethod, fragment));
@@ -122,4 +193,43 @@ public class StoreMethodInterceptor implements MethodInterceptor {
 
 		return true;
 	}
+
+	private static final class Dispatch {
+
+		private final StoreFragment fragment;
+		private final Method method;
+		private final MethodHandle handle;
+
+		private Dispatch(StoreFragment fragment, Method method) {
+			this.fragment = fragment;
+			this.method = method;
+			this.handle = bind(method, fragment.getImplementation());
+		}
+
+		private Object invoke(Object[] arguments) throws Throwable {
+			if (handle != null) {
+				return (Object) handle.invokeExact(arguments);
+			}
+
+			try {
+				return method.invoke(fragment.getImplementation(), arguments);
+			} catch (InvocationTargetException ite) {
+				throw ite.getTargetException();
+			}
+		}
+
+		private static MethodHandle bind(Method method, Object implementation) {
+			try {
+				ReflectionUtils.makeAccessible(method);
+				int parameterCount = method.getParameterCount();
+				return MethodHandles.lookup().unreflect(method)
+						.bindTo(implementation)
+						.asType(MethodType.genericMethodType(parameterCount))
+						.asSpreader(Object[].class, parameterCount);
+			} catch (IllegalAccessException | RuntimeException e) {
+				LOGGER.debug(format("Unable to bind %s, falling back to reflection", method), e);
+				return null;
+			}
+		}
+	}
 }
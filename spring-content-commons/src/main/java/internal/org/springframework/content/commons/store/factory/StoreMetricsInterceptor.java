@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.commons.store.factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.io.input.ProxyInputStream;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records Micrometer metrics for store operations.
+ * <p>
+ * Every {@code getResource}, {@code associate}, {@code unassociate}, {@code setContent},
+ * {@code getContent} and {@code unsetContent} call is timed as {@value #OPERATION_TIMER} and
+ * failures are counted as {@value #ERROR_COUNTER}, tagged with the store interface, the backend
+ * module (fs, s3, jpa, mongo, gcs, azure, ...) and the operation. Bytes passed to
+ * {@code setContent} and bytes read from the stream returned by {@code getContent} are recorded as
+ * {@value #BYTES_SUMMARY} by wrapping the streams, so reads that complete after the method returns
+ * are counted too; combined with the timer this gives the throughput of each operation.
+ * <p>
+ * Bytes read through the resource returned by {@code getResource} are only counted when resource
+ * metering is turned on, as it wraps the resource in a JDK proxy implementing every interface of
+ * the store's resource: callers may still cast it to {@code WritableResource},
+ * {@code DeletableResource}, {@code RangeableResource} and the like, but not to the resource's
+ * class. A {@link FileChannel} opened by the resource is handed out as a {@link FileChannel}, so
+ * that callers can still {@link FileChannel#transferTo transfer} from it.
+ * <p>
+ * Only loaded when Micrometer is on the classpath.
+ */
+public class StoreMetricsInterceptor implements MethodInterceptor {
+
+    public static final String OPERATION_TIMER = "spring.content.store.operation";
+    public static final String ERROR_COUNTER = "spring.content.store.errors";
+    public static final String BYTES_SUMMARY = "spring.content.store.bytes";
+
+    private static final Set<String> OPERATIONS = Set.of("getResource", "associate", "unassociate", "setContent", "getContent", "unsetContent");
+
+    private static final String INTERNAL_PACKAGE_PREFIX = "internal.org.springframework.content.";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private volatile MeterRegistry registry;
+
+    private final String store;
+    private final String backend;
+    private final boolean meterResources;
+
+    private final Map<Method, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Returns an interceptor for the given store, or {@code null} when the bean factory defines no
+     * {@link MeterRegistry}.
+     */
+    public static StoreMetricsInterceptor create(BeanFactory beanFactory, Class<?> storeInterface, Object target, boolean meterResources) {
+        if (beanFactory instanceof ListableBeanFactory listable && listable.getBeanNamesForType(MeterRegistry.class, true, false).length > 0) {
+            return new StoreMetricsInterceptor(beanFactory.getBeanProvider(MeterRegistry.class), storeInterface, target, meterResources);
+        }
+        return null;
+    }
+
+    public StoreMetricsInterceptor(MeterRegistry registry, Class<?> storeInterface, Object target) {
+        this(registry, storeInterface, target, false);
+    }
+
+    /**
+     * @param meterResources whether to count the bytes read through resources returned by
+     *                       {@code getResource}
+     */
+    public StoreMetricsInterceptor(MeterRegistry registry, Class<?> storeInterface, Object target, boolean meterResources) {
+        this((ObjectProvider<MeterRegistry>) null, storeInterface, target, meterResources);
+        this.registry = registry;
+    }
+
+    private StoreMetricsInterceptor(ObjectProvider<MeterRegistry> registryProvider, Class<?> storeInterface, Object target, boolean meterResources) {
+        this.registryProvider = registryProvider;
+        this.store = storeInterface.getSimpleName();
+        this.backend = backendOf(target);
+        this.meterResources = meterResources;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (OPERATIONS.contains(method.getName()) == false) {
+            return invocation.proceed();
+        }
+
+        MeterRegistry registry = registry();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        OperationMeters operation = meters.get(method);
+        if (operation == null) {
+            operation = meters.computeIfAbsent(method, m -> new OperationMeters(registry, m, store, backend));
+        }
+
+        CountingInputStream written = null;
+        if (operation.contentArgument >= 0) {
+            Object[] arguments = invocation.getArguments();
+            if (arguments[operation.contentArgument] instanceof InputStream content) {
+                written = new CountingInputStream(content, operation.bytes);
+                arguments[operation.contentArgument] = written;
+            }
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            operation.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (operation.countsResult && result instanceof InputStream content) {
+                return new CountingInputStream(content, operation.bytes);
+            }
+            if (meterResources && operation.countsResource && result instanceof Resource resource) {
+                return countingResource(resource, operation.bytes);
+            }
+            return result;
+        } catch (Throwable t) {
+            operation.failure(t).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            operation.errors(t).increment();
+            throw t;
+        } finally {
+            if (written != null) {
+                written.record();
+            }
+        }
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry registry = this.registry;
+        if (registry == null && registryProvider != null) {
+            registry = registryProvider.getIfAvailable();
+            this.registry = registry;
+        }
+        return registry;
+    }
+
+    static Resource countingResource(Resource resource, DistributionSummary summary) {
+        ClassLoader classLoader = resource.getClass().getClassLoader();
+        if (classLoader == null || ClassUtils.isVisible(Resource.class, classLoader) == false) {
+            classLoader = Resource.class.getClassLoader();
+        }
+        // only the interfaces visible from that loader, which may leave some of them out
+        Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(resource.getClass(), classLoader);
+        try {
+            return (Resource) Proxy.newProxyInstance(classLoader, interfaces, new CountingResourceHandler(resource, summary));
+        } catch (IllegalArgumentException e) {
+            // the resource cannot be proxied from any one loader; leave it unmetered
+            return resource;
+        }
+    }
+
+    static String backendOf(Object target) {
+        String name = target.getClass().getName();
+        if (name.startsWith(INTERNAL_PACKAGE_PREFIX)) {
+            int end = name.indexOf('.', INTERNAL_PACKAGE_PREFIX.length());
+            if (end > 0) {
+                return name.substring(INTERNAL_PACKAGE_PREFIX.length(), end);
+            }
+        }
+        return "unknown";
+    }
+
+    private static final class OperationMeters {
+
+        private final MeterRegistry registry;
+        private final Tags tags;
+        private final Timer success;
+        private final DistributionSummary bytes;
+        private final int contentArgument;
+        private final boolean countsResult;
+        private final boolean countsResource;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        private OperationMeters(MeterRegistry registry, Method method, String store, String backend) {
+            this.registry = registry;
+            this.tags = Tags.of("store", store, "backend", backend, "operation", method.getName());
+            this.success = Timer.builder(OPERATION_TIMER)
+                    .description("Store operations")
+                    .tags(tags).tags("outcome", "success", "exception", "none")
+                    .register(registry);
+            this.bytes = DistributionSummary.builder(BYTES_SUMMARY)
+                    .description("Bytes transferred by store operations")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(registry);
+            this.contentArgument = "setContent".equals(method.getName()) ? indexOfInputStream(method) : -1;
+            this.countsResult = "getContent".equals(method.getName()) && InputStream.class.isAssignableFrom(method.getReturnType());
+            this.countsResource = "getResource".equals(method.getName()) && Resource.class.isAssignableFrom(method.getReturnType());
+        }
+
+        private Timer failure(Throwable t) {
+            return failures.computeIfAbsent(t.getClass(), type -> Timer.builder(OPERATION_TIMER)
+                    .description("Store operations")
+                    .tags(tags).tags("outcome", "error", "exception", type.getSimpleName())
+                    .register(registry));
+        }
+
+        private Counter errors(Throwable t) {
+            return errors.computeIfAbsent(t.getClass(), type -> Counter.builder(ERROR_COUNTER)
+                    .description("Failed store operations")
+                    .tags(tags).tags("exception", type.getSimpleName())
+                    .register(registry));
+        }
+
+        private static int indexOfInputStream(Method method) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (InputStream.class.isAssignableFrom(parameterTypes[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    static final class CountingInputStream extends ProxyInputStream {
+
+        private final DistributionSummary summary;
+        private long count = 0;
+        private boolean recorded = false;
+
+        CountingInputStream(InputStream in, DistributionSummary summary) {
+            super(in);
+            this.summary = summary;
+        }
+
+        @Override
+        protected void afterRead(int n) {
+            if (n > 0) {
+                count += n;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                record();
+            }
+        }
+
+        synchronized void record() {
+            if (recorded == false) {
+                recorded = true;
+                summary.record(count);
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes read through a resource's {@code getInputStream} and
+     * {@code readableChannel}, delegating every other call.
+     */
+    private static final class CountingResourceHandler implements InvocationHandler {
+
+        private final Resource resource;
+        private final DistributionSummary summary;
+
+        private CountingResourceHandler(Resource resource, DistributionSummary summary) {
+            this.resource = resource;
+            this.summary = summary;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getParameterCount() == 0) {
+                switch (method.getName()) {
+                    case "getInputStream":
+                        return new CountingInputStream(resource.getInputStream(), summary);
+                    case "readableChannel":
+                        ReadableByteChannel channel = resource.readableChannel();
+                        if (channel instanceof FileChannel file) {
+                            return new CountingFileChannel(file, summary);
+                        }
+                        return new CountingChannel(channel, summary);
+                    case "hashCode":
+                        return resource.hashCode();
+                    case "toString":
+                        return resource.toString();
+                    default:
+                        break;
+                }
+            } else if (method.getParameterCount() == 1 && "equals".equals(method.getName())) {
+                Object other = args[0];
+                if (other != null && Proxy.isProxyClass(other.getClass()) && Proxy.getInvocationHandler(other) instanceof CountingResourceHandler handler) {
+                    other = handler.resource;
+                }
+                return resource.equals(other);
+            }
+
+            try {
+                return method.invoke(resource, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    static final class CountingChannel implements ReadableByteChannel {
+
+        private final ReadableByteChannel channel;
+        private final DistributionSummary summary;
+        private long count = 0;
+        private boolean recorded = false;
+
+        CountingChannel(ReadableByteChannel channel, DistributionSummary summary) {
+            this.channel = channel;
+            this.summary = summary;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            int n = channel.read(dst);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                channel.close();
+            } finally {
+                record();
+            }
+        }
+
+        synchronized void record() {
+            if (recorded == false) {
+                recorded = true;
+                summary.record(count);
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes read from, or transferred from, a {@link FileChannel} while remaining one,
+     * so that callers can still use {@link FileChannel#transferTo transferTo}. Bytes read through
+     * a {@link FileChannel#map mapping} are not counted.
+     */
+    static final class CountingFileChannel extends FileChannel {
+
+        private final FileChannel channel;
+        private final DistributionSummary summary;
+        private final AtomicLong count = new AtomicLong();
+
+        CountingFileChannel(FileChannel channel, DistributionSummary summary) {
+            this.channel = channel;
+            this.summary = summary;
+        }
+
+        private <N extends Number> N counted(N n) {
+            if (n.longValue() > 0) {
+                count.addAndGet(n.longValue());
+            }
+            return n;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return counted(channel.read(dst));
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return counted(channel.read(dsts, offset, length));
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return counted(channel.read(dst, position));
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return counted(channel.transferTo(position, count, target));
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return channel.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return channel.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return channel.write(src, position);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return channel.transferFrom(src, position, count);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            channel.force(metaData);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return channel.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return channel.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return channel.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            try {
+                channel.close();
+            } finally {
+                summary.record(count.get());
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package internal.org.springframework.content.commons.utils;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.content.commons.config.ContentPropertyInfo;
 import org.springframework.content.commons.mappingcontext.ContentProperty;
 import org.springframework.core.ResolvableType;
@@ -9,19 +12,31 @@ import org.springframework.core.convert.TypeDescriptor;
  * Creates {@link TypeDescriptor}s for {@link ContentPropertyInfo} class
  * that include information about generic parameter types
  * (in contrast to {@code TypeDescriptor typeDescriptor = TypeDescriptor.forObject(contentPropertyInfo)}).
+ * Descriptors are immutable and cached per entity class and content id class.
  */
 public abstract class ContentPropertyInfoTypeDescriptor {
 
-    public static TypeDescriptor withGenerics(Object entity, ContentProperty property) {
-        ResolvableType contentPropertyInfoResolvableType = ResolvableType.forClassWithGenerics(ContentPropertyInfo.class,
-                entity.getClass(), property.getContentIdType(entity).getObjectType());
-        TypeDescriptor contentPropertyInfoType = new TypeDescriptor(contentPropertyInfoResolvableType, null,
-                null);  // type annotations are not relevant for conversion of ContentPropertyInfo
+    private static final ClassValue<Map<Class<?>, TypeDescriptor>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, TypeDescriptor> computeValue(Class<?> entityClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
-        return contentPropertyInfoType;
+    public static TypeDescriptor withGenerics(Object entity, ContentProperty property) {
+        return withGenerics(entity.getClass(), property.getContentIdType(entity).getObjectType());
     }
 
     public static TypeDescriptor withGenerics(Class<?> entityClass, Class<?> contentIdClass) {
+        Map<Class<?>, TypeDescriptor> descriptors = DESCRIPTORS.get(entityClass);
+        TypeDescriptor descriptor = descriptors.get(contentIdClass);
+        if (descriptor == null) {
+            descriptor = descriptors.computeIfAbsent(contentIdClass, idClass -> create(entityClass, idClass));
+        }
+        return descriptor;
+    }
+
+    private static TypeDescriptor create(Class<?> entityClass, Class<?> contentIdClass) {
         ResolvableType contentPropertyInfoResolvableType = ResolvableType.forClassWithGenerics(ContentPropertyInfo.class,
                 entityClass, contentIdClass);
         TypeDescriptor contentPropertyInfoType = new TypeDescriptor(contentPropertyInfoResolvableType, null,
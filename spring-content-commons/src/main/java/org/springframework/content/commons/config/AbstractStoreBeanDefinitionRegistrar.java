@@ -5,6 +5,8 @@ import internal.org.springframework.content.commons.config.StoreFragmentDefiniti
 import internal.org.springframework.content.commons.config.StoreFragmentDetector;
 import internal.org.springframework.content.commons.config.StoreFragmentsFactoryBean;
 import internal.org.springframework.content.commons.repository.AnnotatedStoreEventInvoker;
+import internal.org.springframework.content.commons.repository.AsyncStoreEventPublisher;
+import internal.org.springframework.content.commons.repository.StoreEventListenerIndex;
 import internal.org.springframework.content.commons.utils.StoreCandidateComponentProvider;
 import internal.org.springframework.content.commons.utils.StoreUtils;
 import org.apache.commons.logging.Log;
@@ -124,6 +126,15 @@ public abstract class AbstractStoreBeanDefinitionRegistrar
 			registry.registerBeanDefinition("annotatedStoreEventHandler", annotatedStoreEventHandlerDef);
 		}
 
+		if (registry.containsBeanDefinition("storeEventListenerIndex") == false) {
+			registry.registerBeanDefinition("storeEventListenerIndex", createBeanDefinition(StoreEventListenerIndex.class));
+		}
+
+		if (environment != null && environment.getProperty(AsyncStoreEventPublisher.ENABLED_PROPERTY, Boolean.class, false) &&
+				registry.containsBeanDefinition("asyncStoreEventPublisher") == false) {
+			registry.registerBeanDefinition("asyncStoreEventPublisher", createBeanDefinition(AsyncStoreEventPublisher.class));
+		}
+
 		createOperationsBean(registry);
 
 		registerContentStoreBeanDefinitions(importingClassMetadata, registry);
@@ -1,9 +1,6 @@
 package org.springframework.content.commons.mappingcontext;
 
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
-import org.springframework.beans.NullValueInNestedPathException;
 import org.springframework.core.convert.TypeDescriptor;
 
 import lombok.EqualsAndHashCode;
@@ -27,19 +24,13 @@ public class ContentProperty {
     public Object getCustomProperty(Object entity, String propertyName) {
         String customContentPropertyPath = getCustomPropertyPropertyPath(propertyName);
 
-        BeanWrapper wrapper = getBeanWrapperForRead(entity);
-        try {
-            return wrapper.getPropertyValue(customContentPropertyPath);
-        } catch (NullValueInNestedPathException nvinpe) {
-            return null;
-        }
+        return accessor(entity, customContentPropertyPath).getValue(entity);
     }
 
     public void setCustomProperty(Object entity, String propertyName, Object value) {
         String customContentPropertyPath = getCustomPropertyPropertyPath(propertyName);
 
-        BeanWrapper wrapper = getBeanWrapperForWrite(entity);
-        wrapper.setPropertyValue(customContentPropertyPath, value);
+        accessor(entity, customContentPropertyPath).setValue(entity, value);
     }
 
     public String getCustomPropertyPropertyPath(String propertyName) {
@@ -51,12 +42,7 @@ public class ContentProperty {
             return null;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForRead(entity);
-        try {
-            return wrapper.getPropertyValue(contentIdPropertyPath);
-        } catch (NullValueInNestedPathException nvinpe) {
-            return null;
-        }
+        return accessor(entity, contentIdPropertyPath).getValue(entity);
     }
 
     public void setContentId(Object entity, Object value, Condition condition) {
@@ -64,16 +50,16 @@ public class ContentProperty {
             return;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForWrite(entity);
+        ContentPropertyAccessor accessor = accessor(entity, contentIdPropertyPath);
 
         if (condition != null) {
-            TypeDescriptor t = wrapper.getPropertyTypeDescriptor(contentIdPropertyPath);
+            TypeDescriptor t = accessor.getTypeDescriptor(entity);
             if (!condition.matches(t)) {
                 return;
             }
         }
 
-        wrapper.setPropertyValue(contentIdPropertyPath, value);
+        accessor.setValue(entity, value);
     }
 
     public TypeDescriptor getContentIdType(Object entity) {
@@ -95,12 +81,7 @@ public class ContentProperty {
             return 0L;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForRead(entity);
-        try {
-            return wrapper.getPropertyValue(contentLengthPropertyPath);
-        } catch (NullValueInNestedPathException nvinpe) {
-            return null;
-        }
+        return accessor(entity, contentLengthPropertyPath).getValue(entity);
     }
 
     public void setContentLength(Object entity, Object value) {
@@ -108,8 +89,7 @@ public class ContentProperty {
             return;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForWrite(entity);
-        wrapper.setPropertyValue(contentLengthPropertyPath, value);
+        accessor(entity, contentLengthPropertyPath).setValue(entity, value);
     }
 
     public TypeDescriptor getContentLengthType() {
@@ -126,12 +106,7 @@ public class ContentProperty {
             return null;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForRead(entity);
-        try {
-            return wrapper.getPropertyValue(mimeTypePropertyPath);
-        } catch (NullValueInNestedPathException nvinpe) {
-            return null;
-        }
+        return accessor(entity, mimeTypePropertyPath).getValue(entity);
     }
 
     public void setMimeType(Object entity, Object value) {
@@ -139,8 +114,7 @@ public class ContentProperty {
             return;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForWrite(entity);
-        wrapper.setPropertyValue(mimeTypePropertyPath, value);
+        accessor(entity, mimeTypePropertyPath).setValue(entity, value);
     }
 
     public void setOriginalFileName(Object entity, Object value) {
@@ -148,8 +122,7 @@ public class ContentProperty {
             return;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForWrite(entity);
-        wrapper.setPropertyValue(originalFileNamePropertyPath, value);
+        accessor(entity, originalFileNamePropertyPath).setValue(entity, value);
     }
 
     public Object getOriginalFileName(Object entity) {
@@ -157,22 +130,24 @@ public class ContentProperty {
             return null;
         }
 
-        BeanWrapper wrapper = getBeanWrapperForRead(entity);
-        try {
-            return wrapper.getPropertyValue(originalFileNamePropertyPath);
-        } catch (NullValueInNestedPathException nvinpe) {
-            return null;
-        }
+        return accessor(entity, originalFileNamePropertyPath).getValue(entity);
     }
 
-    private BeanWrapper getBeanWrapperForRead(Object entity) {
-        BeanWrapper wrapper = new BeanWrapperImpl(entity);
-        return wrapper;
+    /**
+     * Compiles the accessors for this content property's paths against the given domain
+     * class so that the first read or write pays no introspection cost.
+     *
+     * @param domainClass the domain class this content property was resolved from
+     */
+    void prepareAccessors(Class<?> domainClass) {
+        for (String path : new String[] {contentIdPropertyPath, contentLengthPropertyPath, mimeTypePropertyPath, originalFileNamePropertyPath}) {
+            if (path != null) {
+                ContentPropertyAccessor.forPath(domainClass, path);
+            }
+        }
     }
 
-    private BeanWrapper getBeanWrapperForWrite(Object entity) {
-        BeanWrapper wrapper = new BeanWrapperImpl(entity);
-        wrapper.setAutoGrowNestedPaths(true);
-        return wrapper;
+    private ContentPropertyAccessor accessor(Object entity, String path) {
+        return ContentPropertyAccessor.forPath(entity.getClass(), path);
     }
 }
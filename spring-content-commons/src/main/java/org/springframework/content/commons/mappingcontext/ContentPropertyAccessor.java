@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.commons.mappingcontext;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.core.convert.Property;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Precompiled accessor for a (possibly nested) content property path on a given domain class.
+ * <p>
+ * Each path segment is resolved once to {@link MethodHandle}s for its getter, setter and,
+ * where available, the no-arg constructor of its type so that nested embedded objects can be
+ * auto-grown on write. Accessors are cached per domain class and path.
+ * <p>
+ * Paths that cannot be compiled (indexed or mapped paths, properties without public
+ * accessors, inaccessible types) and values that would need type conversion fall back to a
+ * {@link BeanWrapper}, preserving its semantics.
+ */
+final class ContentPropertyAccessor {
+
+    private static final Log LOGGER = LogFactory.getLog(ContentPropertyAccessor.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Map<String, ContentPropertyAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, ContentPropertyAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String path;
+    private final Segment[] segments;
+    private final TypeDescriptor typeDescriptor;
+
+    private ContentPropertyAccessor(String path, Segment[] segments, TypeDescriptor typeDescriptor) {
+        this.path = path;
+        this.segments = segments;
+        this.typeDescriptor = typeDescriptor;
+    }
+
+    static ContentPropertyAccessor forPath(Class<?> domainClass, String path) {
+        Map<String, ContentPropertyAccessor> accessors = ACCESSORS.get(domainClass);
+        ContentPropertyAccessor accessor = accessors.get(path);
+        if (accessor == null) {
+            accessor = accessors.computeIfAbsent(path, p -> compile(domainClass, p));
+        }
+        return accessor;
+    }
+
+    boolean isCompiled() {
+        return segments != null;
+    }
+
+    Object getValue(Object entity) {
+        if (segments == null) {
+            try {
+                return new BeanWrapperImpl(entity).getPropertyValue(path);
+            } catch (NullValueInNestedPathException nvinpe) {
+                return null;
+            }
+        }
+
+        Object current = entity;
+        for (Segment segment : segments) {
+            if (current == null) {
+                return null;
+            }
+            current = segment.get(current);
+        }
+        return current;
+    }
+
+    void setValue(Object entity, Object value) {
+        Segment last = segments != null ? segments[segments.length - 1] : null;
+        if (last == null || !last.accepts(value)) {
+            writableWrapper(entity).setPropertyValue(path, value);
+            return;
+        }
+
+        Object current = entity;
+        for (int i = 0; i < segments.length - 1; i++) {
+            Segment segment = segments[i];
+            Object next = segment.get(current);
+            if (next == null) {
+                if (segment.constructor == null) {
+                    writableWrapper(entity).setPropertyValue(path, value);
+                    return;
+                }
+                next = segment.instantiate();
+                segment.set(current, next);
+            }
+            current = next;
+        }
+        last.set(current, value);
+    }
+
+    TypeDescriptor getTypeDescriptor(Object entity) {
+        if (typeDescriptor != null) {
+            return typeDescriptor;
+        }
+        return writableWrapper(entity).getPropertyTypeDescriptor(path);
+    }
+
+    private static BeanWrapper writableWrapper(Object entity) {
+        BeanWrapper wrapper = new BeanWrapperImpl(entity);
+        wrapper.setAutoGrowNestedPaths(true);
+        return wrapper;
+    }
+
+    private static ContentPropertyAccessor compile(Class<?> domainClass, String path) {
+        if (path.indexOf('[') != -1) {
+            return new ContentPropertyAccessor(path, null, null);
+        }
+
+        String[] names = path.split("\\.");
+        Segment[] segments = new Segment[names.length];
+        TypeDescriptor typeDescriptor = null;
+
+        Class<?> owner = domainClass;
+        try {
+            for (int i = 0; i < names.length; i++) {
+                PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(owner, names[i]);
+                if (pd == null || pd.getReadMethod() == null || pd.getWriteMethod() == null) {
+                    return new ContentPropertyAccessor(path, null, null);
+                }
+
+                boolean last = i == names.length - 1;
+                segments[i] = new Segment(pd.getPropertyType(),
+                        unreflect(pd.getReadMethod()).asType(GETTER_TYPE),
+                        unreflect(pd.getWriteMethod()).asType(SETTER_TYPE),
+                        last ? null : constructor(pd.getPropertyType()));
+
+                if (last) {
+                    typeDescriptor = new TypeDescriptor(new Property(owner, pd.getReadMethod(), pd.getWriteMethod(), names[i]));
+                }
+                owner = pd.getPropertyType();
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.debug(String.format("Unable to compile accessor for %s.%s, falling back to BeanWrapper", domainClass.getName(), path), e);
+            return new ContentPropertyAccessor(path, null, null);
+        }
+
+        return new ContentPropertyAccessor(path, segments, typeDescriptor);
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        ReflectionUtils.makeAccessible(method);
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    private static MethodHandle constructor(Class<?> type) throws IllegalAccessException {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> ctor = ReflectionUtils.accessibleConstructor(type);
+            return MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException nsme) {
+            return null;
+        }
+    }
+
+    private static final class Segment {
+
+        private final Class<?> type;
+        private final boolean primitive;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final MethodHandle constructor;
+
+        private Segment(Class<?> type, MethodHandle getter, MethodHandle setter, MethodHandle constructor) {
+            this.type = ClassUtils.resolvePrimitiveIfNecessary(type);
+            this.primitive = type.isPrimitive();
+            this.getter = getter;
+            this.setter = setter;
+            this.constructor = constructor;
+        }
+
+        private boolean accepts(Object value) {
+            if (value == null) {
+                return !this.primitive;
+            }
+            return this.type.isInstance(value);
+        }
+
+        private Object get(Object target) {
+            try {
+                return (Object) this.getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        private void set(Object target, Object value) {
+            try {
+                this.setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        private Object instantiate() {
+            try {
+                return (Object) this.constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+}
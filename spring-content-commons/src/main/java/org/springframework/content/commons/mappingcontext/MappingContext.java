@@ -1,12 +1,24 @@
 package org.springframework.content.commons.mappingcontext;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.content.commons.storeservice.StoreInfo;
+import org.springframework.content.commons.storeservice.Stores;
+
+/**
+ * Resolves and caches the content properties of domain classes.
+ * <p>
+ * Resolution happens at most once per domain class, even under concurrent first access, and
+ * the resolved property maps are immutable so they can be shared freely between threads. Use
+ * {@link #MappingContext(CharSequence, CharSequence, Stores)} or {@link #prepare(Stores)} to
+ * resolve every domain class known to the stores up front.
+ */
 public class MappingContext {
 
-    private Map<Class<?>, Map<String, ContentProperty>> context = new HashMap<>();
+    private final Map<Class<?>, Map<String, ContentProperty>> context = new ConcurrentHashMap<>();
 
     private CharSequence keySeparator = "/";
     private CharSequence contentPropertySeparator = ".";
@@ -16,59 +28,66 @@ public class MappingContext {
         this.contentPropertySeparator = contentPropertySeparator;
     }
 
-//    public MappingContext(Stores stores) {
-//        for (StoreInfo info : stores.getStores(Stores.MATCH_ALL)) {
-//            if (info.getDomainObjectClass() != null) {
-//                context.put(info.getDomainObjectClass(), resolveProperties(info.getDomainObjectClass()));
-//            }
-//        }
-//    }
+    public MappingContext(CharSequence keySeparator, CharSequence contentPropertySeparator, Stores stores) {
+        this(keySeparator, contentPropertySeparator);
+        this.prepare(stores);
+    }
 
-    public boolean hasMapping(Class<?> domainClass, String path) {
-        Map<String, ContentProperty> properties = context.get(domainClass);
-        if (properties == null) {
-            properties = resolveProperties(domainClass);
+    /**
+     * Resolves the content properties of every domain class known to the given stores so that
+     * subsequent lookups pay no reflective walk cost.
+     *
+     * @param stores the stores whose domain classes should be resolved
+     */
+    public void prepare(Stores stores) {
+        for (StoreInfo info : stores.getStores(Stores.MATCH_ALL)) {
+            if (info.getDomainObjectClass() != null) {
+                properties(info.getDomainObjectClass());
+            }
         }
+    }
+
+    public boolean hasMapping(Class<?> domainClass, String path) {
+        Map<String, ContentProperty> properties = properties(domainClass);
         return properties.get(path) != null;
     }
 
     public ContentProperty getContentProperty(Class<?> domainClass, String path) {
-        Map<String, ContentProperty> properties = context.get(domainClass);
-        if (properties == null) {
-            properties = resolveProperties(domainClass);
-        }
+        Map<String, ContentProperty> properties = properties(domainClass);
         return properties.get(path);
     }
 
     public Collection<ContentProperty> getContentProperties(Class<?> domainClass) {
-        Map<String, ContentProperty> properties = context.get(domainClass);
-        if (properties == null) {
-            properties = resolveProperties(domainClass);
-        }
+        Map<String, ContentProperty> properties = properties(domainClass);
         return properties.values();
     }
 
     public Map<String,ContentProperty> getContentPropertyMap(Class<?> domainClass) {
-        Map<String, ContentProperty> properties = context.get(domainClass);
-        if (properties == null) {
-            properties = resolveProperties(domainClass);
-        }
+        Map<String, ContentProperty> properties = properties(domainClass);
         return properties;
     }
 
     public Collection<String> getContentPaths(Class<?> domainClass) {
+        Map<String, ContentProperty> properties = properties(domainClass);
+        return properties.keySet();
+    }
+
+    private Map<String, ContentProperty> properties(Class<?> domainClass) {
         Map<String, ContentProperty> properties = context.get(domainClass);
         if (properties == null) {
-            properties = resolveProperties(domainClass);
+            properties = context.computeIfAbsent(domainClass, this::resolveProperties);
         }
-        return properties.keySet();
+        return properties;
     }
 
     private Map<String, ContentProperty> resolveProperties(Class<?> domainClass) {
         ContentPropertyMappingContextVisitor visitor = new ContentPropertyMappingContextVisitor(this.keySeparator, this.contentPropertySeparator);
         ClassWalker walker = new ClassWalker(visitor);
         walker.accept(domainClass);
-        context.put(domainClass, visitor.getProperties());
-        return visitor.getProperties();
+        Map<String, ContentProperty> properties = visitor.getProperties();
+        for (ContentProperty property : properties.values()) {
+            property.prepareAccessors(domainClass);
+        }
+        return Collections.unmodifiableMap(properties);
     }
 }
@@ -21,6 +21,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.content.commons.fragments.ParameterTypeAware;
 import org.springframework.content.commons.store.AssociativeStore;
 import org.springframework.content.commons.store.ContentStore;
@@ -33,6 +34,8 @@ import org.springframework.util.Assert;
 
 import internal.org.springframework.content.commons.config.StoreFragment;
 import internal.org.springframework.content.commons.config.StoreFragments;
+import internal.org.springframework.content.commons.repository.AsyncStoreEventPublisher;
+import internal.org.springframework.content.commons.repository.StoreEventListenerIndex;
 
 /**
  * @deprecated This class is deprecated. Use {@link org.springframework.content.commons.store.factory.AbstractStoreFactoryBean} instead.
@@ -46,6 +49,8 @@ public abstract class AbstractStoreFactoryBean
 
 	protected static boolean REACTIVE_STORAGE = false;
 
+	private static final boolean MICROMETER_PRESENT = org.springframework.util.ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", AbstractStoreFactoryBean.class.getClassLoader());
+
 	static {
 	    try {
 	        REACTIVE_STORAGE = Class.forName("org.springframework.web.reactive.config.WebFluxConfigurationSupport") != null;
@@ -63,8 +68,23 @@ public abstract class AbstractStoreFactoryBean
 	private Set<StoreExtension> extensions = Collections.emptySet();
 	private StoreFragments storeFragments = new StoreFragments(Collections.EMPTY_LIST);
 
+	@Autowired(required = false)
+	private StoreEventListenerIndex storeEventListenerIndex;
+
+	@Autowired(required = false)
+	private AsyncStoreEventPublisher asyncStoreEventPublisher;
+
 	private BeanFactory beanFactory;
 
+	@Value("${spring.content.store.copy-content-threshold:" + StoreImpl.DEFAULT_COPY_CONTENT_THRESHOLD + "}")
+	private int copyContentThreshold = StoreImpl.DEFAULT_COPY_CONTENT_THRESHOLD;
+
+	@Value("${spring.content.store.metrics.enabled:true}")
+	private boolean metricsEnabled = true;
+
+	@Value("${spring.content.store.metrics.resources.enabled:false}")
+	private boolean resourceMetricsEnabled = false;
+
 	protected AbstractStoreFactoryBean(Class<? extends org.springframework.content.commons.repository.Store> storeInterface) {
 		Assert.notNull(storeInterface, "storeInterface must not be null");
 		this.storeInterface = storeInterface;
@@ -216,12 +236,19 @@ public abstract class AbstractStoreFactoryBean
 		StoreMethodInterceptor intercepter = new StoreMethodInterceptor();
 
 		if (!ClassUtils.getAllInterfaces(storeInterface).contains(ReactiveContentStore.class) && !ClassUtils.getAllInterfaces(storeInterface).contains(org.springframework.content.commons.repository.ReactiveContentStore.class)) {
-		    storeFragments.add(new StoreFragment(storeInterface, new StoreImpl(storeInterface, (org.springframework.content.commons.repository.Store<Serializable>) target, publisher, Paths.get(System.getProperty("java.io.tmpdir")))));
+		    storeFragments.add(new StoreFragment(storeInterface, new StoreImpl(storeInterface, (org.springframework.content.commons.repository.Store<Serializable>) target, publisher, Paths.get(System.getProperty("java.io.tmpdir")), copyContentThreshold, storeEventListenerIndex, asyncStoreEventPublisher)));
 		} else {
             storeFragments.add(new StoreFragment(storeInterface, new ReactiveStoreImpl((ReactiveContentStore<Object, Serializable>) target, publisher)));
 		}
 		intercepter.setStoreFragments(storeFragments);
+		intercepter.prepare(target, result.getProxiedInterfaces());
 
+		if (metricsEnabled && MICROMETER_PRESENT) {
+			StoreMetricsInterceptor metrics = StoreMetricsInterceptor.create(beanFactory, storeInterface, target, resourceMetricsEnabled);
+			if (metrics != null) {
+				result.addAdvice(metrics);
+			}
+		}
 		result.addAdvice(new StoreExceptionTranslatorInterceptor(beanFactory));
 		result.addAdvice(intercepter);
 
@@ -14,5 +14,12 @@ public interface ReactiveContentStore<S, SID extends Serializable> {
 
     Flux<ByteBuffer> getContent(S entity, PropertyPath path);
 
+    /**
+     * Returns the content, or only the bytes of the range given by
+     * {@link GetResourceParams#getRange()} in HTTP {@code Range} header form, e.g.
+     * {@code bytes=0-499}.
+     */
+    Flux<ByteBuffer> getContent(S entity, PropertyPath path, GetResourceParams params);
+
     Mono<S> unsetContent(S entity, PropertyPath propertyPath);
 }
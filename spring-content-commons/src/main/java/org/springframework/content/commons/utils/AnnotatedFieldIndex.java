@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.commons.utils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Per-class index of annotated fields used by {@link BeanUtils}.
+ * <p>
+ * For each (class, annotation type) pair the matching fields are resolved once, in the order
+ * {@link BeanUtils} has always used: fields backing bean properties first, then any remaining
+ * fields up the class hierarchy. Each field carries {@link MethodHandle}s for reading and
+ * writing it, through its getter/setter when it has one or directly otherwise.
+ */
+final class AnnotatedFieldIndex {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<AnnotatedFieldIndex> INDEXES = new ClassValue<>() {
+        @Override
+        protected AnnotatedFieldIndex computeValue(Class<?> type) {
+            return new AnnotatedFieldIndex(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Map<Class<? extends Annotation>, AnnotatedField[]> fields = new ConcurrentHashMap<>();
+
+    private AnnotatedFieldIndex(Class<?> type) {
+        this.type = type;
+    }
+
+    static AnnotatedFieldIndex forClass(Class<?> type) {
+        return INDEXES.get(type);
+    }
+
+    AnnotatedField first(Class<? extends Annotation> annotationClass) {
+        AnnotatedField[] candidates = all(annotationClass);
+        return candidates.length > 0 ? candidates[0] : null;
+    }
+
+    AnnotatedField[] all(Class<? extends Annotation> annotationClass) {
+        AnnotatedField[] candidates = fields.get(annotationClass);
+        if (candidates == null) {
+            candidates = fields.computeIfAbsent(annotationClass, this::resolve);
+        }
+        return candidates;
+    }
+
+    private AnnotatedField[] resolve(Class<? extends Annotation> annotationClass) {
+        List<Field> allFields = BeanUtils.getAllFields(type);
+        List<Field> matches = new ArrayList<>();
+
+        for (PropertyDescriptor descriptor : org.springframework.beans.BeanUtils.getPropertyDescriptors(type)) {
+            Field candidate = named(allFields, descriptor.getName());
+            if (candidate != null && candidate.getAnnotation(annotationClass) != null && !matches.contains(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        for (Field field : allFields) {
+            if (field.getAnnotation(annotationClass) != null && !matches.contains(field)) {
+                matches.add(field);
+            }
+        }
+
+        AnnotatedField[] resolved = new AnnotatedField[matches.size()];
+        for (int i = 0; i < resolved.length; i++) {
+            resolved[i] = new AnnotatedField(type, matches.get(i));
+        }
+        return resolved;
+    }
+
+    private static Field named(List<Field> fields, String name) {
+        for (Field field : fields) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * An annotated field together with its precompiled accessors. A {@code null} handle means
+     * the field can only be reached the way {@link BeanUtils} always did, through a
+     * {@link BeanWrapper} or {@link ReflectionUtils}.
+     */
+    static final class AnnotatedField {
+
+        private final Field field;
+        private final boolean property;
+        private final boolean writableProperty;
+        private final Class<?> valueType;
+        private final boolean primitive;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private AnnotatedField(Class<?> owner, Field field) {
+            this.field = field;
+            this.valueType = ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+            this.primitive = field.getType().isPrimitive();
+
+            PropertyDescriptor descriptor = org.springframework.beans.BeanUtils.getPropertyDescriptor(owner, field.getName());
+            this.property = descriptor != null;
+            this.writableProperty = descriptor != null && descriptor.getWriteMethod() != null;
+
+            if (descriptor != null) {
+                this.getter = methodHandle(descriptor.getReadMethod(), GETTER_TYPE);
+                this.setter = methodHandle(descriptor.getWriteMethod(), SETTER_TYPE);
+            } else {
+                this.getter = fieldHandle(field, true);
+                this.setter = fieldHandle(field, false);
+            }
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        Object get(Object target) {
+            if (getter == null) {
+                if (property) {
+                    return new BeanWrapperImpl(target).getPropertyValue(field.getName());
+                }
+                return ReflectionUtils.getField(field, target);
+            }
+
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        void set(Object target, Object value) {
+            if (setter == null || !accepts(value)) {
+                if (writableProperty) {
+                    new BeanWrapperImpl(target).setPropertyValue(field.getName(), value);
+                } else {
+                    ReflectionUtils.setField(field, target, value);
+                }
+                return;
+            }
+
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        private boolean accepts(Object value) {
+            if (value == null) {
+                return !primitive;
+            }
+            return valueType.isInstance(value);
+        }
+
+        private static MethodHandle methodHandle(Method method, MethodType type) {
+            if (method == null) {
+                return null;
+            }
+            try {
+                ReflectionUtils.makeAccessible(method);
+                return MethodHandles.lookup().unreflect(method).asType(type);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle fieldHandle(Field field, boolean getter) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                return getter ? lookup.unreflectGetter(field).asType(GETTER_TYPE) : lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.springframework.content.commons.utils;
 
-import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -8,10 +7,15 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.BeansException;
-import org.springframework.util.ReflectionUtils;
-
+import org.springframework.content.commons.utils.AnnotatedFieldIndex.AnnotatedField;
+
+/**
+ * Reflection helpers for reading and writing annotated fields of domain objects.
+ * <p>
+ * Annotated fields and their accessors are resolved once per class and annotation type, so
+ * repeated lookups are a map hit followed by a direct getter, setter or field access.
+ */
 public final class BeanUtils {
 
 	private static final Condition MATCHING_CONDITION = new Condition() {
@@ -39,68 +43,38 @@ public final class BeanUtils {
 	public static Field findFieldWithAnnotation(Object domainObj,
 			Class<? extends Annotation> annotationClass)
 			throws SecurityException, BeansException {
-		BeanWrapper wrapper = new BeanWrapperImpl(domainObj);
-		Field candidate = findFieldWithAnnotation(domainObj.getClass(), annotationClass,
-				wrapper);
-		if (candidate != null)
-			return candidate;
-		return null;
+		return findFieldWithAnnotation(domainObj.getClass(), annotationClass);
 	}
 
 	public static Field findFieldWithAnnotation(Class<?> domainObjClass,
 			Class<? extends Annotation> annotationClass)
 			throws SecurityException, BeansException {
 
-		BeanWrapper wrapper = new BeanWrapperImpl(domainObjClass);
-		Field candidate = findFieldWithAnnotation(domainObjClass, annotationClass,
-				wrapper);
+		AnnotatedField candidate = AnnotatedFieldIndex.forClass(domainObjClass).first(annotationClass);
 		if (candidate != null)
-			return candidate;
+			return candidate.getField();
 		return null;
 	}
 
-	private static Field findFieldWithAnnotation(Class<?> domainObjClass,
+	/**
+	 * @deprecated the wrapper is not used, and building one instantiates the domain class. Use
+	 * {@link #findFieldsWithAnnotation(Class, Class)} instead.
+	 */
+	@Deprecated
+	public static Field[] findFieldsWithAnnotation(Class<?> domainObjClass,
 			Class<? extends Annotation> annotationClass, BeanWrapper wrapper) {
-		PropertyDescriptor[] descriptors = wrapper.getPropertyDescriptors();
-		for (PropertyDescriptor descriptor : descriptors) {
-			Field candidate = getField(domainObjClass, descriptor.getName());
-			if (candidate != null) {
-				if (candidate.getAnnotation(annotationClass) != null) {
-					return candidate;
-				}
-			}
-		}
-
-		for (Field field : getAllFields(domainObjClass)) {
-			if (field.getAnnotation(annotationClass) != null) {
-				return field;
-			}
-		}
-		return null;
+		return findFieldsWithAnnotation(domainObjClass, annotationClass);
 	}
 
 	public static Field[] findFieldsWithAnnotation(Class<?> domainObjClass,
-			Class<? extends Annotation> annotationClass, BeanWrapper wrapper) {
-		List<Field> fields = new ArrayList<>();
-
-		PropertyDescriptor[] descriptors = wrapper.getPropertyDescriptors();
-		for (PropertyDescriptor descriptor : descriptors) {
-			Field candidate = getField(domainObjClass, descriptor.getName());
-			if (candidate != null) {
-				if (candidate.getAnnotation(annotationClass) != null) {
-					fields.add(candidate);
-				}
-			}
-		}
+			Class<? extends Annotation> annotationClass) {
+		AnnotatedField[] candidates = AnnotatedFieldIndex.forClass(domainObjClass).all(annotationClass);
 
-		for (Field field : getAllFields(domainObjClass)) {
-			if (field.getAnnotation(annotationClass) != null) {
-				if (fields.contains(field) == false) {
-					fields.add(field);
-				}
-			}
+		Field[] fields = new Field[candidates.length];
+		for (int i = 0; i < candidates.length; i++) {
+			fields[i] = candidates[i].getField();
 		}
-		return fields.toArray(new Field[] {});
+		return fields;
 	}
 
 	protected static List<Field> getAllFields(Class<?> type) {
@@ -150,18 +124,10 @@ public final class BeanUtils {
 			throws SecurityException, BeansException {
 		Object value = null;
 
-		Field field = findFieldWithAnnotation(domainObj, annotationClass);
-		if (field != null && field.getAnnotation(annotationClass) != null) {
+		AnnotatedField field = AnnotatedFieldIndex.forClass(domainObj.getClass()).first(annotationClass);
+		if (field != null) {
 			try {
-				PropertyDescriptor descriptor = org.springframework.beans.BeanUtils
-						.getPropertyDescriptor(domainObj.getClass(), field.getName());
-				if (descriptor != null) {
-					BeanWrapper wrapper = new BeanWrapperImpl(domainObj);
-					value = wrapper.getPropertyValue(field.getName());
-				}
-				else {
-					value = ReflectionUtils.getField(field, domainObj);
-				}
+				value = field.get(domainObj);
 				return value;
 			}
 			catch (IllegalArgumentException iae) {
@@ -173,33 +139,13 @@ public final class BeanUtils {
 
 	public static Object[] getFieldsWithAnnotation(Object domainObj, Class<? extends Annotation> annotationClass) {
 
-		List<Field> fields = new ArrayList<>();
 		List<Object> values = new ArrayList<>();
 
-		PropertyDescriptor[] descriptors = new BeanWrapperImpl(domainObj).getPropertyDescriptors();
-		for (PropertyDescriptor descriptor : descriptors) {
-			Field candidate = getField(domainObj.getClass(), descriptor.getName());
-			if (candidate != null) {
-				if (candidate.getAnnotation(annotationClass) != null) {
-					try {
-						values.add(candidate.get(domainObj));
-						fields.add(candidate);
-					}
-					catch (IllegalAccessException e) {}
-				}
-			}
-		}
-
-		for (Field field : getAllFields(domainObj.getClass())) {
-			if (field.getAnnotation(annotationClass) != null) {
-				if (fields.contains(field) == false) {
-					try {
-						values.add(field.get(domainObj));
-						fields.add(field);
-					}
-					catch (IllegalAccessException e) {}
-				}
+		for (AnnotatedField field : AnnotatedFieldIndex.forClass(domainObj.getClass()).all(annotationClass)) {
+			try {
+				values.add(field.getField().get(domainObj));
 			}
+			catch (IllegalAccessException e) {}
 		}
 		return values.toArray();
 	}
@@ -230,21 +176,12 @@ public final class BeanUtils {
 			Class<? extends Annotation> annotationClass, Object value,
 			Condition condition) {
 
-		BeanWrapper wrapper = new BeanWrapperImpl(domainObj);
-		Field[] fields = findFieldsWithAnnotation(domainObj.getClass(), annotationClass, wrapper);
-		for (Field field : fields) {
-			if (condition.matches(field)) {
+		AnnotatedField[] fields = AnnotatedFieldIndex.forClass(domainObj.getClass()).all(annotationClass);
+		for (AnnotatedField field : fields) {
+			if (condition.matches(field.getField())) {
 				try {
-					PropertyDescriptor descriptor = org.springframework.beans.BeanUtils
-							.getPropertyDescriptor(domainObj.getClass(), field.getName());
-					if (descriptor != null && descriptor.getWriteMethod() != null) {
-						wrapper.setPropertyValue(field.getName(), value);
-						return;
-					}
-					else {
-						ReflectionUtils.setField(field, domainObj, value);
-						return;
-					}
+					field.set(domainObj, value);
+					return;
 				}
 				catch (IllegalArgumentException iae) {
 				}
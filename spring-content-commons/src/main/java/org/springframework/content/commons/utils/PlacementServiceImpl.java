@@ -6,12 +6,30 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalConverter;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.lang.Nullable;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Conversion service used to place content.
+ * <p>
+ * {@link ContentPropertyInfo} converters are matched on the entity and content id types the
+ * {@link ContentPropertyInfo} is parameterized with. The converter resolved for each
+ * (entity class, content id class, target type) is cached, so that placing content for a
+ * {@link ContentPropertyInfo} costs a single map lookup once warmed up; the cache hit and miss
+ * counts are available from {@link #getContentPropertyInfoCacheHits()} and
+ * {@link #getContentPropertyInfoCacheMisses()}.
+ */
 public class PlacementServiceImpl extends DefaultConversionService implements PlacementService {
 
     public static final String CONTENT_PROPERTY_INFO_GENERIC_PARAMETERS_MISSING_MESSAGE = "Unable to determine entity type <S> and content id type <SID> for " +
@@ -28,6 +46,98 @@ public class PlacementServiceImpl extends DefaultConversionService implements Pl
         this.removeConvertible(Object.class, String.class);
     }
 
+    // most recently added first, matching the precedence GenericConversionService gives converters
+    private final List<ContentPropertyInfoConverterAdapter> contentPropertyInfoConverters = new CopyOnWriteArrayList<>();
+
+    private final Map<ConverterKey, Optional<GenericConverter>> contentPropertyInfoCache = new ConcurrentHashMap<>();
+
+    private final LongAdder contentPropertyInfoCacheHits = new LongAdder();
+    private final LongAdder contentPropertyInfoCacheMisses = new LongAdder();
+
+    /**
+     * Number of {@link ContentPropertyInfo} conversions whose converter was found in the cache.
+     */
+    public long getContentPropertyInfoCacheHits() {
+        return contentPropertyInfoCacheHits.sum();
+    }
+
+    /**
+     * Number of {@link ContentPropertyInfo} conversions whose converter had to be resolved.
+     */
+    public long getContentPropertyInfoCacheMisses() {
+        return contentPropertyInfoCacheMisses.sum();
+    }
+
+    @Override
+    @Nullable
+    protected GenericConverter getConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (sourceType.getType() != ContentPropertyInfo.class || contentPropertyInfoConverters == null) {
+            return super.getConverter(sourceType, targetType);
+        }
+
+        ResolvableType[] generics = sourceType.getResolvableType().getGenerics();
+        Class<?> entityClass = generics.length == 2 ? generics[0].resolve() : null;
+        Class<?> contentIdClass = generics.length == 2 ? generics[1].resolve() : null;
+        if (entityClass == null || contentIdClass == null || !(targetType.getResolvableType().getType() instanceof Class)) {
+            return super.getConverter(sourceType, targetType);
+        }
+
+        ConverterKey key = new ConverterKey(entityClass, contentIdClass, targetType.getType());
+        Optional<GenericConverter> converter = contentPropertyInfoCache.get(key);
+        if (converter != null) {
+            contentPropertyInfoCacheHits.increment();
+            return converter.orElse(null);
+        }
+
+        contentPropertyInfoCacheMisses.increment();
+        boolean cacheable = true;
+        GenericConverter resolved = null;
+        for (ContentPropertyInfoConverterAdapter adapter : contentPropertyInfoConverters) {
+            // conditional converters may look at more than the key, so their outcome cannot be cached
+            cacheable &= adapter.isConditional() == false;
+            if (adapter.matches(sourceType, targetType)) {
+                resolved = adapter;
+                break;
+            }
+        }
+        if (resolved == null) {
+            resolved = super.getConverter(sourceType, targetType);
+        }
+
+        if (cacheable) {
+            contentPropertyInfoCache.put(key, Optional.ofNullable(resolved));
+        }
+        return resolved;
+    }
+
+    @Override
+    public void addConverter(GenericConverter converter) {
+        super.addConverter(converter);
+        if (converter instanceof ContentPropertyInfoConverterAdapter adapter) {
+            contentPropertyInfoConverters.add(0, adapter);
+        }
+        clearContentPropertyInfoCache();
+    }
+
+    @Override
+    public void removeConvertible(Class<?> sourceType, Class<?> targetType) {
+        super.removeConvertible(sourceType, targetType);
+        if (contentPropertyInfoConverters != null) {
+            contentPropertyInfoConverters.removeIf(adapter -> adapter.typeInfo.equals(new ConvertiblePair(sourceType, targetType)));
+        }
+        clearContentPropertyInfoCache();
+    }
+
+    private void clearContentPropertyInfoCache() {
+        // converters are registered by the DefaultConversionService constructor, before fields are initialized
+        if (contentPropertyInfoCache != null) {
+            contentPropertyInfoCache.clear();
+        }
+    }
+
+    private record ConverterKey(Class<?> entityClass, Class<?> contentIdClass, Class<?> targetType) {
+    }
+
     // Duplicate of private org.springframework.core.convert.support.GenericConversionService::getRequiredTypeInfo
     @Nullable
     private ResolvableType[] getRequiredGenericParameters(Class<?> converterClass, Class<?> genericIfc) {
@@ -120,6 +230,10 @@ public class PlacementServiceImpl extends DefaultConversionService implements Pl
             return Collections.singleton(this.typeInfo);
         }
 
+        private boolean isConditional() {
+            return this.converter instanceof ConditionalConverter;
+        }
+
         @Override
         public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
             // targetType checks (same as in GenericConversionService.ConverterAdapter)
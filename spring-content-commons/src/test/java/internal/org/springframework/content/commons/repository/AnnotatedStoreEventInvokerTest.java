@@ -400,6 +400,46 @@ public class AnnotatedStoreEventInvokerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("#hasHandlers")
+	class HasHandlers {
+		private SourceTypedEventHandler typedHandler;
+
+		@BeforeEach
+		void setUp() {
+			typedHandler = new SourceTypedEventHandler();
+			invoker = new AnnotatedStoreEventInvoker();
+			invoker.postProcessAfterInitialization(typedHandler, "typed-bean");
+		}
+
+		@Test
+		@DisplayName("should match handlers on event type and source type")
+		void shouldMatchEventAndSourceType() {
+			assertThat(invoker.hasHandlers(BeforeSetContentEvent.class, EventSource.class), is(true));
+			assertThat(invoker.hasHandlers(BeforeSetContentEvent.class, String.class), is(false));
+			assertThat(invoker.hasHandlers(AfterSetContentEvent.class, EventSource.class), is(false));
+		}
+
+		@Test
+		@DisplayName("should invoke matching handlers without a reflection service")
+		void shouldInvokeMatchingHandlers() {
+			invoker.onApplicationEvent(new BeforeSetContentEvent(new EventSource(), store, (InputStream)null));
+			invoker.onApplicationEvent(new BeforeSetContentEvent("not-an-event-source", store, (InputStream)null));
+
+			assertThat(typedHandler.invocations, is(1));
+		}
+
+		@Test
+		@DisplayName("should see handlers registered after a lookup")
+		void shouldSeeLateHandlers() {
+			assertThat(invoker.hasHandlers(AfterSetContentEvent.class, EventSource.class), is(false));
+
+			invoker.postProcessAfterInitialization(new CustomEventHandler(), "custom-bean");
+
+			assertThat(invoker.hasHandlers(AfterSetContentEvent.class, EventSource.class), is(true));
+		}
+	}
+
 	@StoreEventHandler
 	public class CustomEventHandler {
 
@@ -509,6 +549,17 @@ public class AnnotatedStoreEventInvokerTest {
 		}
 	}
 
+	@StoreEventHandler
+	public class SourceTypedEventHandler {
+
+		private int invocations = 0;
+
+		@HandleBeforeSetContent
+		public void beforeSetContent(EventSource source) {
+			invocations++;
+		}
+	}
+
 	public class EventSource {
 	}
 
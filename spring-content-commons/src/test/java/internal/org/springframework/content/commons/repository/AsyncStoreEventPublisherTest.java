@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.commons.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.content.commons.repository.events.AfterSetContentEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AsyncStoreEventPublisher")
+public class AsyncStoreEventPublisherTest {
+
+	private AsyncStoreEventPublisher asyncPublisher;
+
+	private ExecutorService executor;
+	private List<Object> delivered;
+	private CountDownLatch latch;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+		delivered = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private void expect(int events) {
+		latch = new CountDownLatch(events);
+		ApplicationEventPublisher publisher = event -> {
+			delivered.add(((ApplicationEvent) event).getSource());
+			latch.countDown();
+		};
+		asyncPublisher = new AsyncStoreEventPublisher(publisher, executor, 16);
+	}
+
+	private ApplicationEvent event(Object source) {
+		return new AfterSetContentEvent(source, mock(ContentStore.class));
+	}
+
+	@Test
+	@DisplayName("should deliver the events for the same content in order")
+	void shouldDeliverInOrder() throws Exception {
+		expect(100);
+
+		List<Object> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			TEntity entity = new TEntity("same-id", i);
+			expected.add(entity);
+			asyncPublisher.publish(event(entity), entity);
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+		assertThat(delivered, is(expected));
+		assertThat(asyncPublisher.getPendingEvents(), is(0));
+	}
+
+	@Test
+	@DisplayName("should deliver every event for content whose hash code changes as listeners modify it")
+	void shouldDeliverEventsForMutableContent() throws Exception {
+		latch = new CountDownLatch(10);
+		ApplicationEventPublisher publisher = event -> {
+			MutableEntity entity = (MutableEntity) ((ApplicationEvent) event).getSource();
+			entity.setVersion(entity.getVersion() + 1);
+			delivered.add(entity);
+			latch.countDown();
+		};
+		asyncPublisher = new AsyncStoreEventPublisher(publisher, executor, 16);
+
+		MutableEntity entity = new MutableEntity();
+		for (int i = 0; i < 10; i++) {
+			asyncPublisher.publish(event(entity), entity);
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+		assertThat(delivered.size(), is(10));
+		assertThat(entity.getVersion(), is(10));
+		assertThat(asyncPublisher.getPendingEvents(), is(0));
+	}
+
+	@Nested
+	@DisplayName("given a transaction")
+	class GivenTransaction {
+
+		@BeforeEach
+		void setUp() {
+			TransactionSynchronizationManager.initSynchronization();
+		}
+
+		@AfterEach
+		void tearDown() {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		@Test
+		@DisplayName("should deliver the events after commit")
+		void shouldDeliverAfterCommit() throws Exception {
+			expect(1);
+			TEntity entity = new TEntity("an-id", 0);
+
+			asyncPublisher.publish(event(entity), entity);
+
+			assertThat(delivered, is(empty()));
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCommit();
+			}
+			assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+			assertThat(delivered, contains(entity));
+		}
+
+		@Test
+		@DisplayName("should not deliver the events on rollback")
+		void shouldNotDeliverOnRollback() {
+			expect(1);
+			TEntity entity = new TEntity("an-id", 0);
+
+			asyncPublisher.publish(event(entity), entity);
+
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+			}
+			assertThat(delivered, is(empty()));
+			assertThat(asyncPublisher.getPendingEvents(), is(0));
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class TEntity {
+
+		@ContentId
+		private String contentId;
+
+		private int sequence;
+	}
+
+	@Data
+	public static class MutableEntity {
+
+		private int version;
+	}
+}
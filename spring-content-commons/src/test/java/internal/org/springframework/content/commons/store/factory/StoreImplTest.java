@@ -1,23 +1,43 @@
 package internal.org.springframework.content.commons.store.factory;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.content.commons.repository.events.AfterSetContentEvent;
+import org.springframework.content.commons.repository.events.BeforeSetContentEvent;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 
+import internal.org.springframework.content.commons.repository.StoreEventListenerIndex;
+
 @DisplayName("StoreImpl")
 public class StoreImplTest {
 
@@ -68,5 +88,102 @@ public class StoreImplTest {
                 }
             }
         }
+
+        @Test
+        @DisplayName("should hand the original stream to the delegate when no handler reads it")
+        void shouldPassOriginalStreamWhenUnread() throws Exception {
+            InputStream content = new ByteArrayInputStream("foo".getBytes());
+
+            stores.setContent(new Object(), content);
+
+            ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+            verify(store).setContent(any(Object.class), captor.capture());
+            assertThat(captor.getValue(), is(sameInstance(content)));
+            assertThat(contentCopyPathRoot.toFile().listFiles().length, is(0));
+        }
+
+        @Test
+        @DisplayName("should replay the content read by a handler from memory below the threshold")
+        void shouldReplayFromMemory() throws Exception {
+            readPartOfContentInHandler();
+
+            stores.setContent(new Object(), new ByteArrayInputStream("foo bar".getBytes()));
+
+            ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+            verify(store).setContent(any(Object.class), captor.capture());
+            assertThat(IOUtils.toString(captor.getValue(), StandardCharsets.UTF_8), is("foo bar"));
+        }
+
+        @Test
+        @DisplayName("should replay the content read by a handler from a file above the threshold")
+        void shouldReplayFromFile() throws Exception {
+            stores = new StoreImpl(ContentStore.class, store, publisher, contentCopyPathRoot, 2);
+            readPartOfContentInHandler();
+
+            List<String> replayed = new ArrayList<>();
+            when(store.setContent(any(Object.class), any(InputStream.class))).thenAnswer(invocation -> {
+                assertThat(contentCopyPathRoot.toFile().listFiles().length, is(1));
+                replayed.add(IOUtils.toString((InputStream) invocation.getArgument(1), StandardCharsets.UTF_8));
+                return new Object();
+            });
+
+            stores.setContent(new Object(), new ByteArrayInputStream("foo bar".getBytes()));
+
+            assertThat(replayed, contains("foo bar"));
+            assertThat(contentCopyPathRoot.toFile().listFiles().length, is(0));
+        }
+
+        private void readPartOfContentInHandler() {
+            doAnswer(invocation -> {
+                Object event = invocation.getArgument(0);
+                if (event instanceof BeforeSetContentEvent) {
+                    ((BeforeSetContentEvent) event).getInputStream().read(new byte[3]);
+                }
+                return null;
+            }).when(publisher).publishEvent(any(ApplicationEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("given a listener index with no listeners")
+    class GivenNoListeners {
+
+        private StoreEventListenerIndex listenerIndex;
+
+        @BeforeEach
+        void setUp() {
+            listenerIndex = mock(StoreEventListenerIndex.class);
+            when(listenerIndex.hasListeners(any(), any())).thenReturn(false);
+            stores = new StoreImpl(ContentStore.class, store, publisher, contentCopyPathRoot, StoreImpl.DEFAULT_COPY_CONTENT_THRESHOLD, listenerIndex);
+        }
+
+        @Test
+        @DisplayName("should not publish any events")
+        void shouldNotPublishEvents() {
+            InputStream content = new ByteArrayInputStream("foo".getBytes());
+            when(store.setContent(any(Object.class), any(InputStream.class))).thenReturn(new Object());
+
+            stores.setContent(new Object(), content);
+            stores.getContent(new Object());
+            stores.unsetContent(new Object());
+
+            verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+            ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+            verify(store).setContent(any(Object.class), captor.capture());
+            assertThat(captor.getValue(), is(sameInstance(content)));
+        }
+
+        @Test
+        @DisplayName("should publish only the events that have listeners")
+        void shouldPublishEventsWithListeners() {
+            when(listenerIndex.hasListeners(eq(AfterSetContentEvent.class), any())).thenReturn(true);
+            when(store.setContent(any(Object.class), any(InputStream.class))).thenReturn(new Object());
+
+            stores.setContent(new Object(), new ByteArrayInputStream("foo".getBytes()));
+
+            ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+            verify(publisher).publishEvent(captor.capture());
+            assertThat(captor.getValue(), is(instanceOf(AfterSetContentEvent.class)));
+        }
     }
 }
@@ -17,6 +17,7 @@ import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.content.commons.annotations.MimeType;
+import org.springframework.content.commons.fragments.ContentStoreAware;
 import org.springframework.content.commons.repository.AfterStoreEvent;
 import org.springframework.content.commons.repository.ContentStore;
 import org.springframework.content.commons.repository.StoreEvent;
@@ -550,6 +551,27 @@ public class StoreMethodInterceptorTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("#prepare")
+	class Prepare {
+		@Test
+		@DisplayName("should inject the store into content store aware fragments once and dispatch to them")
+		void shouldInjectStoreOnce() throws Throwable {
+			store = mock(ContentStore.class);
+			AwareFragmentImpl fragment = new AwareFragmentImpl();
+			interceptor = new StoreMethodInterceptor();
+			interceptor.setStoreFragments(new StoreFragments(Collections.singletonList(new StoreFragment(AwareFragment.class, fragment))));
+			interceptor.prepare(store, new Class[]{AwareFragment.class});
+
+			Method m = ReflectionUtils.findMethod(AwareFragment.class, "echo", String.class);
+			assertThat(interceptor.invoke(new TestMethodInvocation(store, m, "foo")), is("foo"));
+			assertThat(interceptor.invoke(new TestMethodInvocation(store, m, "bar")), is("bar"));
+
+			assertThat(fragment.injections, is(1));
+			assertThat(fragment.store, is(store));
+		}
+	}
+
 	private void onBeforeSetContentPublishEvent(PublishEventAction action) {
 		doAnswer(new Answer(){
 			@Override
@@ -600,4 +622,39 @@ public class StoreMethodInterceptorTest {
 		@Override
 		TEntity setContent(TEntity property, InputStream content);
 	}
+
+	public interface AwareFragment {
+		String echo(String value);
+	}
+
+	public static class AwareFragmentImpl implements AwareFragment, ContentStoreAware {
+
+		private int injections = 0;
+		private Object store;
+
+		@Override
+		public String echo(String value) {
+			return value;
+		}
+
+		@Override
+		public void setDomainClass(Class<?> domainClass) {
+		}
+
+		@Override
+		public void setIdClass(Class<?> idClass) {
+		}
+
+		@Override
+		public void setContentStore(ContentStore store) {
+			this.injections++;
+			this.store = store;
+		}
+
+		@Override
+		public void setContentStore(org.springframework.content.commons.store.ContentStore store) {
+			this.injections++;
+			this.store = store;
+		}
+	}
 }
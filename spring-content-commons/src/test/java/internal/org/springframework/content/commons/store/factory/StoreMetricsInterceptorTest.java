@@ -0,0 +1,176 @@
+package internal.org.springframework.content.commons.store.factory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.store.ContentStore;
+import org.springframework.content.commons.store.StoreAccessException;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+public class StoreMetricsInterceptorTest {
+
+	private SimpleMeterRegistry registry;
+	private ContentStore<Object, String> target;
+	private ContentStore<Object, String> store;
+
+	@BeforeEach
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+		target = mock(ContentStore.class);
+
+		store = metered(false);
+	}
+
+	private ContentStore<Object, String> metered(boolean meterResources) {
+		ProxyFactory factory = new ProxyFactory(target);
+		factory.addInterface(ContentStore.class);
+		factory.addAdvice(new StoreMetricsInterceptor(registry, ContentStore.class, target, meterResources));
+		return (ContentStore<Object, String>) factory.getProxy(getClass().getClassLoader());
+	}
+
+	@Test
+	@DisplayName("should time successful operations tagged by store, backend and operation")
+	public void shouldTimeOperations() {
+		store.unsetContent(new Object());
+		store.unsetContent(new Object());
+
+		assertThat(registry.get(StoreMetricsInterceptor.OPERATION_TIMER)
+				.tags("store", "ContentStore", "backend", "unknown", "operation", "unsetContent", "outcome", "success")
+				.timer().count(), is(2L));
+	}
+
+	@Test
+	@DisplayName("should count bytes written through setContent")
+	public void shouldCountBytesWritten() {
+		doAnswer(invocation -> {
+			IOUtils.toByteArray((InputStream) invocation.getArgument(1));
+			return invocation.getArgument(0);
+		}).when(target).setContent(any(), any(InputStream.class));
+
+		store.setContent(new Object(), new ByteArrayInputStream(new byte[1024]));
+
+		assertThat(registry.get(StoreMetricsInterceptor.BYTES_SUMMARY).tags("operation", "setContent").summary().totalAmount(), is(1024.0));
+	}
+
+	@Test
+	@DisplayName("should count bytes read from getContent once the stream is closed")
+	public void shouldCountBytesReadAfterReturn() throws Exception {
+		Object entity = new Object();
+		when(target.getContent(eq(entity))).thenReturn(new ByteArrayInputStream(new byte[512]));
+
+		InputStream content = store.getContent(entity);
+		assertThat(registry.get(StoreMetricsInterceptor.BYTES_SUMMARY).tags("operation", "getContent").summary().count(), is(0L));
+
+		IOUtils.toByteArray(content);
+		content.close();
+
+		assertThat(registry.get(StoreMetricsInterceptor.BYTES_SUMMARY).tags("operation", "getContent").summary().totalAmount(), is(512.0));
+	}
+
+	@Test
+	@DisplayName("should count bytes read through the resource returned by getResource")
+	public void shouldCountBytesReadFromResource() throws Exception {
+		Object entity = new Object();
+		when(target.getResource(eq(entity))).thenReturn(new DeletableByteArrayResource(new byte[256]));
+
+		Resource resource = metered(true).getResource(entity);
+		assertThat(resource, is(instanceOf(DeletableResource.class)));
+
+		try (InputStream in = resource.getInputStream()) {
+			IOUtils.toByteArray(in);
+		}
+		try (ReadableByteChannel channel = resource.readableChannel()) {
+			ByteBuffer buffer = ByteBuffer.allocate(64);
+			while (channel.read(buffer.clear()) >= 0) {
+			}
+		}
+
+		assertThat(registry.get(StoreMetricsInterceptor.BYTES_SUMMARY).tags("operation", "getResource").summary().totalAmount(), is(512.0));
+	}
+
+	@Test
+	@DisplayName("should return resources as they are unless resources are metered")
+	public void shouldNotWrapResourcesByDefault() {
+		Object entity = new Object();
+		Resource resource = new DeletableByteArrayResource(new byte[256]);
+		when(target.getResource(eq(entity))).thenReturn(resource);
+
+		assertThat(store.getResource(entity), is(sameInstance(resource)));
+	}
+
+	@Test
+	@DisplayName("should count bytes transferred from a file channel opened by a metered resource")
+	public void shouldCountBytesTransferredFromFileChannel() throws Exception {
+		Path file = Files.createTempFile("metered", ".bin");
+		try {
+			Files.write(file, new byte[300]);
+			Object entity = new Object();
+			when(target.getResource(eq(entity))).thenReturn(new FileSystemResource(file));
+
+			Resource resource = metered(true).getResource(entity);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try (ReadableByteChannel channel = resource.readableChannel()) {
+				assertThat(channel, is(instanceOf(FileChannel.class)));
+				FileChannel fileChannel = (FileChannel) channel;
+				fileChannel.transferTo(0, fileChannel.size(), Channels.newChannel(out));
+			}
+
+			assertThat(out.size(), is(300));
+			assertThat(registry.get(StoreMetricsInterceptor.BYTES_SUMMARY).tags("operation", "getResource").summary().totalAmount(), is(300.0));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	@DisplayName("should count failures by exception type")
+	public void shouldCountErrors() {
+		when(target.getContent(any())).thenThrow(new StoreAccessException("badness"));
+
+		assertThrows(StoreAccessException.class, () -> store.getContent(new Object()));
+
+		assertThat(registry.get(StoreMetricsInterceptor.ERROR_COUNTER)
+				.tags("operation", "getContent", "exception", "StoreAccessException")
+				.counter().count(), is(1.0));
+	}
+
+	private static class DeletableByteArrayResource extends ByteArrayResource implements DeletableResource {
+
+		DeletableByteArrayResource(byte[] content) {
+			super(content);
+		}
+
+		@Override
+		public void delete() {
+		}
+	}
+}
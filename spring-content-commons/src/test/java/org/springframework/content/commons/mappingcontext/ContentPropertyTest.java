@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.commons.mappingcontext;
+
+import java.util.UUID;
+
+import jakarta.persistence.Id;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the compiled accessors behind {@link ContentProperty}.
+ */
+public class ContentPropertyTest {
+
+    private MappingContext mappingContext;
+
+    @BeforeEach
+    void setUp() {
+        mappingContext = new MappingContext("/", ".");
+    }
+
+    @Nested
+    @DisplayName("given a root content property")
+    class GivenRootContentProperty {
+
+        @Test
+        @DisplayName("should compile accessors when the mapping context resolves the class")
+        void shouldCompileAccessors() {
+            mappingContext.getContentProperty(TestEntity.class, "content");
+
+            assertThat(ContentPropertyAccessor.forPath(TestEntity.class, "contentId").isCompiled(), is(true));
+            assertThat(ContentPropertyAccessor.forPath(TestEntity.class, "contentLength").isCompiled(), is(true));
+        }
+
+        @Test
+        @DisplayName("should read and write content attributes")
+        void shouldReadAndWrite() {
+            ContentProperty property = mappingContext.getContentProperty(TestEntity.class, "content");
+            TestEntity entity = new TestEntity();
+            UUID id = UUID.randomUUID();
+
+            property.setContentId(entity, id, null);
+            property.setContentLength(entity, 42L);
+            property.setMimeType(entity, "text/plain");
+
+            assertThat(entity.getContentId(), is(id));
+            assertThat(property.getContentId(entity), is(id));
+            assertThat(property.getContentLength(entity), is(42L));
+            assertThat(property.getMimeType(entity), is("text/plain"));
+        }
+
+        @Test
+        @DisplayName("should fall back to type conversion for values of a different type")
+        void shouldConvertValues() {
+            ContentProperty property = mappingContext.getContentProperty(TestEntity.class, "content");
+            TestEntity entity = new TestEntity();
+
+            property.setContentLength(entity, 42);
+
+            assertThat(entity.getContentLength(), is(42L));
+        }
+
+        @Test
+        @DisplayName("should honour the condition against the property's annotations")
+        void shouldHonourCondition() {
+            ContentProperty property = mappingContext.getContentProperty(TestEntity.class, "content");
+            TestEntity entity = new TestEntity();
+            UUID id = UUID.randomUUID();
+
+            property.setContentId(entity, id, descriptor -> descriptor.hasAnnotation(Id.class) == false);
+
+            assertThat(entity.getContentId(), is(id));
+        }
+    }
+
+    @Nested
+    @DisplayName("given a nested content property")
+    class GivenNestedContentProperty {
+
+        @Test
+        @DisplayName("should return null when the embedded object is null")
+        void shouldReturnNullForNullEmbedded() {
+            ContentProperty property = mappingContext.getContentProperty(TestEntity.class, "child");
+            TestEntity entity = new TestEntity();
+
+            assertThat(property.getContentId(entity), is(nullValue()));
+            assertThat(entity.getChild(), is(nullValue()));
+        }
+
+        @Test
+        @DisplayName("should auto-grow the embedded object on write")
+        void shouldAutoGrowOnWrite() {
+            ContentProperty property = mappingContext.getContentProperty(TestEntity.class, "child");
+            TestEntity entity = new TestEntity();
+
+            property.setContentId(entity, "an-id", null);
+
+            assertThat(entity.getChild(), is(notNullValue()));
+            assertThat(entity.getChild().getContentId(), is("an-id"));
+            assertThat(property.getContentId(entity), is("an-id"));
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TestEntity {
+
+        @ContentId
+        private UUID contentId;
+
+        @ContentLength
+        private Long contentLength;
+
+        @MimeType
+        private String contentMimeType;
+
+        private Child child;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Child {
+
+        @ContentId
+        private String contentId;
+
+        @ContentLength
+        private long contentLength;
+    }
+}
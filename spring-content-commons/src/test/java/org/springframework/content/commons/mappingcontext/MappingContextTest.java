@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.commons.mappingcontext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.storeservice.StoreFilter;
+import org.springframework.content.commons.storeservice.StoreInfo;
+import org.springframework.content.commons.storeservice.Stores;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MappingContextTest {
+
+    @Test
+    @DisplayName("should resolve a domain class once under concurrent first access")
+    void shouldResolveOnceConcurrently() throws Exception {
+        MappingContext context = new MappingContext("/", ".");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<ContentProperty>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                tasks.add(() -> context.getContentProperty(TestEntity.class, "content"));
+            }
+
+            ContentProperty first = null;
+            for (Future<ContentProperty> future : executor.invokeAll(tasks)) {
+                if (first == null) {
+                    first = future.get();
+                }
+                assertThat(future.get(), is(sameInstance(first)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should resolve every domain class known to the stores when prepared")
+    void shouldPrepareFromStores() {
+        StoreInfo info = mock(StoreInfo.class);
+        doReturn(TestEntity.class).when(info).getDomainObjectClass();
+        Stores stores = mock(Stores.class);
+        when(stores.getStores(any(StoreFilter.class))).thenReturn(new StoreInfo[] {info});
+
+        MappingContext context = new MappingContext("/", ".", stores);
+
+        assertThat(context.hasMapping(TestEntity.class, "content"), is(true));
+    }
+
+    @Getter
+    @Setter
+    public static class TestEntity {
+
+        @ContentId
+        private String contentId;
+
+        @ContentLength
+        private Long contentLength;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.commons.utils;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+import org.springframework.content.commons.annotations.OriginalFileName;
+import org.springframework.content.commons.utils.AnnotatedFieldIndex.AnnotatedField;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AnnotatedFieldIndexTest {
+
+	@Nested
+	@DisplayName("given an inheriting class")
+	class GivenInheritingClass {
+
+		@Test
+		@DisplayName("should find fields declared by a superclass")
+		void shouldFindInheritedFields() {
+			AnnotatedField field = AnnotatedFieldIndex.forClass(InheritingEntity.class).first(ContentId.class);
+
+			assertThat(field.getField().getDeclaringClass(), is(BaseEntity.class));
+		}
+
+		@Test
+		@DisplayName("should read and write inherited fields")
+		void shouldReadAndWriteInheritedFields() {
+			InheritingEntity entity = new InheritingEntity();
+			AnnotatedFieldIndex index = AnnotatedFieldIndex.forClass(InheritingEntity.class);
+
+			index.first(ContentId.class).set(entity, "an id");
+			index.first(ContentLength.class).set(entity, 10L);
+
+			assertThat(entity.contentId, is("an id"));
+			assertThat(entity.getContentLength(), is(10L));
+			assertThat(index.first(ContentId.class).get(entity), is("an id"));
+			assertThat(index.first(ContentLength.class).get(entity), is(10L));
+		}
+
+		@Test
+		@DisplayName("should keep one index per class")
+		void shouldIndexEachClass() {
+			assertThat(AnnotatedFieldIndex.forClass(InheritingEntity.class), is(sameInstance(AnnotatedFieldIndex.forClass(InheritingEntity.class))));
+			assertThat(AnnotatedFieldIndex.forClass(InheritingEntity.class), is(not(sameInstance(AnnotatedFieldIndex.forClass(BaseEntity.class)))));
+			assertThat(AnnotatedFieldIndex.forClass(BaseEntity.class).first(ContentLength.class), is(nullValue()));
+		}
+	}
+
+	@Nested
+	@DisplayName("given a field shadowing a superclass field")
+	class GivenShadowedField {
+
+		@Test
+		@DisplayName("should find the subclass field before the shadowed one")
+		void shouldFindSubclassFieldFirst() {
+			AnnotatedField[] fields = AnnotatedFieldIndex.forClass(ShadowingEntity.class).all(ContentId.class);
+
+			assertThat(fields.length, is(2));
+			assertThat(fields[0].getField().getDeclaringClass(), is(ShadowingEntity.class));
+			assertThat(fields[1].getField().getDeclaringClass(), is(BaseEntity.class));
+			assertThat(BeanUtils.findFieldWithAnnotation(ShadowingEntity.class, ContentId.class), is(fields[0].getField()));
+		}
+
+		@Test
+		@DisplayName("should write the subclass field only")
+		void shouldWriteSubclassField() {
+			ShadowingEntity entity = new ShadowingEntity();
+
+			BeanUtils.setFieldWithAnnotation(entity, ContentId.class, "an id");
+
+			assertThat(entity.contentId, is("an id"));
+			assertThat(((BaseEntity) entity).contentId, is(nullValue()));
+			assertThat(BeanUtils.getFieldWithAnnotation(entity, ContentId.class), is("an id"));
+		}
+	}
+
+	@Nested
+	@DisplayName("given a field with several annotations")
+	class GivenSeveralAnnotations {
+
+		@Test
+		@DisplayName("should find the field under each of its annotations")
+		void shouldFindFieldUnderEachAnnotation() throws NoSuchFieldException {
+			Field name = AnnotatedEntity.class.getDeclaredField("name");
+			AnnotatedFieldIndex index = AnnotatedFieldIndex.forClass(AnnotatedEntity.class);
+
+			assertThat(index.first(ContentId.class).getField(), is(name));
+			assertThat(index.first(OriginalFileName.class).getField(), is(name));
+		}
+
+		@Test
+		@DisplayName("should keep the fields of each annotation apart")
+		void shouldKeepAnnotationsApart() {
+			AnnotatedFieldIndex index = AnnotatedFieldIndex.forClass(AnnotatedEntity.class);
+
+			assertThat(index.all(ContentId.class).length, is(1));
+			assertThat(index.all(MimeType.class).length, is(2));
+			assertThat(index.all(Override.class).length, is(0));
+		}
+
+		@Test
+		@DisplayName("should find fields backing bean properties first")
+		void shouldFindPropertiesFirst() {
+			AnnotatedField[] fields = AnnotatedFieldIndex.forClass(AnnotatedEntity.class).all(MimeType.class);
+
+			assertThat(fields[0].getField().getName(), is("mimeType"));
+			assertThat(fields[1].getField().getName(), is("otherMimeType"));
+		}
+
+		@Test
+		@DisplayName("should convert values its setter does not accept")
+		void shouldConvertValues() {
+			AnnotatedEntity entity = new AnnotatedEntity();
+
+			AnnotatedFieldIndex.forClass(AnnotatedEntity.class).first(ContentLength.class).set(entity, "12");
+
+			assertThat(entity.getContentLength(), is(12L));
+		}
+	}
+
+	public static class BaseEntity {
+		@ContentId
+		public String contentId;
+	}
+
+	public static class InheritingEntity extends BaseEntity {
+		@ContentLength
+		private long contentLength;
+
+		public long getContentLength() {
+			return contentLength;
+		}
+
+		public void setContentLength(long contentLength) {
+			this.contentLength = contentLength;
+		}
+	}
+
+	public static class ShadowingEntity extends BaseEntity {
+		@ContentId
+		public String contentId;
+	}
+
+	public static class AnnotatedEntity {
+		@ContentId
+		@OriginalFileName
+		public String name;
+		@MimeType
+		public String otherMimeType;
+		@MimeType
+		private String mimeType;
+		@ContentLength
+		private long contentLength;
+
+		public String getMimeType() {
+			return mimeType;
+		}
+
+		public void setMimeType(String mimeType) {
+			this.mimeType = mimeType;
+		}
+
+		public long getContentLength() {
+			return contentLength;
+		}
+
+		public void setContentLength(long contentLength) {
+			this.contentLength = contentLength;
+		}
+	}
+}
@@ -1,6 +1,11 @@
 package org.springframework.content.commons.utils;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.content.commons.config.ContentPropertyInfo;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+
+import internal.org.springframework.content.commons.utils.ContentPropertyInfoTypeDescriptor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -27,4 +32,62 @@ public class PlacementServiceImplTest {
 			assertThat(placer.canConvert(Object.class, String.class), is(false));
 		}
 	}
+
+	@Nested
+	@DisplayName("given content property info converters for different entities")
+	class GivenContentPropertyInfoConverters {
+
+		@BeforeEach
+		void setUp() {
+			placer.addConverter(new Converter<ContentPropertyInfo<EntityA, String>, String>() {
+				@Override
+				public String convert(ContentPropertyInfo<EntityA, String> source) {
+					return "a/" + source.contentId();
+				}
+			});
+			placer.addConverter(new Converter<ContentPropertyInfo<EntityB, String>, String>() {
+				@Override
+				public String convert(ContentPropertyInfo<EntityB, String> source) {
+					return "b/" + source.contentId();
+				}
+			});
+		}
+
+		private Object place(Object entity) {
+			TypeDescriptor sourceType = ContentPropertyInfoTypeDescriptor.withGenerics(entity.getClass(), String.class);
+			return placer.convert(ContentPropertyInfo.of(entity, "id", null, null), sourceType, TypeDescriptor.valueOf(String.class));
+		}
+
+		@Test
+		@DisplayName("should use the converter matching each entity")
+		void shouldUseMatchingConverter() {
+			assertThat(place(new EntityA()), is("a/id"));
+			assertThat(place(new EntityB()), is("b/id"));
+			assertThat(place(new EntityA()), is("a/id"));
+		}
+
+		@Test
+		@DisplayName("should resolve the converter once per entity, content id and target type")
+		void shouldCacheResolvedConverter() {
+			place(new EntityA());
+			place(new EntityA());
+			place(new EntityA());
+
+			assertThat(placer.getContentPropertyInfoCacheMisses(), is(1L));
+			assertThat(placer.getContentPropertyInfoCacheHits(), is(2L));
+		}
+
+		@Test
+		@DisplayName("should reuse the content property info type descriptor")
+		void shouldReuseTypeDescriptor() {
+			assertThat(ContentPropertyInfoTypeDescriptor.withGenerics(EntityA.class, String.class) ==
+					ContentPropertyInfoTypeDescriptor.withGenerics(EntityA.class, String.class), is(true));
+		}
+	}
+
+	public static class EntityA {
+	}
+
+	public static class EntityB {
+	}
 }
@@ -108,7 +108,7 @@ public class SearchableImpl implements Searchable<Object> {
 
         List<String> attributesToFetch = new ArrayList<>();
         if (!ContentPropertyUtils.isPrimitiveContentPropertyClass(searchType)) {
-            for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(searchType, Attribute.class, new BeanWrapperImpl(searchType))) {
+            for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(searchType, Attribute.class)) {
                 Attribute fieldAnnotation = field.getAnnotation(Attribute.class);
                 attributesToFetch.add(fieldAnnotation.name());
             }
@@ -252,7 +252,7 @@ public class SearchableImpl implements Searchable<Object> {
                         wrapper.setPropertyValue(highlightField.getName(), hit.getHighlightFields().get("attachment.content").getFragments()[0].string());
                     }
 
-                    for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(resultType, Attribute.class, new BeanWrapperImpl(resultType))) {
+                    for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(resultType, Attribute.class)) {
                         Attribute fieldAnnotation = field.getAnnotation(Attribute.class);
                         wrapper.setPropertyValue(field.getName(), hit.getSourceAsMap().get(fieldAnnotation.name()));
                     }
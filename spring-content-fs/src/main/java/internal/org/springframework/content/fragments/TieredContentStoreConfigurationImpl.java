@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fragments;
+
+import java.time.Duration;
+
+import org.springframework.content.commons.store.Store;
+import org.springframework.content.fs.config.TieredContentStoreConfiguration;
+import org.springframework.util.Assert;
+
+class TieredContentStoreConfigurationImpl implements TieredContentStoreConfiguration {
+
+	private Store<?> secondary;
+	private Duration demoteAfter = Duration.ofDays(30);
+	private Duration demotionInterval = Duration.ofHours(1);
+	private int demotionBatchSize = 1000;
+	private int demotionScanLimit = 100_000;
+	private int promoteAfter = 0;
+
+	@Override
+	public TieredContentStoreConfiguration secondary(Store<?> store) {
+		this.secondary = store;
+		return this;
+	}
+
+	@Override
+	public TieredContentStoreConfiguration demoteAfter(Duration idle) {
+		Assert.isTrue(idle != null && idle.isNegative() == false && idle.isZero() == false, "demoteAfter must be positive");
+		this.demoteAfter = idle;
+		return this;
+	}
+
+	@Override
+	public TieredContentStoreConfiguration demotionInterval(Duration interval) {
+		Assert.isTrue(interval != null && interval.isNegative() == false && interval.isZero() == false, "demotionInterval must be positive");
+		this.demotionInterval = interval;
+		return this;
+	}
+
+	@Override
+	public TieredContentStoreConfiguration demotionBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "demotionBatchSize must be positive");
+		this.demotionBatchSize = batchSize;
+		return this;
+	}
+
+	@Override
+	public TieredContentStoreConfiguration demotionScanLimit(int files) {
+		Assert.isTrue(files > 0, "demotionScanLimit must be positive");
+		this.demotionScanLimit = files;
+		return this;
+	}
+
+	@Override
+	public TieredContentStoreConfiguration promoteAfter(int reads) {
+		Assert.isTrue(reads >= 0, "promoteAfter must not be negative");
+		this.promoteAfter = reads;
+		return this;
+	}
+
+	Store<?> getSecondary() {
+		return secondary;
+	}
+
+	Duration getDemoteAfter() {
+		return demoteAfter;
+	}
+
+	Duration getDemotionInterval() {
+		return demotionInterval;
+	}
+
+	int getDemotionBatchSize() {
+		return demotionBatchSize;
+	}
+
+	int getDemotionScanLimit() {
+		return demotionScanLimit;
+	}
+
+	int getPromoteAfter() {
+		return promoteAfter;
+	}
+}
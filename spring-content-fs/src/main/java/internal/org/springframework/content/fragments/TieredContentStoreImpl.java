@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fragments;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import internal.org.springframework.content.fs.io.FileSystemDeletableResource;
+import internal.org.springframework.content.fs.store.DefaultFilesystemStoreImpl;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.content.commons.fragments.ContentStoreAware;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.io.RangeableResource;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ContentStore;
+import org.springframework.content.commons.store.GetResourceParams;
+import org.springframework.content.commons.store.SetContentParams;
+import org.springframework.content.commons.store.SetContentParams.ContentDisposition;
+import org.springframework.content.commons.store.Store;
+import org.springframework.content.commons.store.StoreAccessException;
+import org.springframework.content.commons.store.UnsetContentParams;
+import org.springframework.content.commons.store.UnsetContentParams.Disposition;
+import org.springframework.content.fs.config.TieredContentStoreConfigurer;
+import org.springframework.content.fs.store.TieredContentStore;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.WritableResource;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Implementation of {@link TieredContentStore} over the filesystem store it is mixed into and
+ * the secondary store given by the store interface's {@link TieredContentStoreConfigurer}.
+ * <p>
+ * Content is written to the filesystem, and any copy held by the secondary store is removed once
+ * the write has completed. Reads are served from the filesystem when it holds the content, and
+ * otherwise from the secondary store; a resource served from the filesystem reads from the
+ * secondary store instead should its content be demoted before it is read. How recently content
+ * was used is kept in its file's last access time, which reads set explicitly, so that tiering
+ * works on filesystems mounted with {@code noatime}, but at most once every sixteenth of the
+ * demotion age, so that reads do not turn into metadata writes. A background thread periodically
+ * moves content neither read nor written for longer than the demotion age to the secondary store,
+ * looking at a bounded number of files each time and resuming where it stopped the time before.
+ * Content moves between the tiers under the filesystem store's lock for its id, so a move never
+ * overlaps a write or delete of the same content.
+ * <p>
+ * Demoted content is removed from the filesystem only once its copy is durable: a copy held in
+ * a file is {@code fsync}'d along with its directory, and any other copy must exist, at its full
+ * length, once its output stream has been closed.
+ */
+public class TieredContentStoreImpl<S, SID extends Serializable> implements TieredContentStore<S, SID>, ContentStoreAware, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(TieredContentStoreImpl.class);
+
+	// bounds the read counts kept for promotion between demotion runs
+	private static final int MAX_TRACKED_READS = 10_000;
+
+	private final MappingContext mappingContext;
+	private final List<TieredContentStoreConfigurer<S>> configurers;
+
+	private DefaultFilesystemStoreImpl<S, SID> hot;
+	private Store<SID> secondary;
+	private Class<? extends SID> idClass;
+
+	private Duration demoteAfter;
+	private Duration demotionInterval;
+	private int demotionBatchSize;
+	private int demotionScanLimit;
+	private int promoteAfter;
+
+	private final Map<SID, AtomicInteger> reads = new ConcurrentHashMap<>();
+	private ScheduledExecutorService demoter;
+	private volatile String demotionCursor;
+
+	@Autowired
+	public TieredContentStoreImpl(
+			@Autowired(required = false) MappingContext mappingContext,
+			List<TieredContentStoreConfigurer<S>> configurers) {
+		this.mappingContext = Optional.ofNullable(mappingContext).orElseGet(() -> new MappingContext("/", "."));
+		this.configurers = configurers;
+	}
+
+	@Override
+	public S setContent(S entity, PropertyPath propertyPath, InputStream content) {
+		return setContent(entity, propertyPath, content, SetContentParams.builder().build());
+	}
+
+	@Override
+	public S setContent(S entity, PropertyPath propertyPath, InputStream content, long contentLen) {
+		return setContent(entity, propertyPath, content, SetContentParams.builder().contentLength(contentLen).build());
+	}
+
+	@Override
+	public S setContent(S entity, PropertyPath propertyPath, InputStream content, SetContentParams params) {
+		Assert.notNull(hot, "store not set");
+
+		SID id = contentId(entity, propertyPath);
+		if (id == null || params.getDisposition() == ContentDisposition.CreateNew) {
+			// new content has no copy in the secondary store
+			return hot.setContent(entity, propertyPath, content, params);
+		}
+
+		Lock lock = hot.getLock(id);
+		lock.lock();
+		try {
+			S result = hot.setContent(entity, propertyPath, content, params);
+			deleteSecondary(id);
+			reads.remove(id);
+			return result;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public S setContent(S entity, PropertyPath propertyPath, Resource resourceContent) {
+		Assert.notNull(resourceContent, "resource not set");
+
+		try (InputStream content = resourceContent.getInputStream()) {
+			return setContent(entity, propertyPath, content, SetContentParams.builder().contentLength(resourceContent.contentLength()).build());
+		} catch (IOException e) {
+			throw new StoreAccessException(String.format("Setting content for entity %s", entity), e);
+		}
+	}
+
+	@Override
+	public S unsetContent(S entity, PropertyPath propertyPath) {
+		return unsetContent(entity, propertyPath, UnsetContentParams.builder().disposition(Disposition.Remove).build());
+	}
+
+	@Override
+	public S unsetContent(S entity, PropertyPath propertyPath, UnsetContentParams params) {
+		Assert.notNull(hot, "store not set");
+
+		SID id = contentId(entity, propertyPath);
+		if (id == null) {
+			return hot.unsetContent(entity, propertyPath, params);
+		}
+
+		Lock lock = hot.getLock(id);
+		lock.lock();
+		try {
+			S result = hot.unsetContent(entity, propertyPath, params);
+			if (params.getDisposition() == Disposition.Remove) {
+				deleteSecondary(id);
+			}
+			reads.remove(id);
+			return result;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public InputStream getContent(S entity, PropertyPath propertyPath) {
+		Resource resource = getResource(entity, propertyPath);
+		if (resource == null || resource.exists() == false) {
+			return null;
+		}
+
+		try {
+			return resource.getInputStream();
+		} catch (IOException e) {
+			throw new StoreAccessException(String.format("Getting content for entity %s", entity), e);
+		}
+	}
+
+	@Override
+	public Resource getResource(S entity, PropertyPath propertyPath) {
+		return getResource(entity, propertyPath, GetResourceParams.builder().build());
+	}
+
+	@Override
+	public Resource getResource(S entity, PropertyPath propertyPath, GetResourceParams params) {
+		Assert.notNull(hot, "store not set");
+
+		Resource resource = hot.getResource(entity, propertyPath, params);
+		if (resource == null) {
+			return null;
+		}
+
+		SID id = contentId(entity, propertyPath);
+		if (resource.exists()) {
+			touch(resource);
+			if (resource instanceof FileSystemDeletableResource file) {
+				// not locked, so may yet be demoted before it is read
+				return new TieredResource(file, () -> secondary.getResource(id), params.getRange());
+			}
+			return resource;
+		}
+
+		Resource cold = secondary.getResource(id);
+		if (cold == null || cold.exists() == false) {
+			// held by neither tier; callers expect the filesystem's resource
+			return resource;
+		}
+
+		if (promoteAfter > 0 && countRead(id) >= promoteAfter) {
+			Resource promoted = promote(entity, propertyPath, id, params);
+			if (promoted != null) {
+				return promoted;
+			}
+		}
+		return withRange(cold, params.getRange());
+	}
+
+	@Override
+	public void setDomainClass(Class<?> domainClass) {
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void setIdClass(Class<?> idClass) {
+		this.idClass = (Class<? extends SID>) idClass;
+	}
+
+	@Override
+	public void setContentStore(org.springframework.content.commons.repository.ContentStore store) {
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void setContentStore(ContentStore store) {
+		if (store == hot) {
+			return;
+		}
+		if (store instanceof DefaultFilesystemStoreImpl == false) {
+			throw new IllegalStateException(String.format("Tiered storage requires a filesystem store, not %s", store));
+		}
+		this.hot = (DefaultFilesystemStoreImpl<S, SID>) store;
+		startDemoter();
+	}
+
+	public void setStoreInterfaceClass(Class<? extends Store<?>> storeInterfaceClass) {
+		configure(storeInterfaceClass);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void configure(Class<? extends Store<?>> storeInterfaceClass) {
+		TieredContentStoreConfigurationImpl config = new TieredContentStoreConfigurationImpl();
+		if (configurers != null) {
+			for (TieredContentStoreConfigurer<?> configurer : configurers) {
+				Optional<Type> interfaces = Arrays.stream(configurer.getClass().getGenericInterfaces()).findFirst();
+				if (interfaces.isEmpty() || interfaces.get() instanceof ParameterizedType == false)
+					continue;
+
+				Type[] genericArguments = ((ParameterizedType) interfaces.get()).getActualTypeArguments();
+				if (genericArguments.length < 1)
+					continue;
+
+				if (genericArguments[0].equals(storeInterfaceClass)) {
+					configurer.configure(config);
+				}
+			}
+		}
+
+		if (config.getSecondary() == null) {
+			throw new IllegalStateException(String.format("No secondary store configured for tiered store %s", storeInterfaceClass.getName()));
+		}
+		this.secondary = (Store<SID>) config.getSecondary();
+		this.demoteAfter = config.getDemoteAfter();
+		this.demotionInterval = config.getDemotionInterval();
+		this.demotionBatchSize = config.getDemotionBatchSize();
+		this.demotionScanLimit = config.getDemotionScanLimit();
+		this.promoteAfter = config.getPromoteAfter();
+	}
+
+	@Override
+	public void destroy() {
+		if (demoter != null) {
+			demoter.shutdownNow();
+		}
+	}
+
+	private synchronized void startDemoter() {
+		if (demoter != null || secondary == null) {
+			return;
+		}
+
+		demoter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "tiered-store-demoter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = demotionInterval.toMillis();
+		demoter.scheduleWithFixedDelay(() -> {
+			try {
+				reads.clear();
+				demote();
+			} catch (RuntimeException e) {
+				logger.warn("Unable to demote content", e);
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Looks at up to the scan limit of files, starting where the previous call stopped, and moves
+	 * the content among them unused for longer than the demotion age to the secondary store a
+	 * batch at a time, returning how many were moved.
+	 */
+	int demote() {
+		if (idClass == null) {
+			return 0;
+		}
+
+		FileTime cutoff = FileTime.from(Instant.now().minus(demoteAfter));
+		int scanned = 0;
+		int demoted = 0;
+		do {
+			List<SID> candidates = new ArrayList<>();
+			AtomicInteger visited = new AtomicInteger();
+			int limit = demotionScanLimit - scanned;
+			try {
+				// null once the walk has reached the end, so that the next one starts over
+				demotionCursor = hot.walk(idClass, demotionCursor, (id, attrs) -> {
+					visited.incrementAndGet();
+					if (lastUsed(attrs).compareTo(cutoff) < 0) {
+						candidates.add(id);
+					}
+					return candidates.size() < demotionBatchSize && visited.get() < limit;
+				});
+			} catch (IOException e) {
+				throw new StoreAccessException("Listing content to demote", e);
+			}
+			scanned += visited.get();
+
+			for (SID id : candidates) {
+				if (Thread.currentThread().isInterrupted()) {
+					return demoted;
+				}
+				if (demote(id, cutoff)) {
+					demoted++;
+				}
+			}
+		} while (demotionCursor != null && scanned < demotionScanLimit);
+		return demoted;
+	}
+
+	private boolean demote(SID id, FileTime cutoff) {
+		Lock lock = hot.getLock(id);
+		lock.lock();
+		try {
+			Resource resource = hot.getResource(id);
+			if (resource == null || resource.isFile() == false) {
+				// packed content is small enough to stay
+				return false;
+			}
+
+			Path file = resource.getFile().toPath();
+			BasicFileAttributes attrs;
+			try {
+				attrs = Files.readAttributes(file, BasicFileAttributes.class);
+			} catch (NoSuchFileException e) {
+				return false;
+			}
+			if (lastUsed(attrs).compareTo(cutoff) >= 0) {
+				// used since it was listed
+				return false;
+			}
+
+			Resource cold = secondary.getResource(id);
+			if (cold instanceof WritableResource writable) {
+				Path copy = cold.isFile() ? cold.getFile().toPath() : null;
+				if (copy != null) {
+					Files.createDirectories(copy.getParent());
+				}
+				try (InputStream in = Files.newInputStream(file); OutputStream out = writable.getOutputStream()) {
+					StreamUtils.copy(in, out);
+				}
+				if (copy != null) {
+					sync(copy);
+				} else {
+					verifyCopy(id, attrs.size());
+				}
+			} else {
+				throw new StoreAccessException(String.format("Secondary store resource %s is not writable", cold));
+			}
+			((DeletableResource) resource).delete();
+			return true;
+		} catch (IOException e) {
+			logger.warn(String.format("Unable to demote content %s", id), e);
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Makes the copy of demoted content in {@code file} durable, along with its directory entry.
+	 */
+	private static void sync(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.force(true);
+		}
+		try (FileChannel directory = FileChannel.open(file.getParent(), StandardOpenOption.READ)) {
+			directory.force(true);
+		} catch (IOException e) {
+			// best effort; not every platform can fsync a directory
+			logger.debug(String.format("Unable to fsync directory %s", file.getParent()), e);
+		}
+	}
+
+	/**
+	 * Checks that the secondary store holds the whole of the demoted content once its output
+	 * stream has been closed, before the filesystem's copy is removed.
+	 */
+	private void verifyCopy(SID id, long length) throws IOException {
+		Resource copied = secondary.getResource(id);
+		if (copied == null || copied.exists() == false || copied.contentLength() != length) {
+			throw new IOException(String.format("Secondary store does not hold the whole of content %s", id));
+		}
+	}
+
+	private Resource promote(S entity, PropertyPath propertyPath, SID id, GetResourceParams params) {
+		Lock lock = hot.getLock(id);
+		lock.lock();
+		try {
+			Resource cold = secondary.getResource(id);
+			if (cold == null || cold.exists() == false) {
+				// promoted or removed meanwhile
+				Resource resource = hot.getResource(entity, propertyPath, params);
+				return resource != null && resource.exists() ? resource : null;
+			}
+
+			try (InputStream in = cold.getInputStream()) {
+				hot.setContent(entity, propertyPath, in, SetContentParams.builder().contentLength(cold.contentLength()).build());
+			}
+			deleteSecondary(id);
+			reads.remove(id);
+			return hot.getResource(entity, propertyPath, params);
+		} catch (IOException | StoreAccessException e) {
+			logger.warn(String.format("Unable to promote content %s", id), e);
+			return null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int countRead(SID id) {
+		if (reads.size() >= MAX_TRACKED_READS) {
+			reads.clear();
+		}
+		return reads.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+	}
+
+	/**
+	 * Records a read of {@code resource} in its file's last access time, unless that was set
+	 * less than a sixteenth of the demotion age ago.
+	 */
+	private void touch(Resource resource) {
+		if (resource.isFile() == false) {
+			return;
+		}
+
+		try {
+			BasicFileAttributeView view = Files.getFileAttributeView(resource.getFile().toPath(), BasicFileAttributeView.class);
+			Instant now = Instant.now();
+			if (view.readAttributes().lastAccessTime().toInstant().isBefore(now.minus(demoteAfter.dividedBy(16)))) {
+				view.setTimes(null, FileTime.from(now), null);
+			}
+		} catch (IOException e) {
+			// best effort; at worst the content is demoted early and read from the secondary store
+		}
+	}
+
+	private void deleteSecondary(SID id) {
+		Resource cold = secondary.getResource(id);
+		if (cold instanceof DeletableResource deletable && cold.exists()) {
+			try {
+				deletable.delete();
+			} catch (IOException e) {
+				throw new StoreAccessException(String.format("Deleting content %s from the secondary store", id), e);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private SID contentId(S entity, PropertyPath propertyPath) {
+		ContentProperty property = mappingContext.getContentProperty(entity.getClass(), propertyPath.getName());
+		if (property == null) {
+			throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
+		}
+		return (SID) property.getContentId(entity);
+	}
+
+	private static FileTime lastUsed(BasicFileAttributes attrs) {
+		FileTime accessed = attrs.lastAccessTime();
+		FileTime modified = attrs.lastModifiedTime();
+		return accessed.compareTo(modified) > 0 ? accessed : modified;
+	}
+
+	private static Resource withRange(Resource resource, String range) {
+		if (range != null && resource instanceof RangeableResource rangeable) {
+			rangeable.setRange(range);
+		}
+		return resource;
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fragments;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.util.function.Supplier;
+
+import internal.org.springframework.content.fs.io.FileSystemDeletableResource;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.io.IdentifiableResource;
+import org.springframework.content.commons.io.RangeableResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.WritableResource;
+
+/**
+ * Resource for content held by the filesystem tier of a tiered store.
+ * <p>
+ * The resource is handed out without the lock for its id, so the content may be demoted after
+ * the resource was looked up but before it is read. Reads therefore prefer the file and, once
+ * it has gone, fall back to the secondary store that the content was moved to. Writes and
+ * deletes always go to the file.
+ */
+class TieredResource implements WritableResource, DeletableResource, IdentifiableResource, RangeableResource {
+
+	private final FileSystemDeletableResource resource;
+	private final Supplier<Resource> secondary;
+	private String range;
+
+	TieredResource(FileSystemDeletableResource resource, Supplier<Resource> secondary, String range) {
+		this.resource = resource;
+		this.secondary = secondary;
+		this.range = range;
+	}
+
+	@Override
+	public void setRange(String range) {
+		this.range = range;
+		resource.setRange(range);
+	}
+
+	@Override
+	public boolean exists() {
+		return resource.exists() || demoted() != null;
+	}
+
+	@Override
+	public boolean isReadable() {
+		return resource.isReadable() || demoted() != null;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		try {
+			return resource.getInputStream();
+		} catch (FileNotFoundException | NoSuchFileException e) {
+			Resource demoted = demoted();
+			if (demoted == null) {
+				throw e;
+			}
+			return demoted.getInputStream();
+		}
+	}
+
+	@Override
+	public boolean isFile() {
+		return resource.isFile();
+	}
+
+	@Override
+	public ReadableByteChannel readableChannel() throws IOException {
+		try {
+			return resource.readableChannel();
+		} catch (FileNotFoundException | NoSuchFileException e) {
+			Resource demoted = demoted();
+			if (demoted == null) {
+				throw e;
+			}
+			return demoted.readableChannel();
+		}
+	}
+
+	@Override
+	public long contentLength() throws IOException {
+		try {
+			return resource.contentLength();
+		} catch (FileNotFoundException | NoSuchFileException e) {
+			Resource demoted = demoted();
+			if (demoted == null) {
+				throw e;
+			}
+			return demoted.contentLength();
+		}
+	}
+
+	@Override
+	public long lastModified() throws IOException {
+		try {
+			return resource.lastModified();
+		} catch (FileNotFoundException | NoSuchFileException e) {
+			Resource demoted = demoted();
+			if (demoted == null) {
+				throw e;
+			}
+			return demoted.lastModified();
+		}
+	}
+
+	/**
+	 * Returns the secondary store's copy of the content, ranged as this resource is, or
+	 * {@code null} when it holds none.
+	 */
+	private Resource demoted() {
+		Resource demoted = secondary.get();
+		if (demoted == null || demoted.exists() == false) {
+			return null;
+		}
+		if (range != null && demoted instanceof RangeableResource rangeable) {
+			rangeable.setRange(range);
+		}
+		return demoted;
+	}
+
+	@Override
+	public boolean isWritable() {
+		return resource.isWritable();
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		return resource.getOutputStream();
+	}
+
+	@Override
+	public WritableByteChannel writableChannel() throws IOException {
+		return resource.writableChannel();
+	}
+
+	@Override
+	public void delete() throws IOException {
+		resource.delete();
+	}
+
+	@Override
+	public Serializable getId() {
+		return resource.getId();
+	}
+
+	@Override
+	public void setId(Serializable id) {
+		resource.setId(id);
+	}
+
+	@Override
+	public boolean isOpen() {
+		return resource.isOpen();
+	}
+
+	@Override
+	public URL getURL() throws IOException {
+		return resource.getURL();
+	}
+
+	@Override
+	public URI getURI() throws IOException {
+		return resource.getURI();
+	}
+
+	@Override
+	public File getFile() throws IOException {
+		return resource.getFile();
+	}
+
+	@Override
+	public Resource createRelative(String relativePath) throws IOException {
+		return resource.createRelative(relativePath);
+	}
+
+	@Override
+	public String getFilename() {
+		return resource.getFilename();
+	}
+
+	@Override
+	public String getDescription() {
+		return resource.getDescription();
+	}
+
+	@Override
+	public String toString() {
+		return resource.toString();
+	}
+}
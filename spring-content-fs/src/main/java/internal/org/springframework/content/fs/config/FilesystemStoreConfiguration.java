@@ -9,7 +9,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.converter.ConverterRegistry;
 
+import internal.org.springframework.content.fs.store.GroupCommitFlusher;
+
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -32,6 +35,23 @@ public class FilesystemStoreConfiguration {
 		return conversion;
 	}
 
+	@Bean("filesystemStoreProperties")
+	public FilesystemStorePropertiesImpl filesystemStoreProperties() {
+		FilesystemStorePropertiesImpl properties = new FilesystemStorePropertiesImpl();
+		if (configurers != null) {
+			for (FilesystemStoreConfigurer configurer : configurers) {
+				configurer.configure(properties);
+			}
+		}
+		return properties;
+	}
+
+	@Bean("filesystemStoreGroupCommitFlusher")
+	public GroupCommitFlusher filesystemStoreGroupCommitFlusher() {
+		Duration window = filesystemStoreProperties().getGroupCommitWindow();
+		return new GroupCommitFlusher(window != null ? window : Duration.ZERO);
+	}
+
 	protected void addConverters(ConverterRegistry registry) {
 		if (configurers == null)
 			return;
@@ -1,11 +1,13 @@
 package internal.org.springframework.content.fs.config;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.content.commons.mappingcontext.MappingContext;
 import org.springframework.content.commons.repository.Store;
+import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.content.commons.store.factory.AbstractStoreFactoryBean;
 import org.springframework.content.commons.utils.FileServiceImpl;
 import org.springframework.content.commons.utils.PlacementService;
@@ -14,6 +16,8 @@ import org.springframework.util.Assert;
 import org.springframework.versions.LockingAndVersioningProxyFactory;
 
 import internal.org.springframework.content.fs.store.DefaultFilesystemStoreImpl;
+import internal.org.springframework.content.fs.store.DefaultReactiveFilesystemStoreImpl;
+import internal.org.springframework.content.fs.store.GroupCommitFlusher;
 
 @SuppressWarnings("rawtypes")
 public class FilesystemStoreFactoryBean extends AbstractStoreFactoryBean {
@@ -31,6 +35,12 @@ public class FilesystemStoreFactoryBean extends AbstractStoreFactoryBean {
     @Autowired(required=false)
     private MappingContext mappingContext;
 
+	@Autowired(required=false)
+	private FilesystemStorePropertiesImpl filesystemStoreProperties = new FilesystemStorePropertiesImpl();
+
+	@Autowired(required=false)
+	private GroupCommitFlusher groupCommitFlusher;
+
 	public FilesystemStoreFactoryBean(Class<? extends Store> storeInterface) {
 		super(storeInterface);
 	}
@@ -52,6 +62,12 @@ public class FilesystemStoreFactoryBean extends AbstractStoreFactoryBean {
 
 	@Override
 	protected Object getContentStoreImpl() {
-		return new DefaultFilesystemStoreImpl(loader, mappingContext, filesystemStorePlacementService, new FileServiceImpl());
+		GroupCommitFlusher flusher = filesystemStoreProperties.getGroupCommitWindow() != null ? groupCommitFlusher : null;
+
+		if (ClassUtils.getAllInterfaces(getStoreInterface()).contains(ReactiveContentStore.class)
+				|| ClassUtils.getAllInterfaces(getStoreInterface()).contains(org.springframework.content.commons.repository.ReactiveContentStore.class)) {
+			return new DefaultReactiveFilesystemStoreImpl(loader, mappingContext, filesystemStorePlacementService, new FileServiceImpl(), filesystemStoreProperties, flusher);
+		}
+		return new DefaultFilesystemStoreImpl(loader, mappingContext, filesystemStorePlacementService, new FileServiceImpl(), filesystemStoreProperties, flusher);
 	}
 }
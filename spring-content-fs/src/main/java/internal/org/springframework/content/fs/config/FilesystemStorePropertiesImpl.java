@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.config;
+
+import java.time.Duration;
+
+import org.springframework.content.fs.config.FilesystemStoreProperties;
+import org.springframework.util.Assert;
+
+import internal.org.springframework.content.fs.io.ShardedLayout;
+
+public class FilesystemStorePropertiesImpl implements FilesystemStoreProperties {
+
+	static final long MAX_PACKING_THRESHOLD = 16L * 1024 * 1024;
+
+	private int shardLevels = 0;
+	private int shardWidth = 2;
+	private boolean shardingMigration = false;
+	private Duration groupCommitWindow = null;
+	private int writeBufferSize = 8192;
+	private long preallocationThreshold = Long.MAX_VALUE;
+	private long directIoThreshold = Long.MAX_VALUE;
+	private int directIoBufferSize = 1024 * 1024;
+	private long packingThreshold = 0;
+
+	@Override
+	public FilesystemStoreProperties sharding(int levels, int width) {
+		Assert.isTrue(levels >= 0, "levels must not be negative");
+		Assert.isTrue(levels == 0 || width > 0, "width must be positive");
+		Assert.isTrue(levels * width <= ShardedLayout.MAX_DIGITS, "levels * width must not exceed " + ShardedLayout.MAX_DIGITS);
+		this.shardLevels = levels;
+		this.shardWidth = width;
+		return this;
+	}
+
+	@Override
+	public FilesystemStoreProperties shardingMigration(boolean migrating) {
+		this.shardingMigration = migrating;
+		return this;
+	}
+
+	@Override
+	public FilesystemStoreProperties groupCommit(Duration window) {
+		Assert.notNull(window, "window must not be null");
+		Assert.isTrue(window.isNegative() == false, "window must not be negative");
+		this.groupCommitWindow = window;
+		return this;
+	}
+
+	@Override
+	public FilesystemStoreProperties writeBufferSize(int bytes) {
+		Assert.isTrue(bytes > 0, "buffer size must be positive");
+		this.writeBufferSize = bytes;
+		return this;
+	}
+
+	@Override
+	public FilesystemStoreProperties preallocation(long threshold) {
+		Assert.isTrue(threshold >= 0, "threshold must not be negative");
+		this.preallocationThreshold = threshold;
+		return this;
+	}
+
+	@Override
+	public FilesystemStoreProperties directIo(long threshold, int bufferSize) {
+		Assert.isTrue(threshold >= 0, "threshold must not be negative");
+		Assert.isTrue(bufferSize > 0, "buffer size must be positive");
+		this.directIoThreshold = threshold;
+		this.directIoBufferSize = bufferSize;
+		return this;
+	}
+
+	@Override
+	public FilesystemStoreProperties packing(long threshold) {
+		Assert.isTrue(threshold >= 0, "threshold must not be negative");
+		Assert.isTrue(threshold <= MAX_PACKING_THRESHOLD, "threshold must not exceed " + MAX_PACKING_THRESHOLD);
+		this.packingThreshold = threshold;
+		return this;
+	}
+
+	public int getShardLevels() {
+		return shardLevels;
+	}
+
+	public int getShardWidth() {
+		return shardWidth;
+	}
+
+	public boolean isShardingMigration() {
+		return shardingMigration;
+	}
+
+	/**
+	 * Returns the sharded layout, or {@code null} when content is placed at its location as-is.
+	 */
+	public ShardedLayout getShardedLayout() {
+		return shardLevels > 0 ? new ShardedLayout(shardLevels, shardWidth) : null;
+	}
+
+	/**
+	 * Returns the group commit window, or {@code null} when every write is made durable on its own.
+	 */
+	public Duration getGroupCommitWindow() {
+		return groupCommitWindow;
+	}
+
+	public int getWriteBufferSize() {
+		return writeBufferSize;
+	}
+
+	/**
+	 * Returns the content length from which content is preallocated; {@link Long#MAX_VALUE} when disabled.
+	 */
+	public long getPreallocationThreshold() {
+		return preallocationThreshold;
+	}
+
+	/**
+	 * Returns the content length from which content is written with direct I/O; {@link Long#MAX_VALUE} when disabled.
+	 */
+	public long getDirectIoThreshold() {
+		return directIoThreshold;
+	}
+
+	public int getDirectIoBufferSize() {
+		return directIoBufferSize;
+	}
+
+	/**
+	 * Returns the content length below which content is packed; 0 when packing is disabled.
+	 */
+	public long getPackingThreshold() {
+		return packingThreshold;
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Removes directories left empty by deleted content, in the background.
+ * <p>
+ * Deletes hand the directory that held the content to {@link #reap(Path)} and return straight
+ * away. Candidates are collected for the configured delay and then reaped together, deepest
+ * first, each directory being removed if it is empty and its parent then considered in turn.
+ * Emptiness is checked with a {@link DirectoryStream} that stops at the first entry, and the
+ * reaper never removes the store root or anything outside it.
+ * <p>
+ * A writer that has just created a directory may find it reaped before it creates its file
+ * there. Removing a directory only succeeds while it is empty, so writers recreate the
+ * directory and retry when their file cannot be created (see
+ * {@code DefaultFilesystemStoreImpl}).
+ */
+public class DirectoryReaper {
+
+	private static Log logger = LogFactory.getLog(DirectoryReaper.class);
+
+	public static final Duration DEFAULT_DELAY = Duration.ofSeconds(1);
+
+	private final Path root;
+	private final long delayMillis;
+	private final Set<Path> candidates = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+	private ScheduledExecutorService executor;
+	private boolean closed = false;
+
+	public DirectoryReaper(Path root, Duration delay) {
+		Assert.notNull(root, "root must not be null");
+		Assert.isTrue(delay != null && delay.isNegative() == false, "delay must not be negative");
+		this.root = root.toAbsolutePath().normalize();
+		this.delayMillis = delay.toMillis();
+	}
+
+	public Path getRoot() {
+		return root;
+	}
+
+	/**
+	 * Removes {@code directory}, and then its parents up to the root, if they are empty once the
+	 * reaper next runs.
+	 */
+	public void reap(Path directory) {
+		Path candidate = directory.toAbsolutePath().normalize();
+		if (isBelowRoot(candidate) == false) {
+			return;
+		}
+
+		candidates.add(candidate);
+		if (scheduled.compareAndSet(false, true) && schedule() == false) {
+			reapAll();
+		}
+	}
+
+	private synchronized boolean schedule() {
+		if (closed) {
+			return false;
+		}
+		if (executor == null) {
+			executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "filesystem-store-directory-reaper");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		executor.schedule(this::reapAll, delayMillis, TimeUnit.MILLISECONDS);
+		return true;
+	}
+
+	/**
+	 * Stops the background reaper and reaps any outstanding candidates on the calling thread.
+	 * Directories handed to the reaper from then on are reaped straight away.
+	 */
+	public void destroy() {
+		ScheduledExecutorService toStop;
+		synchronized (this) {
+			closed = true;
+			toStop = executor;
+		}
+		if (toStop != null) {
+			toStop.shutdown();
+			try {
+				toStop.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		reapAll();
+	}
+
+	void reapAll() {
+		scheduled.set(false);
+
+		List<Path> batch = new ArrayList<>();
+		for (Iterator<Path> it = candidates.iterator(); it.hasNext();) {
+			batch.add(it.next());
+			it.remove();
+		}
+		batch.sort(Comparator.comparingInt(Path::getNameCount).reversed());
+
+		for (Path directory : batch) {
+			Path dir = directory;
+			while (isBelowRoot(dir) && removeIfEmpty(dir)) {
+				dir = dir.getParent();
+			}
+		}
+	}
+
+	private boolean isBelowRoot(Path dir) {
+		return dir != null && dir.startsWith(root) && dir.equals(root) == false;
+	}
+
+	private boolean removeIfEmpty(Path dir) {
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+			if (entries.iterator().hasNext()) {
+				return false;
+			}
+		} catch (NoSuchFileException e) {
+			// already removed; its parent may be empty too
+			return true;
+		} catch (NotDirectoryException e) {
+			return false;
+		} catch (IOException e) {
+			logger.debug(format("Unable to list %s", dir), e);
+			return false;
+		}
+
+		try {
+			Files.delete(dir);
+			return true;
+		} catch (DirectoryNotEmptyException e) {
+			// a writer created content here since it was listed
+			return false;
+		} catch (NoSuchFileException e) {
+			return true;
+		} catch (IOException e) {
+			logger.debug(format("Unable to remove orphaned directory %s", dir), e);
+			return false;
+		}
+	}
+}
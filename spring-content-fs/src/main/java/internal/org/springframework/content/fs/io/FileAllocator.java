@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import static java.lang.String.format;
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Path;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Reserves disk space for a file up-front with {@code posix_fallocate(3)}, so that a large file
+ * written sequentially is laid out in as few extents as the file system can manage.
+ * <p>
+ * The JDK offers no way to preallocate, so the C library is called through the foreign function
+ * API. Where {@code posix_fallocate} is not available, or native access has been denied,
+ * {@link #allocate(Path, long)} does nothing and reports so. Run with
+ * {@code --enable-native-access=ALL-UNNAMED} to avoid the JDK's warning on first use.
+ */
+public final class FileAllocator {
+
+	private static Log logger = LogFactory.getLog(FileAllocator.class);
+
+	private static final int O_WRONLY = 1;
+
+	private static final MethodHandle OPEN;
+	private static final MethodHandle FALLOCATE;
+	private static final MethodHandle CLOSE;
+
+	static {
+		MethodHandle open = null;
+		MethodHandle fallocate = null;
+		MethodHandle close = null;
+		try {
+			Linker linker = Linker.nativeLinker();
+			SymbolLookup libc = linker.defaultLookup();
+			MemorySegment fallocateSymbol = libc.find("posix_fallocate").orElse(null);
+			if (fallocateSymbol != null) {
+				open = linker.downcallHandle(libc.find("open").orElseThrow(),
+						FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT), Linker.Option.firstVariadicArg(2));
+				fallocate = linker.downcallHandle(fallocateSymbol,
+						FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG));
+				close = linker.downcallHandle(libc.find("close").orElseThrow(),
+						FunctionDescriptor.of(JAVA_INT, JAVA_INT));
+			}
+		} catch (RuntimeException | LinkageError e) {
+			logger.debug("posix_fallocate is not available; files will not be preallocated", e);
+			open = null;
+			fallocate = null;
+			close = null;
+		}
+		OPEN = open;
+		FALLOCATE = fallocate;
+		CLOSE = close;
+	}
+
+	private FileAllocator() {
+	}
+
+	public static boolean isAvailable() {
+		return FALLOCATE != null;
+	}
+
+	/**
+	 * Allocates {@code length} bytes of disk space to the existing file at {@code path},
+	 * extending its size to {@code length} if it is shorter.
+	 *
+	 * @return whether the space was allocated
+	 */
+	public static boolean allocate(Path path, long length) {
+		if (FALLOCATE == null || length <= 0) {
+			return false;
+		}
+
+		try (Arena arena = Arena.ofConfined()) {
+			int fd = (int) OPEN.invokeExact(arena.allocateFrom(path.toString()), O_WRONLY, 0);
+			if (fd < 0) {
+				return false;
+			}
+			try {
+				int error = (int) FALLOCATE.invokeExact(fd, 0L, length);
+				if (error != 0) {
+					logger.debug(format("posix_fallocate of %d bytes failed for %s with error %d", length, path, error));
+				}
+				return error == 0;
+			} finally {
+				int ignored = (int) CLOSE.invokeExact(fd);
+			}
+		} catch (Throwable t) {
+			logger.debug(format("Unable to preallocate %s", path), t);
+			return false;
+		}
+	}
+}
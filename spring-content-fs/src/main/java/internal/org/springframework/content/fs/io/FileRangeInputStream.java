@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stream over a single byte range of a file, read with positional {@link FileChannel} reads.
+ * <p>
+ * Like the streams other {@link org.springframework.content.commons.io.RangeableResource}s
+ * return, positions are those of the whole file: the stream starts at the beginning of the file
+ * and callers {@link #skip(long) skip} to the start of the range, which costs nothing here since
+ * no bytes are read to get there. The stream ends at the end of the range.
+ */
+public class FileRangeInputStream extends InputStream {
+
+	// As per https://www.rfc-editor.org/rfc/rfc9110.html#name-range; single-range support only
+	private static final Pattern RANGE_PATTERN = Pattern.compile("\\Abytes=(?<firstPos>[0-9]*)-(?<lastPos>[0-9]*)\\Z");
+
+	private final FileChannel channel;
+	private final long end;
+	private long position = 0;
+	private long mark = 0;
+
+	FileRangeInputStream(FileChannel channel, long end) {
+		this.channel = channel;
+		this.end = end;
+	}
+
+	/**
+	 * The bytes of a file selected by an HTTP byte range, from {@code first} inclusive to
+	 * {@code end} exclusive. The range selects no bytes when {@code first} is not before
+	 * {@code end}.
+	 */
+	public record Bounds(long first, long end) {
+	}
+
+	/**
+	 * Opens the file at {@code path} for the given HTTP byte range, or returns {@code null} when
+	 * {@code range} is not a single byte range this stream can serve.
+	 */
+	public static InputStream open(Path path, String range) throws IOException {
+		Matcher matcher = match(range);
+		if (matcher == null) {
+			return null;
+		}
+
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new FileRangeInputStream(channel, bounds(matcher, channel.size()).end());
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Resolves the given HTTP byte range against a file of {@code size} bytes, or returns
+	 * {@code null} when {@code range} is not a single byte range this stream can serve.
+	 */
+	public static Bounds bounds(String range, long size) {
+		Matcher matcher = match(range);
+		return matcher != null ? bounds(matcher, size) : null;
+	}
+
+	private static Matcher match(String range) {
+		Matcher matcher = RANGE_PATTERN.matcher(range);
+		if (matcher.matches() == false) {
+			return null;
+		}
+		if (matcher.group("firstPos").isEmpty() && matcher.group("lastPos").isEmpty()) {
+			return null;
+		}
+		return matcher;
+	}
+
+	private static Bounds bounds(Matcher matcher, long size) {
+		String firstPos = matcher.group("firstPos");
+		String lastPos = matcher.group("lastPos");
+		if (firstPos.isEmpty()) {
+			return new Bounds(Math.max(0, size - Long.parseLong(lastPos)), size);
+		}
+		long end = size;
+		if (lastPos.isEmpty() == false) {
+			end = Math.min(size, Long.parseLong(lastPos) + 1);
+		}
+		return new Bounds(Long.parseLong(firstPos), end);
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] b = new byte[1];
+		return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+		if (position >= end) {
+			return -1;
+		}
+
+		int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+		if (read == -1) {
+			return -1;
+		}
+		position += read;
+		return read;
+	}
+
+	@Override
+	public long skip(long n) {
+		if (n <= 0 || position >= end) {
+			return 0;
+		}
+		long skipped = Math.min(n, end - position);
+		position += skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return (int) Math.min(Math.max(end - position, 0), Integer.MAX_VALUE);
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		mark = position;
+	}
+
+	@Override
+	public synchronized void reset() {
+		position = mark;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -9,31 +9,47 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.content.commons.io.DeletableResource;
 import org.springframework.content.commons.io.IdentifiableResource;
+import org.springframework.content.commons.io.RangeableResource;
 import org.springframework.content.commons.utils.FileService;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.WritableResource;
 
-public class FileSystemDeletableResource implements WritableResource, DeletableResource, IdentifiableResource {
+public class FileSystemDeletableResource implements WritableResource, DeletableResource, IdentifiableResource, RangeableResource {
 
 	private static Log logger = LogFactory.getLog(FileSystemDeletableResource.class);
 
 	private final FileSystemResource resource;
 	private Serializable id;
 	private final FileService fileService;
+	private final DirectoryReaper reaper;
+	private String range;
 
 
 	public FileSystemDeletableResource(FileSystemResource resource, FileService fileService) {
+		this(resource, fileService, null);
+	}
+
+	/**
+	 * @param reaper removes the directories deletes leave empty in the background; when
+	 *               {@code null} they are removed by {@code fileService} before
+	 *               {@link #delete()} returns
+	 */
+	public FileSystemDeletableResource(FileSystemResource resource, FileService fileService, DirectoryReaper reaper) {
 		this.resource = resource;
 		this.fileService = fileService;
+		this.reaper = reaper;
 	}
 
 	@Override
@@ -47,7 +63,9 @@ public class FileSystemDeletableResource implements WritableResource, DeletableR
 			logger.warn(format("Unable to get file for resource %s", resource));
 		}
 
-		if (parent != null) {
+		if (parent != null && reaper != null) {
+			reaper.reap(parent.toPath());
+		} else if (parent != null) {
 			try {
 				fileService.rmdirs(parent);
 			} catch (IOException e) {
@@ -75,11 +93,43 @@ public class FileSystemDeletableResource implements WritableResource, DeletableR
 		return resource.isReadable();
 	}
 
+	/**
+	 * Sets the byte range that {@link #getInputStream()} serves. The stream then reads the file
+	 * with positional reads and ends at the end of the range; see {@link FileRangeInputStream}.
+	 */
+	@Override
+	public void setRange(String range) {
+		this.range = range;
+	}
+
 	@Override
     public InputStream getInputStream() throws IOException {
+		if (range != null) {
+			InputStream ranged = FileRangeInputStream.open(getFile().toPath(), range);
+			if (ranged != null) {
+				return ranged;
+			}
+		}
 		return resource.getInputStream();
 	}
 
+	@Override
+	public boolean isFile() {
+		return resource.isFile();
+	}
+
+	/**
+	 * Opens the content for reading as a {@link FileChannel}, positioned at the start of the file.
+	 * <p>
+	 * Callers that write the content on to another channel can use
+	 * {@link FileChannel#transferTo(long, long, WritableByteChannel) transferTo} and so let the
+	 * kernel copy it, where the target channel allows it, instead of reading it through a stream.
+	 */
+	@Override
+	public FileChannel readableChannel() throws IOException {
+		return FileChannel.open(getFile().toPath(), StandardOpenOption.READ);
+	}
+
 	@Override
     public boolean isWritable() {
 		return resource.isWritable();
@@ -99,6 +149,17 @@ public class FileSystemDeletableResource implements WritableResource, DeletableR
 		return resource.getOutputStream();
 	}
 
+	/**
+	 * Opens the content for writing as a {@link FileChannel}, creating the file and its parent
+	 * directories if necessary and truncating any existing content, as {@link #getOutputStream()}
+	 * does.
+	 */
+	@Override
+	public FileChannel writableChannel() throws IOException {
+		Files.createDirectories(Paths.get(this.getFile().getParent()));
+		return FileChannel.open(getFile().toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
 	@Override
     public URL getURL() throws IOException {
 		return resource.getURL();
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+
+import org.springframework.content.commons.utils.FileService;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Resource for content that is being relocated to a new layout, from a previous location that
+ * may still hold it.
+ * <p>
+ * The resource's file is the new location, so writes always go there. Reads prefer the new
+ * location and fall back to the previous one; a read that finds neither retries the new
+ * location, which is where a concurrent migration moves the content. Deletes remove both.
+ */
+public class MigratingFileSystemResource extends FileSystemDeletableResource {
+
+	private final FileSystemDeletableResource previous;
+
+	public MigratingFileSystemResource(FileSystemResource resource, FileSystemResource previous, FileService fileService) {
+		this(resource, previous, fileService, null);
+	}
+
+	public MigratingFileSystemResource(FileSystemResource resource, FileSystemResource previous, FileService fileService, DirectoryReaper reaper) {
+		super(resource, fileService, reaper);
+		this.previous = new FileSystemDeletableResource(previous, fileService, reaper);
+	}
+
+	public FileSystemDeletableResource getPreviousResource() {
+		return previous;
+	}
+
+	@Override
+	public void setRange(String range) {
+		super.setRange(range);
+		previous.setRange(range);
+	}
+
+	@Override
+	public boolean exists() {
+		return super.exists() || previous.exists();
+	}
+
+	@Override
+	public boolean isReadable() {
+		return super.isReadable() || previous.isReadable();
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		try {
+			return super.getInputStream();
+		} catch (FileNotFoundException | NoSuchFileException e) {
+			try {
+				return previous.getInputStream();
+			} catch (FileNotFoundException | NoSuchFileException notMoved) {
+				return super.getInputStream();
+			}
+		}
+	}
+
+	@Override
+	public boolean isFile() {
+		return super.exists() && super.isFile();
+	}
+
+	@Override
+	public FileChannel readableChannel() throws IOException {
+		try {
+			return super.readableChannel();
+		} catch (NoSuchFileException e) {
+			try {
+				return previous.readableChannel();
+			} catch (NoSuchFileException notMoved) {
+				return super.readableChannel();
+			}
+		}
+	}
+
+	@Override
+	public long contentLength() throws IOException {
+		return super.exists() || previous.exists() == false ? super.contentLength() : previous.contentLength();
+	}
+
+	@Override
+	public long lastModified() throws IOException {
+		return super.exists() || previous.exists() == false ? super.lastModified() : previous.lastModified();
+	}
+
+	@Override
+	public void delete() {
+		// previous location first, so that a concurrent migration cannot move it back in afterwards
+		if (previous.exists()) {
+			previous.delete();
+		}
+		if (super.exists()) {
+			super.delete();
+		}
+	}
+}
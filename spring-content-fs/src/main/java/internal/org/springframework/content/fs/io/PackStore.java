@@ -0,0 +1,651 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import static java.lang.String.format;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps small content in a few large, append-only pack files rather than in a file of its own.
+ * <p>
+ * Each piece of content is appended to the active pack as a record carrying its key, so a
+ * write costs one {@link FileChannel#force(boolean) fdatasync} of an existing file and no inode,
+ * directory entry or directory {@code fsync}; writers that {@code fsync} concurrently share the
+ * flush. Removing content appends a tombstone record. The record headers are the packs' on-disk
+ * index: on opening, the headers are read back into an in-memory index from key to pack, offset
+ * and length, and content is then read with positional reads on the pack's open channel. A torn
+ * record at the end of the last pack, left by a crash mid-write, fails its checksum and is cut
+ * off; it was never acknowledged.
+ * <p>
+ * Packs that are not being appended to are compacted in the background once the records that
+ * have been superseded or removed make up more than half of them: the records still live are
+ * copied to a new file that then atomically replaces the pack. A tombstone is copied only while
+ * an earlier pack still holds a record of the content it removed. The tombstones copied are not
+ * counted as reclaimable, so a pack of them is not rewritten again until an earlier pack has been
+ * compacted and may have let go of those records.
+ * <p>
+ * Record layout: magic, type, key length, content length, timestamp, CRC32C of key and
+ * content, key (UTF-8), content.
+ */
+public class PackStore {
+
+	private static Log logger = LogFactory.getLog(PackStore.class);
+
+	/**
+	 * Name of the directory, under the store root, holding the packs.
+	 */
+	public static final String DIRECTORY = ".packs";
+
+	static final long DEFAULT_PACK_SIZE = 64L * 1024 * 1024;
+	static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(1);
+
+	private static final Pattern PACK_NAME = Pattern.compile("pack-(\\d{10})\\.dat");
+	private static final String COMPACTING_SUFFIX = ".compacting";
+
+	private static final int MAGIC = 0x53435041;
+	private static final byte PUT = 1;
+	private static final byte DELETE = 2;
+	// magic, type, key length, content length, timestamp, crc
+	private static final int HEADER = 4 + 1 + 2 + 4 + 8 + 4;
+
+	private final Path directory;
+	private final long packSize;
+	private final Map<String, Entry> index = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<Long, Pack> packs = new ConcurrentSkipListMap<>();
+	private final List<Pack> retired = new ArrayList<>();
+	private final Object appendLock = new Object();
+	private final ScheduledExecutorService compactor;
+
+	private volatile Pack active;
+
+	public PackStore(Path directory) throws IOException {
+		this(directory, DEFAULT_PACK_SIZE, DEFAULT_COMPACTION_INTERVAL);
+	}
+
+	/**
+	 * @param compactionInterval how often packs are checked for compaction; {@code null} leaves
+	 *                           compaction to {@link #compact()}
+	 */
+	PackStore(Path directory, long packSize, Duration compactionInterval) throws IOException {
+		Assert.notNull(directory, "directory must not be null");
+		Assert.isTrue(packSize > 0, "pack size must be positive");
+		this.directory = directory;
+		this.packSize = packSize;
+
+		Files.createDirectories(directory);
+		open();
+
+		if (compactionInterval != null) {
+			compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "filesystem-store-compactor");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long interval = compactionInterval.toMillis();
+			compactor.scheduleWithFixedDelay(this::compactQuietly, interval, interval, TimeUnit.MILLISECONDS);
+		} else {
+			compactor = null;
+		}
+	}
+
+	public boolean contains(String key) {
+		return index.containsKey(key);
+	}
+
+	/**
+	 * Returns the length of the content held for {@code key}, or -1 when there is none.
+	 */
+	public long length(String key) {
+		Entry entry = index.get(key);
+		return entry != null ? entry.length : -1L;
+	}
+
+	/**
+	 * Returns when the content held for {@code key} was written, or -1 when there is none.
+	 */
+	public long lastModified(String key) {
+		Entry entry = index.get(key);
+		return entry != null ? entry.timestamp : -1L;
+	}
+
+	/**
+	 * Returns the content held for {@code key}, or {@code null} when there is none.
+	 */
+	public byte[] get(String key) throws IOException {
+		for (int attempt = 1; ; attempt++) {
+			Entry entry = index.get(key);
+			if (entry == null) {
+				return null;
+			}
+			try {
+				ByteBuffer content = ByteBuffer.allocate(entry.length);
+				readFully(entry.pack.channel(), content, entry.contentOffset());
+				return content.array();
+			} catch (ClosedByInterruptException e) {
+				throw e;
+			} catch (ClosedChannelException e) {
+				// the pack has been compacted and retired since the entry was looked up
+				if (attempt == 3) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stores {@code content} for {@code key}, replacing any content held for it, and returns once
+	 * it is durable.
+	 */
+	public void put(String key, byte[] content) throws IOException {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		long timestamp = System.currentTimeMillis();
+		ByteBuffer record = record(PUT, keyBytes, content, timestamp);
+
+		Pack pack;
+		synchronized (appendLock) {
+			long offset = append(record);
+			pack = active;
+			Entry previous = index.put(key, new Entry(pack, offset, record.limit(), keyBytes.length, content.length, timestamp));
+			if (previous != null) {
+				previous.pack.garbage.addAndGet(previous.recordLength);
+			}
+		}
+		pack.channel().force(false);
+	}
+
+	/**
+	 * Removes the content held for {@code key}, returning once the removal is durable, or returns
+	 * false when there is none.
+	 */
+	public boolean delete(String key) throws IOException {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer record = record(DELETE, keyBytes, new byte[0], System.currentTimeMillis());
+
+		Pack pack;
+		synchronized (appendLock) {
+			Entry previous = index.remove(key);
+			if (previous == null) {
+				return false;
+			}
+			previous.pack.garbage.addAndGet(previous.recordLength);
+			append(record);
+			pack = active;
+			pack.tombstones.addAndGet(record.limit());
+		}
+		pack.channel().force(false);
+		return true;
+	}
+
+	/**
+	 * Compacts every pack, other than the one being appended to, in which more than half of the
+	 * bytes belong to superseded or removed content. Tombstones count towards that only until
+	 * their pack has been compacted, and again once an earlier pack has been.
+	 */
+	public void compact() throws IOException {
+		List<Pack> closing;
+		synchronized (retired) {
+			closing = new ArrayList<>(retired);
+			retired.clear();
+		}
+		// retired a compaction ago, so no reader can still be using them
+		for (Pack pack : closing) {
+			close(pack);
+		}
+
+		boolean compacted = false;
+		for (Pack pack : packs.values()) {
+			if (pack == active) {
+				continue;
+			}
+			if (compacted) {
+				// an earlier pack may no longer hold the records its tombstones hide
+				pack.tombstonesChecked = false;
+			}
+			long garbage = pack.garbage.get() + (pack.tombstonesChecked ? 0 : pack.tombstones.get());
+			if (garbage * 2 > pack.size.get()) {
+				compact(pack);
+				compacted = true;
+			}
+		}
+	}
+
+	public void close() {
+		if (compactor != null) {
+			compactor.shutdownNow();
+		}
+		synchronized (appendLock) {
+			for (Pack pack : packs.values()) {
+				close(pack);
+			}
+			synchronized (retired) {
+				retired.forEach(this::close);
+				retired.clear();
+			}
+		}
+	}
+
+	private void open() throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				Matcher matcher = PACK_NAME.matcher(name);
+				if (matcher.matches()) {
+					long sequence = Long.parseLong(matcher.group(1));
+					packs.put(sequence, new Pack(sequence, file));
+				} else if (name.endsWith(COMPACTING_SUFFIX)) {
+					// an interrupted compaction; the pack it was replacing is still in place
+					Files.deleteIfExists(file);
+				}
+			}
+		}
+
+		for (Pack pack : packs.values()) {
+			// earlier packs were made durable before the next one was started, so only the last can be torn
+			load(pack, pack.sequence == packs.lastKey());
+		}
+		active = packs.isEmpty() ? create(1) : packs.lastEntry().getValue();
+	}
+
+	/**
+	 * Reads the record headers of {@code pack} into the index, cutting off a torn record at its end.
+	 */
+	private void load(Pack pack, boolean verify) throws IOException {
+		FileChannel channel = pack.channel();
+		long size = channel.size();
+		long position = 0;
+		ByteBuffer header = ByteBuffer.allocate(HEADER);
+		while (position < size) {
+			header.clear();
+			Record record = position + HEADER <= size ? readRecord(channel, header, position, size, verify) : null;
+			if (record == null) {
+				logger.warn(format("Truncating %s at %d, after its last complete record", pack.path, position));
+				channel.truncate(position);
+				channel.force(true);
+				break;
+			}
+
+			if (record.type == PUT) {
+				Entry previous = index.put(record.key, new Entry(pack, position, record.length(), record.keyLength, record.contentLength, record.timestamp));
+				if (previous != null) {
+					previous.pack.garbage.addAndGet(previous.recordLength);
+				}
+			} else {
+				Entry previous = index.remove(record.key);
+				if (previous != null) {
+					previous.pack.garbage.addAndGet(previous.recordLength);
+				}
+				pack.tombstones.addAndGet(record.length());
+			}
+			position += record.length();
+		}
+		pack.size.set(position);
+	}
+
+	/**
+	 * Reads the record at {@code position}, or returns {@code null} when there is no intact
+	 * record there. Its content is only read when {@code verify} asks for the checksum to be
+	 * checked.
+	 */
+	private static Record readRecord(FileChannel channel, ByteBuffer header, long position, long size, boolean verify) throws IOException {
+		readFully(channel, header, position);
+		header.flip();
+		if (header.getInt() != MAGIC) {
+			return null;
+		}
+		byte type = header.get();
+		int keyLength = Short.toUnsignedInt(header.getShort());
+		int contentLength = header.getInt();
+		long timestamp = header.getLong();
+		int crc = header.getInt();
+		if ((type != PUT && type != DELETE) || contentLength < 0 || position + HEADER + keyLength + contentLength > size) {
+			return null;
+		}
+
+		ByteBuffer body = ByteBuffer.allocate(verify ? keyLength + contentLength : keyLength);
+		readFully(channel, body, position + HEADER);
+		if (verify) {
+			CRC32C checksum = new CRC32C();
+			checksum.update(body.array(), 0, body.capacity());
+			if ((int) checksum.getValue() != crc) {
+				return null;
+			}
+		}
+		return new Record(type, new String(body.array(), 0, keyLength, StandardCharsets.UTF_8), keyLength, contentLength, timestamp);
+	}
+
+	/**
+	 * Appends {@code record} to the active pack, starting a new one when it is full, and returns
+	 * the offset it was appended at. Called holding the append lock.
+	 */
+	private long append(ByteBuffer record) throws IOException {
+		if (active.size.get() > 0 && active.size.get() + record.limit() > packSize) {
+			// make the full pack durable before starting the next, so that only the last pack can be torn
+			active.channel().force(false);
+			active = create(active.sequence + 1);
+		}
+
+		FileChannel channel = active.channel();
+		long offset = active.size.get();
+		long position = offset;
+		while (record.hasRemaining()) {
+			position += channel.write(record, position);
+		}
+		record.flip();
+		active.size.set(position);
+		return offset;
+	}
+
+	private Pack create(long sequence) throws IOException {
+		Pack pack = new Pack(sequence, directory.resolve(format("pack-%010d.dat", sequence)));
+		packs.put(sequence, pack);
+		syncDirectory();
+		return pack;
+	}
+
+	private void compact(Pack pack) throws IOException {
+		Map<String, Long> hiding = hiding(pack);
+		Path compacting = directory.resolve(pack.path.getFileName() + COMPACTING_SUFFIX);
+		// key -> offset in the pack, offset in the compacted pack, record length
+		Map<String, long[]> moved = new LinkedHashMap<>();
+		long tombstones = 0;
+
+		try (FileChannel out = FileChannel.open(compacting, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			FileChannel in = pack.channel();
+			long size = pack.size.get();
+			long position = 0;
+			long written = 0;
+			ByteBuffer header = ByteBuffer.allocate(HEADER);
+			while (position < size) {
+				header.clear();
+				Record record = readRecord(in, header, position, size, false);
+				if (record == null) {
+					throw new IOException(format("Unreadable record in %s at %d", pack.path, position));
+				}
+
+				Entry live = index.get(record.key);
+				boolean keep = record.type == PUT
+						? live != null && live.pack == pack && live.offset == position
+						// the key's last tombstone, still hiding a record in an earlier pack from a reopened store
+						: live == null && Long.valueOf(position).equals(hiding.get(record.key));
+				if (keep) {
+					transferFully(in, position, record.length(), out, written);
+					if (record.type == PUT) {
+						moved.put(record.key, new long[] {position, written, record.length()});
+					} else {
+						tombstones += record.length();
+					}
+					written += record.length();
+				}
+				position += record.length();
+			}
+			out.force(true);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(compacting);
+			throw e;
+		}
+
+		if (moved.isEmpty() && tombstones == 0) {
+			// nothing left worth keeping; no new entries can point into a pack that is not active
+			synchronized (appendLock) {
+				Files.delete(compacting);
+				Files.delete(pack.path);
+				syncDirectory();
+				packs.remove(pack.sequence);
+				pack.retired = true;
+			}
+			synchronized (retired) {
+				retired.add(pack);
+			}
+			logger.debug(format("Removed %s", pack.path));
+			return;
+		}
+
+		Pack compacted;
+		synchronized (appendLock) {
+			Files.move(compacting, pack.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			syncDirectory();
+
+			compacted = new Pack(pack.sequence, pack.path);
+			compacted.size.set(compacted.channel().size());
+			compacted.tombstones.set(tombstones);
+			compacted.tombstonesChecked = true;
+			for (Map.Entry<String, long[]> move : moved.entrySet()) {
+				long[] offsets = move.getValue();
+				Entry entry = index.get(move.getKey());
+				if (entry != null && entry.pack == pack && entry.offset == offsets[0]) {
+					index.put(move.getKey(), entry.movedTo(compacted, offsets[1]));
+				} else {
+					// superseded or removed while being compacted
+					compacted.garbage.addAndGet(offsets[2]);
+				}
+			}
+			packs.put(pack.sequence, compacted);
+			pack.retired = true;
+		}
+
+		synchronized (retired) {
+			retired.add(pack);
+		}
+		logger.debug(format("Compacted %s to %d bytes", pack.path, compacted.size.get()));
+	}
+
+	/**
+	 * Returns the keys removed by tombstones in {@code pack} for which an earlier pack still holds
+	 * a record, each with the offset of its last tombstone.
+	 */
+	private Map<String, Long> hiding(Pack pack) throws IOException {
+		Map<String, Long> removed = new HashMap<>();
+		scan(pack, (record, position) -> {
+			if (record.type == DELETE) {
+				removed.put(record.key, position);
+			}
+		});
+		Map<String, Long> hiding = new HashMap<>();
+		if (removed.isEmpty()) {
+			return hiding;
+		}
+		for (Pack earlier : packs.headMap(pack.sequence).values()) {
+			scan(earlier, (record, position) -> {
+				if (record.type == PUT && removed.containsKey(record.key)) {
+					hiding.put(record.key, removed.get(record.key));
+				}
+			});
+		}
+		return hiding;
+	}
+
+	/**
+	 * Reads the record headers of {@code pack} in order, passing each to {@code visitor} with its
+	 * offset.
+	 */
+	private static void scan(Pack pack, RecordVisitor visitor) throws IOException {
+		FileChannel channel = pack.channel();
+		long size = pack.size.get();
+		long position = 0;
+		ByteBuffer header = ByteBuffer.allocate(HEADER);
+		while (position < size) {
+			header.clear();
+			Record record = readRecord(channel, header, position, size, false);
+			if (record == null) {
+				throw new IOException(format("Unreadable record in %s at %d", pack.path, position));
+			}
+			visitor.visit(record, position);
+			position += record.length();
+		}
+	}
+
+	private void compactQuietly() {
+		try {
+			compact();
+		} catch (IOException | RuntimeException e) {
+			logger.warn(format("Unable to compact packs in %s", directory), e);
+		}
+	}
+
+	private static ByteBuffer record(byte type, byte[] key, byte[] content, long timestamp) {
+		Assert.isTrue(key.length <= 0xFFFF, "key must not be longer than 65535 bytes");
+
+		CRC32C checksum = new CRC32C();
+		checksum.update(key);
+		checksum.update(content);
+
+		ByteBuffer record = ByteBuffer.allocate(HEADER + key.length + content.length);
+		record.putInt(MAGIC)
+				.put(type)
+				.putShort((short) key.length)
+				.putInt(content.length)
+				.putLong(timestamp)
+				.putInt((int) checksum.getValue())
+				.put(key)
+				.put(content)
+				.flip();
+		return record;
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new EOFException(format("Unexpected end of pack at %d", position));
+			}
+			position += read;
+		}
+	}
+
+	private static void transferFully(FileChannel in, long position, long count, FileChannel out, long outPosition) throws IOException {
+		out.position(outPosition);
+		while (count > 0) {
+			long transferred = in.transferTo(position, count, out);
+			if (transferred <= 0) {
+				throw new EOFException(format("Unexpected end of pack at %d", position));
+			}
+			position += transferred;
+			count -= transferred;
+		}
+	}
+
+	private void syncDirectory() {
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			logger.debug(format("Best-effort directory fsync failed for %s", directory), e);
+		}
+	}
+
+	private void close(Pack pack) {
+		try {
+			pack.channel.close();
+		} catch (IOException e) {
+			logger.warn(format("Unable to close %s", pack.path), e);
+		}
+	}
+
+	private static final class Pack {
+
+		private final long sequence;
+		private final Path path;
+		private final AtomicLong size = new AtomicLong();
+		private final AtomicLong garbage = new AtomicLong();
+		private final AtomicLong tombstones = new AtomicLong();
+		private volatile boolean tombstonesChecked = false;
+		private volatile FileChannel channel;
+		private volatile boolean retired = false;
+
+		private Pack(long sequence, Path path) throws IOException {
+			this.sequence = sequence;
+			this.path = path;
+			this.channel = open();
+		}
+
+		/**
+		 * Returns the pack's channel, reopening it if it has been closed by the interrupt of a
+		 * thread using it. Once retired the pack's path names its replacement, so it is not reopened.
+		 */
+		private FileChannel channel() throws IOException {
+			FileChannel current = channel;
+			if (current.isOpen() || retired) {
+				return current;
+			}
+			synchronized (this) {
+				if (channel.isOpen() == false && retired == false) {
+					channel = open();
+				}
+				return channel;
+			}
+		}
+
+		private FileChannel open() throws IOException {
+			return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		}
+	}
+
+	private record Entry(Pack pack, long offset, int recordLength, int keyLength, int length, long timestamp) {
+
+		long contentOffset() {
+			return offset + HEADER + keyLength;
+		}
+
+		Entry movedTo(Pack pack, long offset) {
+			return new Entry(pack, offset, recordLength, keyLength, length, timestamp);
+		}
+	}
+
+	private interface RecordVisitor {
+
+		void visit(Record record, long position);
+	}
+
+	private record Record(byte type, String key, int keyLength, int contentLength, long timestamp) {
+
+		int length() {
+			return HEADER + keyLength + contentLength;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.WritableResource;
+
+/**
+ * Resource for content held in a {@link PackStore}.
+ * <p>
+ * Reads serve the packed content for as long as there is any, and otherwise the file the
+ * content would have in the one-file-per-content layout. That file is also where content written
+ * through the resource goes: it is no longer small enough to be packed, and the packed copy is
+ * removed once the file has been written. Deletes remove both.
+ */
+public class PackedResource implements WritableResource, DeletableResource {
+
+	private final PackStore packs;
+	private final String key;
+	private final FileSystemDeletableResource file;
+
+	public PackedResource(PackStore packs, String key, FileSystemDeletableResource file) {
+		this.packs = packs;
+		this.key = key;
+		this.file = file;
+	}
+
+	/**
+	 * Returns the resource for the file this content is written to when it is not packed.
+	 */
+	public FileSystemDeletableResource getFileResource() {
+		return file;
+	}
+
+	/**
+	 * Removes the packed copy of the content, once it has been written to its file.
+	 */
+	public void unpack() throws IOException {
+		packs.delete(key);
+	}
+
+	@Override
+	public boolean exists() {
+		return packs.contains(key) || file.exists();
+	}
+
+	@Override
+	public boolean isReadable() {
+		return packs.contains(key) || file.isReadable();
+	}
+
+	@Override
+	public boolean isFile() {
+		return false;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		byte[] content = packs.get(key);
+		if (content != null) {
+			return new ByteArrayInputStream(content);
+		}
+		return file.getInputStream();
+	}
+
+	@Override
+	public long contentLength() throws IOException {
+		long length = packs.length(key);
+		return length >= 0 ? length : file.contentLength();
+	}
+
+	@Override
+	public long lastModified() throws IOException {
+		long lastModified = packs.lastModified(key);
+		return lastModified >= 0 ? lastModified : file.lastModified();
+	}
+
+	@Override
+	public boolean isWritable() {
+		return file.isWritable();
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		return new FilterOutputStream(file.getOutputStream()) {
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				out.write(b, off, len);
+			}
+
+			@Override
+			public void close() throws IOException {
+				super.close();
+				unpack();
+			}
+		};
+	}
+
+	@Override
+	public void delete() throws IOException {
+		packs.delete(key);
+		if (file.exists()) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Returns the file the content is written to; it holds the content only once it is no longer
+	 * packed.
+	 */
+	@Override
+	public File getFile() {
+		return file.getFile();
+	}
+
+	@Override
+	public URL getURL() throws IOException {
+		return file.getURL();
+	}
+
+	@Override
+	public URI getURI() throws IOException {
+		return file.getURI();
+	}
+
+	@Override
+	public Resource createRelative(String relativePath) {
+		return file.createRelative(relativePath);
+	}
+
+	@Override
+	public String getFilename() {
+		return file.getFilename();
+	}
+
+	@Override
+	public String getDescription() {
+		return "packed " + file.getDescription();
+	}
+
+	@Override
+	public String toString() {
+		return getDescription();
+	}
+}
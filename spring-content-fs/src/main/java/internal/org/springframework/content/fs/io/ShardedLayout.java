@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hash-sharded directory layout: a location is placed under {@code levels} directories, each
+ * named after {@code width} hex digits of the CRC-32C of the location, so that content with
+ * flat locations such as UUIDs is spread evenly over {@code 16^(levels * width)} directories.
+ */
+public final class ShardedLayout {
+
+	public static final int MAX_DIGITS = 8;
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	private final int levels;
+	private final int width;
+
+	public ShardedLayout(int levels, int width) {
+		Assert.isTrue(levels > 0, "levels must be positive");
+		Assert.isTrue(width > 0, "width must be positive");
+		Assert.isTrue(levels * width <= MAX_DIGITS, "levels * width must not exceed " + MAX_DIGITS);
+		this.levels = levels;
+		this.width = width;
+	}
+
+	/**
+	 * Returns the sharded path, relative to the store root, for {@code location}.
+	 */
+	public String locate(String location) {
+		String relative = stripLeadingSlashes(location);
+		String digits = hash(relative);
+
+		StringBuilder path = new StringBuilder(levels * (width + 1) + relative.length());
+		for (int level = 0; level < levels; level++) {
+			path.append(digits, level * width, (level + 1) * width).append('/');
+		}
+		return path.append(relative).toString();
+	}
+
+	/**
+	 * Returns the location {@code path} (relative to the store root) was sharded from, or
+	 * {@code null} when {@code path} is not a sharded path of this layout.
+	 */
+	public String unshard(String path) {
+		String relative = stripLeadingSlashes(path);
+		int prefixLength = levels * (width + 1);
+		if (relative.length() <= prefixLength) {
+			return null;
+		}
+		for (int level = 0; level < levels; level++) {
+			int separator = (level + 1) * (width + 1) - 1;
+			if (relative.charAt(separator) != '/') {
+				return null;
+			}
+		}
+		String location = relative.substring(prefixLength);
+		return locate(location).equals(relative) ? location : null;
+	}
+
+	private static String hash(String location) {
+		CRC32C crc = new CRC32C();
+		crc.update(location.getBytes(StandardCharsets.UTF_8));
+		return HEX.toHexDigits((int) crc.getValue());
+	}
+
+	private static String stripLeadingSlashes(String location) {
+		int start = 0;
+		while (start < location.length() && location.charAt(start) == '/') {
+			start++;
+		}
+		return location.substring(start);
+	}
+
+	@Override
+	public String toString() {
+		return "ShardedLayout[levels=" + levels + ", width=" + width + "]";
+	}
+}
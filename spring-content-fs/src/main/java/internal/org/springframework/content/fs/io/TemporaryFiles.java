@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Names the temporary files content is written to before being renamed into place. A temporary
+ * file is a hidden sibling of the file it will replace, so that the rename stays within one
+ * directory, and hence one file system, and is atomic.
+ */
+public final class TemporaryFiles {
+
+	private static final String PREFIX = ".";
+	private static final String SUFFIX = ".tmp";
+
+	private TemporaryFiles() {
+	}
+
+	/**
+	 * Returns a new temporary sibling of {@code target}; concurrent calls return distinct paths.
+	 */
+	public static Path siblingOf(Path target) {
+		String random = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		return target.resolveSibling(PREFIX + target.getFileName() + "." + random + SUFFIX);
+	}
+
+	/**
+	 * Returns whether {@code path} names a temporary file, which may be being written to.
+	 */
+	public static boolean isTemporary(Path path) {
+		Path name = path.getFileName();
+		if (name == null) {
+			return false;
+		}
+		String filename = name.toString();
+		return filename.startsWith(PREFIX) && filename.endsWith(SUFFIX);
+	}
+}
@@ -5,6 +5,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.annotations.ContentLength;
 import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.io.RangeableResource;
 import org.springframework.content.commons.mappingcontext.ContentProperty;
 import org.springframework.content.commons.mappingcontext.MappingContext;
 import org.springframework.content.commons.property.PropertyPath;
@@ -22,19 +23,42 @@ import org.springframework.content.commons.utils.FileService;
 import org.springframework.content.commons.utils.PlacementService;
 import org.springframework.content.fs.io.FileSystemResourceLoader;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.WritableResource;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import internal.org.springframework.content.fs.config.FilesystemStorePropertiesImpl;
+import internal.org.springframework.content.fs.io.DirectoryReaper;
+import internal.org.springframework.content.fs.io.FileAllocator;
+import internal.org.springframework.content.fs.io.FileSystemDeletableResource;
+import internal.org.springframework.content.fs.io.MigratingFileSystemResource;
+import internal.org.springframework.content.fs.io.PackStore;
+import internal.org.springframework.content.fs.io.PackedResource;
+import internal.org.springframework.content.fs.io.ShardedLayout;
+import internal.org.springframework.content.fs.io.TemporaryFiles;
+
 import java.io.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+
+import com.sun.nio.file.ExtendedOpenOption;
 
 import static java.lang.String.format;
 
@@ -48,6 +72,27 @@ import static java.lang.String.format;
  * flush/{@code fsync}/close error surfaces as a {@link StoreAccessException} rather than a
  * silent success (relevant on filesystems such as NFS that defer write errors to close).
  *
+ * <p>When a {@link GroupCommitFlusher} is supplied the directory {@code fsync}s are instead
+ * batched with those of concurrent writers; {@code setContent} still returns only once its blob
+ * is durable.
+ *
+ * <p>Content is replaced atomically: it is written to a temporary file alongside the blob, which
+ * is renamed over the blob once durable, so readers see either the previous content or the new
+ * content in full, never a truncated or partly written blob. Writes and deletes of the same
+ * content id are serialised through {@link StripedLocks} shared by every store in the JVM, while
+ * those of different ids proceed in parallel.
+ *
+ * <p>Content whose length is known up-front can be preallocated and, above a configurable size,
+ * written with direct I/O so that large uploads neither fragment nor pass through the page cache.
+ *
+ * <p>Content is placed at the location the {@link PlacementService} produces or, when sharding is
+ * configured through {@link org.springframework.content.fs.config.FilesystemStoreProperties},
+ * under directories derived from a hash of that location (see {@link ShardedLayout}).
+ *
+ * <p>With packing configured, content shorter than the packing threshold is instead appended to
+ * the {@link PackStore} shared by the stores under the same root, keyed by its location, and
+ * read back from there (see {@link PackedResource}).
+ *
  * @author marcobelligoli
  */
 @Transactional(readOnly = true)
@@ -57,12 +102,30 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 
 	private static Log logger = LogFactory.getLog(DefaultFilesystemStoreImpl.class);
 
+	private static final StripedLocks LOCKS = new StripedLocks(StripedLocks.DEFAULT_STRIPES);
+
 	private FileSystemResourceLoader loader;
 	private PlacementService placer;
 	private FileService fileService;
     private MappingContext mappingContext/* = new MappingContext("/", ".")*/;
+	private final ShardedLayout layout;
+	private final boolean migrating;
+	private final GroupCommitFlusher flusher;
+	private final int writeBufferSize;
+	private final long preallocationThreshold;
+	private final long directIoThreshold;
+	private final int directIoBufferSize;
+	private final long packingThreshold;
 
 	public DefaultFilesystemStoreImpl(FileSystemResourceLoader loader, MappingContext mappingContext, PlacementService conversion, FileService fileService) {
+		this(loader, mappingContext, conversion, fileService, new FilesystemStorePropertiesImpl());
+	}
+
+	public DefaultFilesystemStoreImpl(FileSystemResourceLoader loader, MappingContext mappingContext, PlacementService conversion, FileService fileService, FilesystemStorePropertiesImpl properties) {
+		this(loader, mappingContext, conversion, fileService, properties, null);
+	}
+
+	public DefaultFilesystemStoreImpl(FileSystemResourceLoader loader, MappingContext mappingContext, PlacementService conversion, FileService fileService, FilesystemStorePropertiesImpl properties, GroupCommitFlusher flusher) {
 		this.loader = loader;
 		this.placer = conversion;
 		this.fileService = fileService;
@@ -70,12 +133,20 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 		if (this.mappingContext == null) {
 		    this.mappingContext = new MappingContext("/", ".");
 		}
+		this.layout = properties.getShardedLayout();
+		this.migrating = this.layout != null && properties.isShardingMigration();
+		this.flusher = flusher;
+		this.writeBufferSize = properties.getWriteBufferSize();
+		this.preallocationThreshold = properties.getPreallocationThreshold();
+		this.directIoThreshold = properties.getDirectIoThreshold();
+		this.directIoBufferSize = properties.getDirectIoBufferSize();
+		this.packingThreshold = properties.getPackingThreshold();
 	}
 
 	@Override
 	public Resource getResource(SID id) {
 		String location = placer.convert(id, String.class);
-		Resource resource = loader.getResource(location);
+		Resource resource = resolve(location);
 		return resource;
 	}
 
@@ -84,7 +155,7 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 		Resource resource = null;
 		if (placer.canConvert(entity.getClass(), String.class)) {
 			String location = placer.convert(entity, String.class);
-			resource = loader.getResource(location);
+			resource = resolve(location);
 			if (resource != null) {
 				return resource;
 			}
@@ -114,7 +185,7 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 		if (contentId == null) {
 			return null;
 		}
-		return getResource(contentId);
+		return withRange(getResource(contentId), params.getRange());
 	}
 
 	@Override
@@ -128,7 +199,7 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 		if (contentId == null) {
 			return null;
 		}
-		return getResource(contentId);
+		return withRange(getResource(contentId), params.getRange());
 	}
 
 	@Override
@@ -200,29 +271,38 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
             return entity;
         }
 
+		Lock lock = LOCKS.get(BeanUtils.getFieldWithAnnotation(entity, ContentId.class));
+		lock.lock();
 		try {
-			if (resource.exists() == false) {
+			try {
 				File resourceFile = resource.getFile();
-				File parent = resourceFile.getParentFile();
-				this.fileService.mkdirs(parent);
-			}
-			if (resource instanceof WritableResource) {
-				writeDurably(resource, content);
-			}
+				if (resourceFile.exists() == false) {
+					File parent = resourceFile.getParentFile();
+					this.fileService.mkdirs(parent);
+				}
+				if (resource instanceof WritableResource) {
+					writeDurably(resource, content, -1L);
+				}
+				if (resource instanceof PackedResource packed) {
+					packed.unpack();
+				}
 
-		} catch (IOException e) {
-			logger.error(format("Unexpected io error setting content for entity %s", entity), e);
-			throw new StoreAccessException(format("Setting content for entity %s", entity), e);
-		}
+			} catch (IOException e) {
+				logger.error(format("Unexpected io error setting content for entity %s", entity), e);
+				throw new StoreAccessException(format("Setting content for entity %s", entity), e);
+			}
 
-		try {
-			BeanUtils.setFieldWithAnnotation(entity, ContentLength.class,
-					resource.contentLength());
-		}
-		catch (IOException e) {
-			logger.error(format(
-					"Unexpected error setting content length for content for resource %s",
-					resource.toString()), e);
+			try {
+				BeanUtils.setFieldWithAnnotation(entity, ContentLength.class,
+						resource.contentLength());
+			}
+			catch (IOException e) {
+				logger.error(format(
+						"Unexpected error setting content length for content for resource %s",
+						resource.toString()), e);
+			}
+		} finally {
+			lock.unlock();
 		}
 
 		return entity;
@@ -278,14 +358,37 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 			return property;
 		}
 
+		Lock lock = LOCKS.get(contentProperty.getContentId(property));
+		lock.lock();
 		try {
-			if (resource.exists() == false) {
-				File resourceFile = resource.getFile();
+			return setContent(property, contentProperty, resource, content, params);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private S setContent(S property, ContentProperty contentProperty, Resource resource, InputStream content, SetContentParams params) {
+		try {
+			if (packingThreshold > 0 && knownLength(content, params.getContentLength()) < packingThreshold) {
+				byte[] head = content.readNBytes((int) packingThreshold);
+				if (head.length < packingThreshold) {
+					pack(placer.convert(contentProperty.getContentId(property), String.class), resource, head);
+					contentProperty.setContentLength(property, head.length);
+					return property;
+				}
+				content = new SequenceInputStream(new ByteArrayInputStream(head), content);
+			}
+
+			File resourceFile = resource.getFile();
+			if (resourceFile.exists() == false) {
 				File parent = resourceFile.getParentFile();
 				this.fileService.mkdirs(parent);
 			}
 			if (resource instanceof WritableResource) {
-				writeDurably(resource, content);
+				writeDurably(resource, content, params.getContentLength());
+			}
+			if (resource instanceof PackedResource packed) {
+				packed.unpack();
 			}
 		} catch (IOException e) {
 			logger.error(format("Unexpected io error setting content for entity %s", property), e);
@@ -311,8 +414,8 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 	@Transactional
 	@Override
 	public S setContent(S property, Resource resourceContent) {
-		try {
-			return this.setContent(property, resourceContent.getInputStream());
+		try (InputStream content = openContent(resourceContent)) {
+			return this.setContent(property, content);
 		} catch (IOException e) {
 			logger.error(format("Unexpected error setting content for entity %s", property), e);
 			throw new StoreAccessException(format("Setting content for entity %s", property), e);
@@ -322,8 +425,8 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
     @Transactional
     @Override
     public S setContent(S property, PropertyPath propertyPath, Resource resourceContent) {
-        try {
-            return this.setContent(property, propertyPath, resourceContent.getInputStream());
+        try (InputStream content = openContent(resourceContent)) {
+            return this.setContent(property, propertyPath, content);
         } catch (IOException e) {
             logger.error(format("Unexpected error setting content for entity %s", property), e);
             throw new StoreAccessException(format("Setting content for entity %s", property), e);
@@ -382,12 +485,8 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 
 		Resource resource = getResource(entity);
 
-		if (resource != null && resource.exists() && resource instanceof DeletableResource) {
-			try {
-				((DeletableResource) resource).delete();
-			} catch (IOException e) {
-				logger.warn(format("Unable to get file for resource %s", resource));
-			}
+		if (resource != null) {
+			delete(resource, BeanUtils.getFieldWithAnnotation(entity, ContentId.class));
 		}
 
 		// reset content fields
@@ -427,12 +526,8 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 
 		Resource resource = getResource(entity, propertyPath);
 
-		if (resource != null && resource.exists() && resource instanceof DeletableResource && params.getDisposition().equals(Disposition.Remove)) {
-			try {
-				((DeletableResource) resource).delete();
-			} catch (IOException e) {
-				logger.warn(format("Unable to get file for resource %s", resource));
-			}
+		if (resource != null && params.getDisposition().equals(Disposition.Remove)) {
+			delete(resource, property.getContentId(entity));
 		}
 
 		// reset content fields
@@ -444,33 +539,276 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 		return entity;
 	}
 
+	/**
+	 * Deletes the content held by {@code resource}, if any, excluding concurrent writes of the
+	 * same content.
+	 */
+	private void delete(Resource resource, Object contentId) {
+		Lock lock = LOCKS.get(contentId);
+		lock.lock();
+		try {
+			if (resource.exists() && resource instanceof DeletableResource deletable) {
+				deletable.delete();
+			}
+		} catch (IOException e) {
+			logger.warn(format("Unable to get file for resource %s", resource));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the lock that serialises writes and deletes of content with the given id, for
+	 * components that move content into or out of this store while it is in use.
+	 */
+	public Lock getLock(Object contentId) {
+		return LOCKS.get(contentId);
+	}
+
+	/**
+	 * Walks the content held in files under this store's root in order of location, passing the
+	 * id of each one, and the attributes of its file, to {@code visitor} until it returns
+	 * {@code false}. Packed content, files still being written, and files at a location that is
+	 * not the placement of an id of type {@code idClass} are skipped.
+	 * <p>
+	 * The walk starts after the position {@code after}, or at the start when that is
+	 * {@code null}, and returns the position of the file the visitor stopped at, from which a
+	 * later walk can resume, or {@code null} once it has reached the end. Files before the
+	 * position are neither read nor listed further than their directories.
+	 */
+	public String walk(Class<? extends SID> idClass, String after, BiPredicate<SID, BasicFileAttributes> visitor) throws IOException {
+		Path root = loader.getRootResource().getFile().toPath();
+		if (placer.canConvert(String.class, idClass) == false) {
+			return null;
+		}
+
+		Path stopped = walk(root, root, after != null ? Path.of(after) : null, idClass, visitor);
+		return stopped != null ? stopped.toString().replace(File.separatorChar, '/') : null;
+	}
+
+	private Path walk(Path root, Path directory, Path after, Class<? extends SID> idClass, BiPredicate<SID, BasicFileAttributes> visitor) throws IOException {
+		List<Path> entries;
+		try (Stream<Path> listing = Files.list(directory)) {
+			entries = listing.sorted(Comparator.comparing(entry -> entry.getFileName().toString())).toList();
+		} catch (IOException e) {
+			// removed while being walked
+			return null;
+		}
+
+		for (Path entry : entries) {
+			Path position = root.relativize(entry);
+			if (after != null && compare(position, after) <= 0 && (after.startsWith(position) == false || position.equals(after))) {
+				continue;
+			}
+
+			BasicFileAttributes attrs;
+			try {
+				attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+			} catch (IOException e) {
+				continue;
+			}
+
+			if (attrs.isDirectory()) {
+				if (position.toString().equals(PackStore.DIRECTORY)) {
+					continue;
+				}
+				Path stopped = walk(root, entry, after, idClass, visitor);
+				if (stopped != null) {
+					return stopped;
+				}
+			} else if (attrs.isRegularFile() && TemporaryFiles.isTemporary(entry) == false) {
+				SID id = idOf(position, idClass);
+				if (id != null && visitor.test(id, attrs) == false) {
+					return position;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the id of the content whose file is at {@code position}, or {@code null} when the
+	 * position is not the placement of an id of type {@code idClass}.
+	 */
+	private SID idOf(Path position, Class<? extends SID> idClass) {
+		String location = position.toString().replace(File.separatorChar, '/');
+		if (layout != null) {
+			String unsharded = layout.unshard(location);
+			// content not yet relocated by a sharding migration stays at its location
+			location = unsharded != null ? unsharded : location;
+		}
+
+		SID id;
+		try {
+			id = placer.convert(location, idClass);
+		} catch (RuntimeException e) {
+			return null;
+		}
+		if (id == null || location.equals(placer.convert(id, String.class)) == false) {
+			return null;
+		}
+		return id;
+	}
+
+	/**
+	 * Orders positions as the walk visits them, directory by directory, so that a directory's
+	 * files come before those of any sibling sorting after it.
+	 */
+	private static int compare(Path a, Path b) {
+		int names = Math.min(a.getNameCount(), b.getNameCount());
+		for (int i = 0; i < names; i++) {
+			int compared = a.getName(i).toString().compareTo(b.getName(i).toString());
+			if (compared != 0) {
+				return compared;
+			}
+		}
+		return Integer.compare(a.getNameCount(), b.getNameCount());
+	}
+
+	private Resource withRange(Resource resource, String range) {
+		if (range != null && resource instanceof RangeableResource rangeable) {
+			rangeable.setRange(range);
+		}
+		return resource;
+	}
+
+	/**
+	 * Returns the resource for a location produced by the placement service: the packed content
+	 * held for the location, if any, and otherwise its file (see {@link #resolveFile(String)}).
+	 */
+	private Resource resolve(String location) {
+		Resource resource = resolveFile(location);
+		if (packingThreshold > 0 && resource instanceof FileSystemDeletableResource file) {
+			PackStore packs = packs();
+			if (packs.contains(location)) {
+				return new PackedResource(packs, location, file);
+			}
+		}
+		return resource;
+	}
+
+	/**
+	 * Returns the resource for the file at a location produced by the placement service, sharded
+	 * when a {@link ShardedLayout} is configured. While a migration to the sharded layout is in
+	 * progress the resource also resolves content still held at the unsharded location.
+	 */
+	private Resource resolveFile(String location) {
+		if (layout == null) {
+			return loader.getResource(location);
+		}
+
+		String sharded = layout.locate(location);
+		if (migrating == false) {
+			return loader.getResource(sharded);
+		}
+		FileSystemResource root = loader.getRootResource();
+		return new MigratingFileSystemResource((FileSystemResource) root.createRelative(sharded), (FileSystemResource) root.createRelative(location), fileService, loader.getDirectoryReaper());
+	}
+
+	private PackStore packs() {
+		try {
+			return loader.getPackStore();
+		} catch (IOException e) {
+			throw new StoreAccessException(format("Opening the packs under %s", loader.getRootResource()), e);
+		}
+	}
+
+	/**
+	 * Returns the length of {@code content}: {@code contentLength} when given, the remainder of a
+	 * file, or -1 when it is not known up-front.
+	 */
+	private static long knownLength(InputStream content, long contentLength) throws IOException {
+		if (contentLength < 0 && content instanceof FileInputStream fileIn) {
+			return fileIn.getChannel().size() - fileIn.getChannel().position();
+		}
+		return contentLength;
+	}
+
+	/**
+	 * Packs {@code content} under {@code location} and then removes any file previously holding
+	 * the content at that location, so that readers see either the old or the new content.
+	 */
+	private void pack(String location, Resource resource, byte[] content) throws IOException {
+		packs().put(location, content);
+
+		Resource file = resource instanceof PackedResource packed ? packed.getFileResource() : resource;
+		if (file.exists() && file instanceof DeletableResource deletable) {
+			deletable.delete();
+		}
+	}
+
 	/**
 	 * Durably copies {@code content} into the blob backing {@code resource}.
 	 *
 	 * <p>The store owns the write channel (opened deterministically from the resource's
 	 * {@link Resource#getFile() file}) rather than relying on the {@link WritableResource}'s
 	 * {@code OutputStream}, whose concrete type — and therefore whether an {@code fsync} handle
-	 * is even reachable — is not guaranteed across Spring/JDK versions. After the full copy the
-	 * blob is {@link FileChannel#force(boolean) fsync}'d and only then closed (via
+	 * is even reachable — is not guaranteed across Spring/JDK versions. The content is copied to
+	 * a temporary sibling of the blob (see {@link TemporaryFiles}), which after the full copy is
+	 * {@link FileChannel#force(boolean) fsync}'d and only then closed (via
 	 * {@code try}-with-resources) so flush/{@code fsync}/close {@link IOException}s propagate to
-	 * the caller instead of being swallowed. The containing directory is then {@code fsync}'d
-	 * best-effort (see {@link #syncDirectory(File)}).
+	 * the caller instead of being swallowed. Only then is it renamed over the blob, and the
+	 * containing directory {@code fsync}'d best-effort (see {@link #syncDirectory(File)}) to make
+	 * the rename durable. With group commit the directory {@code fsync} is left to the
+	 * {@link GroupCommitFlusher}, which this method waits for. On failure the temporary
+	 * file is removed and the blob is left as it was.
+	 *
+	 * <p>When {@code contentLength} is known the blob may first be preallocated, and may be written
+	 * with direct I/O (see {@link #copyDirect(InputStream, FileChannel, int)}); either way it is
+	 * truncated to the number of bytes actually copied before it is {@code fsync}'d.
 	 *
 	 * <p>The supplied {@code content} stream is <em>not</em> closed here — closing it remains the
 	 * caller's responsibility, unchanged from the previous behaviour.
 	 *
-	 * @throws IOException if opening, writing, {@code fsync}ing, or closing the blob fails; the
-	 *         caller maps this to {@link StoreAccessException}.
+	 * @throws IOException if opening, writing, {@code fsync}ing, closing, or renaming the blob
+	 *         fails; the caller maps this to {@link StoreAccessException}.
 	 */
-	private void writeDurably(Resource resource, InputStream content) throws IOException {
+	private void writeDurably(Resource resource, InputStream content, long contentLength) throws IOException {
 		File file = resource.getFile();
-		try (FileChannel channel = openChannel(file.toPath())) {
-			copy(content, channel);
-			channel.force(true);
+		Path path = file.toPath();
+		Path temporary = TemporaryFiles.siblingOf(path);
+
+		try {
+			// file-backed content is transferred by the kernel, which direct I/O would only get in the way of
+			FileChannel direct = contentLength >= directIoThreshold && content instanceof FileInputStream == false ? openDirectChannel(temporary) : null;
+			try (FileChannel channel = direct != null ? direct : openForWrite(temporary)) {
+				boolean resize = direct != null;
+				if (contentLength >= preallocationThreshold) {
+					resize |= FileAllocator.allocate(temporary, contentLength);
+				}
+
+				long written = direct != null ? copyDirect(content, channel, blockSize(temporary)) : copy(content, channel);
+				if (resize) {
+					channel.truncate(written);
+				}
+
+				if (flusher != null) {
+					flusher.commit(channel, null);
+				} else {
+					channel.force(true);
+				}
+			}
+			Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException | RuntimeException e) {
+			discard(temporary, e);
+			throw e;
+		}
+
+		if (flusher != null) {
+			flusher.commit(file.getParentFile().toPath());
+			return;
 		}
 		syncDirectory(file.getParentFile());
 	}
 
+	private static void discard(Path temporary, Exception cause) {
+		try {
+			Files.deleteIfExists(temporary);
+		} catch (IOException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
 	/**
 	 * Opens the blob write channel with {@code CREATE, WRITE, TRUNCATE_EXISTING}. Package-private
 	 * so tests can decorate/fault-inject the returned channel.
@@ -480,16 +818,137 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 				StandardOpenOption.TRUNCATE_EXISTING);
 	}
 
-	private void copy(InputStream in, FileChannel out) throws IOException {
-		byte[] buffer = new byte[8192];
+	/**
+	 * Opens the blob write channel, recreating the blob's parent directories when they have been
+	 * removed since {@code setContent} created them: the {@link DirectoryReaper} may remove a
+	 * directory emptied by a delete in the moment between a writer creating it and creating its
+	 * blob in it.
+	 */
+	private FileChannel openForWrite(Path path) throws IOException {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return openChannel(path);
+			} catch (NoSuchFileException e) {
+				if (attempt == 3) {
+					throw e;
+				}
+				fileService.mkdirs(path.getParent().toFile());
+			}
+		}
+	}
+
+	/**
+	 * Opens the blob write channel with {@code CREATE, WRITE, TRUNCATE_EXISTING} and direct I/O,
+	 * or returns {@code null} when the file system does not support direct I/O.
+	 */
+	FileChannel openDirectChannel(Path path) {
+		try {
+			return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING, ExtendedOpenOption.DIRECT);
+		} catch (IOException | UnsupportedOperationException e) {
+			logger.debug(format("Direct I/O is not available for %s", path), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Copies {@code in} to {@code out}. A {@link FileInputStream} is copied from its current
+	 * position with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)
+	 * transferTo}, which the JDK maps onto an in-kernel copy ({@code copy_file_range} or
+	 * {@code sendfile}) where the platform offers one; the stream is left positioned at its end,
+	 * as if it had been read. Every other stream is copied through a heap buffer.
+	 */
+	private long copy(InputStream in, FileChannel out) throws IOException {
+		if (in instanceof FileInputStream fileIn) {
+			return transfer(fileIn.getChannel(), out);
+		}
+
+		byte[] buffer = new byte[writeBufferSize];
 		ByteBuffer bb = ByteBuffer.wrap(buffer);
+		long written = 0;
 		int read;
 		while ((read = in.read(buffer)) != -1) {
 			bb.position(0).limit(read);
 			while (bb.hasRemaining()) {
 				out.write(bb);
 			}
+			written += read;
+		}
+		return written;
+	}
+
+	private long transfer(FileChannel in, FileChannel out) throws IOException {
+		long start = in.position();
+		long position = start;
+		long transferred;
+		while (position < in.size() && (transferred = in.transferTo(position, in.size() - position, out)) > 0) {
+			position += transferred;
+		}
+		in.position(position);
+		return position - start;
+	}
+
+	/**
+	 * Copies {@code in} to a channel opened for direct I/O. Direct I/O requires every write to
+	 * start at, and cover, a whole number of file system blocks from a block-aligned buffer, so
+	 * the content is gathered into an aligned off-heap buffer and the final block is padded with
+	 * zeroes; the caller truncates the padding away.
+	 *
+	 * @return the number of content bytes copied, excluding padding
+	 */
+	private long copyDirect(InputStream in, FileChannel out, int alignment) throws IOException {
+		int size = Math.ceilDiv(directIoBufferSize, alignment) * alignment;
+		ByteBuffer buffer = ByteBuffer.allocateDirect(size + alignment).alignedSlice(alignment).slice(0, size);
+		byte[] chunk = new byte[Math.min(size, writeBufferSize)];
+
+		long written = 0;
+		boolean eof = false;
+		while (eof == false) {
+			buffer.clear();
+			while (buffer.hasRemaining()) {
+				int read = in.read(chunk, 0, Math.min(chunk.length, buffer.remaining()));
+				if (read == -1) {
+					eof = true;
+					break;
+				}
+				buffer.put(chunk, 0, read);
+			}
+
+			int filled = buffer.position();
+			if (filled == 0) {
+				break;
+			}
+			written += filled;
+
+			int padded = Math.ceilDiv(filled, alignment) * alignment;
+			while (buffer.position() < padded) {
+				buffer.put((byte) 0);
+			}
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				out.write(buffer);
+			}
+		}
+		return written;
+	}
+
+	private static int blockSize(Path path) {
+		try {
+			return Math.toIntExact(Files.getFileStore(path).getBlockSize());
+		} catch (IOException | UnsupportedOperationException | ArithmeticException e) {
+			return 4096;
+		}
+	}
+
+	/**
+	 * Opens a file-backed resource as a {@link FileInputStream}, so that {@link #copy(InputStream, FileChannel)}
+	 * can transfer it channel to channel; any other resource is read through its own stream.
+	 */
+	private InputStream openContent(Resource resource) throws IOException {
+		if (resource.isFile()) {
+			return new FileInputStream(resource.getFile());
 		}
+		return resource.getInputStream();
 	}
 
 	/**
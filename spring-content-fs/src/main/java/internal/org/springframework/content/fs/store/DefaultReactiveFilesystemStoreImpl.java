@@ -0,0 +1,479 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.store;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.GetResourceParams;
+import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.commons.store.StoreAccessException;
+import org.springframework.content.commons.utils.BeanUtils;
+import org.springframework.content.commons.utils.FileService;
+import org.springframework.content.commons.utils.PlacementService;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import internal.org.springframework.content.fs.config.FilesystemStorePropertiesImpl;
+import internal.org.springframework.content.fs.io.FileAllocator;
+import internal.org.springframework.content.fs.io.FileRangeInputStream;
+import internal.org.springframework.content.fs.io.MigratingFileSystemResource;
+import internal.org.springframework.content.fs.io.PackedResource;
+import internal.org.springframework.content.fs.io.TemporaryFiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking filesystem-backed {@link ReactiveContentStore}.
+ * <p>
+ * Content is read and written through an {@link AsynchronousFileChannel}, so no thread waits
+ * while bytes move between a {@link Flux} and the disk. Content is placed exactly where
+ * {@link DefaultFilesystemStoreImpl} places it, sharded layouts included, so that blocking and
+ * reactive stores can share a root.
+ * <p>
+ * Writes are as durable and as atomic as the blocking store's: content is written to a temporary
+ * file that is {@code fsync}'d and then renamed over the blob, after which its directory is
+ * {@code fsync}'d best-effort, and {@code setContent} completes only once all of that is done.
+ * The JDK offers opening, preallocating, {@code fsync}ing and renaming files, and checking that
+ * they exist, only as blocking calls, so they run on {@link Schedulers#boundedElastic()}; with a
+ * {@link GroupCommitFlusher} the blob {@code fsync} runs on one of its virtual threads and the
+ * directory {@code fsync} is batched by it. Unlike the blocking
+ * store, concurrent writes of the same content are not serialised, since that would mean
+ * blocking; the last to be renamed into place wins. Incoming buffers are written one at a time
+ * and the next one is requested only once the previous one has been written, so a fast producer
+ * cannot outrun the disk.
+ * <p>
+ * Reads follow demand in the same way: a chunk is read only once the subscriber has requested
+ * it, and at most one read is in flight per subscription. A read of a range given by
+ * {@link GetResourceParams#getRange()} starts and stops at the range's bounds, resolved as
+ * {@link FileRangeInputStream} resolves them; a range it cannot serve reads the whole content.
+ * <p>
+ * Content packed by a blocking store sharing the root is read whole, and replaced by a file when
+ * it is written; this store does not pack content itself.
+ */
+@Transactional
+public class DefaultReactiveFilesystemStoreImpl<S, SID extends Serializable>
+		implements org.springframework.content.commons.repository.ReactiveContentStore<S, SID>,
+		ReactiveContentStore<S, SID> {
+
+	private static Log logger = LogFactory.getLog(DefaultReactiveFilesystemStoreImpl.class);
+
+	static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private final DefaultFilesystemStoreImpl<S, SID> resources;
+	private final MappingContext mappingContext;
+	private final PlacementService placer;
+	private final FileService fileService;
+	private final GroupCommitFlusher flusher;
+	private final long preallocationThreshold;
+
+	public DefaultReactiveFilesystemStoreImpl(FileSystemResourceLoader loader, MappingContext mappingContext, PlacementService placer, FileService fileService, FilesystemStorePropertiesImpl properties, GroupCommitFlusher flusher) {
+		Assert.notNull(loader, "loader must be specified");
+		Assert.notNull(placer, "placer must be specified");
+		Assert.notNull(fileService, "fileService must be specified");
+		this.mappingContext = mappingContext != null ? mappingContext : new MappingContext("/", ".");
+		this.resources = new DefaultFilesystemStoreImpl<>(loader, this.mappingContext, placer, fileService, properties, flusher);
+		this.placer = placer;
+		this.fileService = fileService;
+		this.flusher = flusher;
+		this.preallocationThreshold = properties.getPreallocationThreshold();
+	}
+
+	@Transactional
+	@Override
+	public Mono<S> setContent(S entity, PropertyPath path, long contentLen, Flux<ByteBuffer> buffer) {
+		ContentProperty property = getContentProperty(entity, path);
+
+		if (property.getContentId(entity) == null) {
+			Serializable newId = UUID.randomUUID().toString();
+
+			Object convertedId = placer.convert(
+					newId,
+					TypeDescriptor.forObject(newId),
+					property.getContentIdType(entity));
+
+			property.setContentId(entity, convertedId, null);
+		}
+
+		Resource resource = resources.getResource(entity, path);
+		if (resource == null) {
+			return Mono.just(entity);
+		}
+
+		// closed through usingWhen so that, as in the blocking store, a failure to close surfaces
+		return Mono.fromCallable(() -> resource.getFile().toPath())
+				.flatMap(file -> {
+					Path temporary = TemporaryFiles.siblingOf(file);
+					return Mono.usingWhen(
+									Mono.fromCallable(() -> openForWrite(temporary)).subscribeOn(Schedulers.boundedElastic()),
+									channel -> write(channel, temporary, contentLen, buffer),
+									channel -> Mono.<Void>fromCallable(() -> {
+										channel.close();
+										return null;
+									}),
+									(channel, e) -> Mono.fromRunnable(() -> close(channel)),
+									channel -> Mono.fromRunnable(() -> close(channel)))
+							.flatMap(written -> rename(temporary, file).thenReturn(written))
+							.onErrorResume(e -> Mono.fromRunnable(() -> discard(temporary))
+									.subscribeOn(Schedulers.boundedElastic())
+									.then(Mono.error(e)))
+							.doOnCancel(() -> discard(temporary));
+				})
+				.flatMap(written -> unpack(resource).thenReturn(written))
+				.map(written -> {
+					property.setContentLength(entity, written);
+					return entity;
+				})
+				.onErrorMap(IOException.class, e -> {
+					logger.error(format("Unexpected io error setting content for entity %s", entity), e);
+					return new StoreAccessException(format("Setting content for entity %s", entity), e);
+				});
+	}
+
+	@Override
+	public Flux<ByteBuffer> getContent(S entity, PropertyPath path) {
+		return getContent(entity, path, null);
+	}
+
+	@Override
+	public Flux<ByteBuffer> getContent(S entity, PropertyPath path, GetResourceParams params) {
+		if (entity == null) {
+			return Flux.empty();
+		}
+
+		ContentProperty property = getContentProperty(entity, path);
+		if (property.getContentId(entity) == null) {
+			return Flux.empty();
+		}
+
+		Resource resource = resources.getResource(entity, path);
+		if (resource == null) {
+			return Flux.empty();
+		}
+
+		String range = params != null ? params.getRange() : null;
+		Flux<ByteBuffer> content = resource instanceof PackedResource
+				? Mono.fromCallable(() -> readPacked(resource, range)).flux()
+				: Flux.using(() -> openForRead(resource), channel -> read(channel, range), this::close);
+		return Mono.fromCallable(resource::exists)
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMapMany(exists -> exists ? content : Flux.empty())
+				.onErrorMap(IOException.class, e -> {
+					logger.error(format("Unexpected error getting content for entity %s", entity), e);
+					return new StoreAccessException(format("Getting content for entity %s", entity), e);
+				});
+	}
+
+	@Transactional
+	@Override
+	public Mono<S> unsetContent(S entity, PropertyPath propertyPath) {
+		if (entity == null) {
+			return Mono.empty();
+		}
+
+		ContentProperty property = getContentProperty(entity, propertyPath);
+		if (property.getContentId(entity) == null) {
+			return Mono.just(entity);
+		}
+
+		Resource resource = resources.getResource(entity, propertyPath);
+
+		return Mono.fromCallable(() -> {
+					if (resource != null && resource.exists() && resource instanceof DeletableResource deletable) {
+						try {
+							deletable.delete();
+						} catch (IOException e) {
+							logger.warn(format("Unable to get file for resource %s", resource));
+						}
+					}
+					return entity;
+				})
+				.subscribeOn(Schedulers.boundedElastic())
+				.map(unset -> {
+					resources.unassociate(entity, propertyPath);
+					property.setContentLength(entity, BeanUtils.getDefaultValueForType(property.getContentLengthType().getType()));
+					return entity;
+				});
+	}
+
+	private ContentProperty getContentProperty(S entity, PropertyPath path) {
+		ContentProperty property = this.mappingContext.getContentProperty(entity.getClass(), path.getName());
+		if (property == null) {
+			throw new StoreAccessException(String.format("Content property %s does not exist", path.getName()));
+		}
+		return property;
+	}
+
+	/**
+	 * Writes {@code content} to {@code channel} buffer by buffer and makes the written bytes
+	 * durable, producing the number of bytes written. As in the blocking store, a blob of known length may
+	 * be preallocated, in which case it is truncated to the bytes actually written.
+	 */
+	private Mono<Long> write(AsynchronousFileChannel channel, Path file, long contentLen, Flux<ByteBuffer> content) {
+		Mono<Boolean> allocated = contentLen >= preallocationThreshold
+				? Mono.fromCallable(() -> FileAllocator.allocate(file, contentLen)).subscribeOn(Schedulers.boundedElastic())
+				: Mono.just(false);
+
+		AtomicLong position = new AtomicLong();
+		return allocated.flatMap(resize -> content
+				.concatMap(buffer -> write(channel, buffer, position.getAndAdd(buffer.remaining())), 1)
+				.then(Mono.fromCallable(() -> {
+					long written = position.get();
+					if (resize) {
+						channel.truncate(written);
+					}
+					return written;
+				}))
+				.flatMap(written -> sync(channel).thenReturn(written)));
+	}
+
+	/**
+	 * Renames the durable {@code temporary} file over {@code file} and makes the rename durable
+	 * by {@code fsync}ing their directory, so that readers see either the previous or the new
+	 * content in full.
+	 */
+	private Mono<Void> rename(Path temporary, Path file) {
+		Mono<Void> renamed = Mono.<Void>fromCallable(() -> {
+					Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+					if (flusher == null) {
+						syncDirectory(file.getParent());
+					}
+					return null;
+				})
+				.subscribeOn(Schedulers.boundedElastic());
+		if (flusher != null) {
+			return renamed.then(Mono.fromFuture(() -> flusher.submit(file.getParent())));
+		}
+		return renamed;
+	}
+
+	private void discard(Path temporary) {
+		try {
+			Files.deleteIfExists(temporary);
+		} catch (IOException e) {
+			logger.warn(format("Unable to delete %s", temporary), e);
+		}
+	}
+
+	private static Mono<Void> write(AsynchronousFileChannel channel, ByteBuffer buffer, long position) {
+		return Mono.create(sink -> channel.write(buffer, position, sink, new CompletionHandler<Integer, MonoSink<Void>>() {
+
+			private long next = position;
+
+			@Override
+			public void completed(Integer written, MonoSink<Void> sink) {
+				next += written;
+				if (buffer.hasRemaining()) {
+					channel.write(buffer, next, sink, this);
+				} else {
+					sink.success();
+				}
+			}
+
+			@Override
+			public void failed(Throwable e, MonoSink<Void> sink) {
+				sink.error(e);
+			}
+		}));
+	}
+
+	/**
+	 * Reads the given range of {@code channel}, or all of it when there is no range or it is not
+	 * one {@link FileRangeInputStream} can serve.
+	 */
+	private Flux<ByteBuffer> read(AsynchronousFileChannel channel, String range) {
+		if (range == null) {
+			return read(channel, 0, Long.MAX_VALUE);
+		}
+		return Mono.fromCallable(channel::size)
+				.flatMapMany(size -> {
+					FileRangeInputStream.Bounds bounds = FileRangeInputStream.bounds(range, size);
+					return bounds != null ? read(channel, bounds.first(), bounds.end()) : read(channel, 0, Long.MAX_VALUE);
+				});
+	}
+
+	/**
+	 * Reads {@code channel} from {@code from} up to {@code to} or its end, one chunk per request.
+	 * Each chunk is read into a buffer of its own since {@link ByteBuffer}s carry no signal
+	 * telling the store when the subscriber is done with one.
+	 */
+	private Flux<ByteBuffer> read(AsynchronousFileChannel channel, long from, long to) {
+		if (from >= to) {
+			return Flux.empty();
+		}
+		AtomicLong position = new AtomicLong(from);
+		AtomicBoolean end = new AtomicBoolean();
+		return Mono.<ByteBuffer>create(sink -> {
+					ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_BUFFER_SIZE, to - position.get()));
+					channel.read(buffer, position.get(), sink, new CompletionHandler<Integer, MonoSink<ByteBuffer>>() {
+
+						@Override
+						public void completed(Integer read, MonoSink<ByteBuffer> sink) {
+							if (read == -1) {
+								end.set(true);
+								sink.success();
+								return;
+							}
+							if (position.addAndGet(read) >= to) {
+								end.set(true);
+							}
+							sink.success(buffer.flip());
+						}
+
+						@Override
+						public void failed(Throwable e, MonoSink<ByteBuffer> sink) {
+							sink.error(e);
+						}
+					});
+				})
+				.repeat(() -> end.get() == false);
+	}
+
+	/**
+	 * Removes the packed copy of content that has just been written to its file.
+	 */
+	private static Mono<Void> unpack(Resource resource) {
+		if (resource instanceof PackedResource packed) {
+			return Mono.<Void>fromCallable(() -> {
+						packed.unpack();
+						return null;
+					})
+					.subscribeOn(Schedulers.boundedElastic());
+		}
+		return Mono.empty();
+	}
+
+	/**
+	 * Reads packed content whole, and then slices out the given range, if any: it is small, and
+	 * held in a pack file shared with other content.
+	 */
+	private static ByteBuffer readPacked(Resource resource, String range) throws IOException {
+		byte[] content;
+		try (InputStream in = resource.getInputStream()) {
+			content = in.readAllBytes();
+		}
+		FileRangeInputStream.Bounds bounds = range != null ? FileRangeInputStream.bounds(range, content.length) : null;
+		if (bounds == null) {
+			return ByteBuffer.wrap(content);
+		}
+		int from = (int) Math.min(bounds.first(), content.length);
+		return ByteBuffer.wrap(content, from, (int) Math.max(bounds.end() - from, 0)).slice();
+	}
+
+	private Mono<Void> sync(AsynchronousFileChannel channel) {
+		if (flusher != null) {
+			return Mono.fromFuture(() -> flusher.submit(channel, null));
+		}
+		return Mono.<Void>fromCallable(() -> {
+					channel.force(true);
+					return null;
+				})
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Opens the blob write channel with {@code CREATE, WRITE, TRUNCATE_EXISTING}, creating the
+	 * blob's parent directories when they do not exist or have been removed by the
+	 * {@link internal.org.springframework.content.fs.io.DirectoryReaper DirectoryReaper} in the
+	 * meantime. Package-private so tests can decorate the returned channel.
+	 */
+	AsynchronousFileChannel openForWrite(Path path) throws IOException {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return AsynchronousFileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING);
+			} catch (NoSuchFileException e) {
+				if (attempt == 3) {
+					throw e;
+				}
+				fileService.mkdirs(path.getParent().toFile());
+			}
+		}
+	}
+
+	/**
+	 * Opens the blob for reading. Content still held at its unsharded location during a sharding
+	 * migration is read from there, as {@link MigratingFileSystemResource} does.
+	 */
+	private AsynchronousFileChannel openForRead(Resource resource) throws IOException {
+		Path path = resource.getFile().toPath();
+		try {
+			return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+		} catch (NoSuchFileException e) {
+			if (resource instanceof MigratingFileSystemResource == false) {
+				throw e;
+			}
+			MigratingFileSystemResource migrating = (MigratingFileSystemResource) resource;
+			try {
+				return AsynchronousFileChannel.open(migrating.getPreviousResource().getFile().toPath(), StandardOpenOption.READ);
+			} catch (NoSuchFileException notMoved) {
+				return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+			}
+		}
+	}
+
+	private void close(AsynchronousFileChannel channel) {
+		try {
+			channel.close();
+		} catch (IOException e) {
+			logger.warn(format("Unable to close channel %s", channel), e);
+		}
+	}
+
+	/**
+	 * Best-effort {@code fsync} of the directory holding a newly-created blob, as in
+	 * {@link DefaultFilesystemStoreImpl}.
+	 */
+	private void syncDirectory(Path directory) {
+		if (directory == null) {
+			return;
+		}
+		try (FileChannel dirChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			dirChannel.force(true);
+		} catch (IOException e) {
+			logger.debug(format("Best-effort directory fsync failed for %s", directory), e);
+		}
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.store;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * Makes blobs written by concurrent writers durable, sharing the directory {@code fsync}s.
+ * <p>
+ * A writer hands its open blob channel to {@link #commit(FileChannel, Path)}, which
+ * {@link FileChannel#force(boolean) fdatasync}s it on the writer's own thread, so concurrent
+ * writers {@code fsync} their blobs in parallel and leave it to the file system to merge the
+ * journal commits they need. Even an {@code fdatasync} commits the journal for a blob whose size
+ * or blocks have just changed, as a newly written blob's always have, so funnelling them through
+ * one thread would only queue those commits one behind the other.
+ * <p>
+ * What is batched is the directory {@code fsync}: a single flusher thread collects the
+ * directories to commit that arrive while it is busy, plus any that arrive within the configured
+ * window after the first, and {@code fsync}s each distinct directory once for the whole batch,
+ * distinct directories in parallel. Writers that rename a blob into place once it is durable
+ * commit its directory afterwards through {@link #commit(Path)} or {@link #submit(Path)}.
+ * <p>
+ * Non-blocking writers hand their {@link AsynchronousFileChannel} to
+ * {@link #submit(AsynchronousFileChannel, Path)} instead, which {@code fdatasync}s it on a virtual
+ * thread of its own and notifies them when it is durable.
+ * <p>
+ * As in the synchronous path, a failure to {@code fsync} a blob fails that writer's commit
+ * while a failure to {@code fsync} a directory is logged and ignored.
+ */
+public class GroupCommitFlusher implements DisposableBean {
+
+	private static Log logger = LogFactory.getLog(GroupCommitFlusher.class);
+
+	static final int MAX_BATCH = 1024;
+
+	private final long windowNanos;
+	private final BlockingQueue<Commit> queue = new LinkedBlockingQueue<>();
+	private final ExecutorService fsyncs = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("filesystem-store-fsync-", 0).factory());
+
+	private Thread flusher;
+	private volatile boolean closed = false;
+
+	public GroupCommitFlusher(Duration window) {
+		Assert.notNull(window, "window must not be null");
+		Assert.isTrue(window.isNegative() == false, "window must not be negative");
+		this.windowNanos = window.toNanos();
+	}
+
+	/**
+	 * Blocks until everything written to {@code channel} is durable, along with its entry in
+	 * {@code directory}, if given.
+	 *
+	 * @throws IOException if the blob could not be {@code fsync}'d
+	 */
+	public void commit(FileChannel channel, Path directory) throws IOException {
+		channel.force(false);
+		if (directory != null) {
+			commit(directory);
+		}
+	}
+
+	/**
+	 * Blocks until the entries of {@code directory} are durable, such as one a blob has just been
+	 * renamed to.
+	 */
+	public void commit(Path directory) throws IOException {
+		await(submit(directory), directory);
+	}
+
+	/**
+	 * Returns a future that completes once everything written to {@code channel} is durable, along
+	 * with its entry in {@code directory}, if given, or completes exceptionally with the
+	 * {@link IOException} that prevented the blob being {@code fsync}'d. The channel must stay open
+	 * until the future completes.
+	 */
+	public CompletableFuture<Void> submit(AsynchronousFileChannel channel, Path directory) {
+		CompletableFuture<Void> forced = new CompletableFuture<>();
+		Runnable force = () -> {
+			try {
+				channel.force(false);
+				forced.complete(null);
+			} catch (IOException | RuntimeException e) {
+				forced.completeExceptionally(e);
+			}
+		};
+		try {
+			fsyncs.execute(force);
+		} catch (RejectedExecutionException e) {
+			// shutting down; make this one durable on the caller's thread
+			force.run();
+		}
+		return directory != null ? forced.thenCompose(done -> submit(directory)) : forced;
+	}
+
+	/**
+	 * Returns a future that completes once the entries of {@code directory} are durable.
+	 */
+	public CompletableFuture<Void> submit(Path directory) {
+		Commit commit = new Commit(directory);
+		if (enqueue(commit) == false) {
+			// shutting down; make this one durable on the caller's thread
+			syncDirectory(directory);
+			commit.done.complete(null);
+		}
+		return commit.done;
+	}
+
+	private static void await(CompletableFuture<Void> done, Path directory) throws IOException {
+		try {
+			done.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(format("Interrupted waiting for %s to be flushed", directory));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioe) {
+				throw ioe;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	private synchronized boolean enqueue(Commit commit) {
+		if (closed) {
+			return false;
+		}
+		if (flusher == null) {
+			flusher = new Thread(this::run, "filesystem-store-flusher");
+			flusher.setDaemon(true);
+			flusher.start();
+		}
+		queue.add(commit);
+		return true;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		Thread thread;
+		synchronized (this) {
+			closed = true;
+			thread = flusher;
+		}
+		if (thread != null) {
+			thread.join(TimeUnit.SECONDS.toMillis(10));
+		}
+		fsyncs.shutdown();
+	}
+
+	private void run() {
+		List<Commit> batch = new ArrayList<>();
+		while (closed == false || queue.isEmpty() == false) {
+			try {
+				Commit first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+
+				long deadline = System.nanoTime() + windowNanos;
+				while (batch.size() < MAX_BATCH) {
+					long remaining = deadline - System.nanoTime();
+					Commit next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				// nothing interrupts the flusher; flush whatever has been collected and carry on
+			}
+
+			flush(batch);
+			batch.clear();
+		}
+	}
+
+	void flush(List<Commit> batch) {
+		Map<Path, List<Commit>> directories = new LinkedHashMap<>();
+		for (Commit commit : batch) {
+			directories.computeIfAbsent(commit.directory, directory -> new ArrayList<>()).add(commit);
+		}
+
+		List<CompletableFuture<Void>> synced = new ArrayList<>(directories.size());
+		for (Map.Entry<Path, List<Commit>> entry : directories.entrySet()) {
+			Runnable sync = () -> {
+				syncDirectory(entry.getKey());
+				for (Commit commit : entry.getValue()) {
+					commit.done.complete(null);
+				}
+			};
+			if (directories.size() == 1) {
+				sync.run();
+				continue;
+			}
+			try {
+				synced.add(CompletableFuture.runAsync(sync, fsyncs));
+			} catch (RejectedExecutionException e) {
+				sync.run();
+			}
+		}
+		CompletableFuture.allOf(synced.toArray(new CompletableFuture[0])).join();
+	}
+
+	void syncDirectory(Path directory) {
+		if (directory == null) {
+			return;
+		}
+		try (FileChannel dirChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			dirChannel.force(true);
+		} catch (IOException e) {
+			logger.debug(format("Best-effort directory fsync failed for %s", directory), e);
+		}
+	}
+
+	static final class Commit {
+
+		private final Path directory;
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		Commit(Path directory) {
+			this.directory = directory;
+		}
+	}
+}
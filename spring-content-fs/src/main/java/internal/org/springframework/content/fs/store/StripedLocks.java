@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.store;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.util.Assert;
+
+/**
+ * A fixed set of locks shared out among content ids by hash, so that writers of the same content
+ * are serialised while writers of different content almost always proceed in parallel, without
+ * allocating a lock per id. Two ids may share a lock; that only costs them some parallelism.
+ */
+public final class StripedLocks {
+
+	public static final int DEFAULT_STRIPES = 1024;
+
+	private final Lock[] locks;
+	private final int mask;
+
+	public StripedLocks(int stripes) {
+		Assert.isTrue(stripes > 0 && stripes <= 1 << 30, "stripes must be between 1 and 2^30");
+		int size = Integer.highestOneBit(stripes);
+		if (size < stripes) {
+			size <<= 1;
+		}
+		this.locks = new Lock[size];
+		for (int i = 0; i < size; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Returns the lock guarding content with the given id. Content placed without an id, which
+	 * a {@link org.springframework.content.commons.utils.PlacementService PlacementService} may
+	 * do for a whole entity, all shares one lock.
+	 */
+	public Lock get(Object contentId) {
+		return locks[index(contentId)];
+	}
+
+	int stripes() {
+		return locks.length;
+	}
+
+	int index(Object contentId) {
+		// spread the high bits down, as HashMap does, since only the low ones select the stripe
+		int h = Objects.hashCode(contentId);
+		return (h ^ (h >>> 16)) & mask;
+	}
+}
@@ -6,4 +6,6 @@ public interface FilesystemStoreConfigurer {
 
 	void configureFilesystemStoreConverters(ConverterRegistry registry);
 
+	default void configure(FilesystemStoreProperties store) {
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.fs.config;
+
+import java.time.Duration;
+
+/**
+ * Options applied to every filesystem store, set through
+ * {@link FilesystemStoreConfigurer#configure(FilesystemStoreProperties)}.
+ */
+public interface FilesystemStoreProperties {
+
+	/**
+	 * Places content in {@code levels} levels of sub-directories, each named after {@code width}
+	 * hex digits of a hash of the content's location, instead of directly at that location. For
+	 * example, with 2 levels of width 2 the content at {@code 5f2b...} is placed at
+	 * {@code 3a/9c/5f2b...}. {@code levels * width} may not exceed 8; 0 levels (the default)
+	 * disables sharding.
+	 *
+	 * @param levels number of directory levels
+	 * @param width number of hex digits naming each directory
+	 * @return these properties
+	 */
+	FilesystemStoreProperties sharding(int levels, int width);
+
+	/**
+	 * Whether content written before sharding was enabled may still be found at its unsharded
+	 * location. While set, reads look in the sharded location first and then in the unsharded
+	 * one, writes always go to the sharded location and deletes remove both. Set this while
+	 * {@link org.springframework.content.fs.io.FileSystemShardingMigrator} relocates existing
+	 * content and clear it once migration has completed.
+	 *
+	 * @param migrating whether a migration to the sharded layout is in progress
+	 * @return these properties
+	 */
+	FilesystemStoreProperties shardingMigration(boolean migrating);
+
+	/**
+	 * Shares the directory {@code fsync}s of concurrent writers in batches instead of issuing one
+	 * per write. Each writer still {@code fsync}s its own content, concurrently with the others,
+	 * and each {@code setContent} still returns only once its content is durable.
+	 * A batch is flushed as soon as the previous one completes, once it has waited up to
+	 * {@code window} for further writers to join it; {@link Duration#ZERO} adds no wait.
+	 *
+	 * @param window how long a batch waits for further writers before it is flushed
+	 * @return these properties
+	 */
+	FilesystemStoreProperties groupCommit(Duration window);
+
+	/**
+	 * Size of the buffer content is copied through when it is written, 8 KiB by default.
+	 *
+	 * @param bytes buffer size in bytes
+	 * @return these properties
+	 */
+	FilesystemStoreProperties writeBufferSize(int bytes);
+
+	/**
+	 * Reserves disk space for content whose length is given up-front (see
+	 * {@link org.springframework.content.commons.store.SetContentParams#getContentLength()}) and
+	 * is at least {@code threshold} bytes, before any of it is written, so that large files are
+	 * not fragmented. Only available where the C library offers {@code posix_fallocate};
+	 * elsewhere content is written as usual. Disabled by default.
+	 *
+	 * @param threshold minimum content length, in bytes, that is preallocated
+	 * @return these properties
+	 */
+	FilesystemStoreProperties preallocation(long threshold);
+
+	/**
+	 * Writes content whose length is given up-front and is at least {@code threshold} bytes with
+	 * direct I/O, bypassing the page cache so that large uploads do not evict cached content
+	 * that is read often. Content is written through an off-heap buffer of {@code bufferSize}
+	 * bytes, rounded up to the file system's block size. Where the file system does not support
+	 * direct I/O content is written as usual. Disabled by default.
+	 *
+	 * @param threshold minimum content length, in bytes, that is written with direct I/O
+	 * @param bufferSize size of the direct I/O buffer, in bytes
+	 * @return these properties
+	 */
+	FilesystemStoreProperties directIo(long threshold, int bufferSize);
+
+	/**
+	 * Appends content shorter than {@code threshold} bytes to shared, log-structured pack files
+	 * under the store root instead of storing it in a file of its own, saving the inode,
+	 * directory entry and directory {@code fsync} each file costs. Space left by replaced or
+	 * removed content is reclaimed by compacting the packs in the background. Content at least
+	 * {@code threshold} bytes long is stored as usual. {@code threshold} may not exceed 16 MiB;
+	 * 0 (the default) disables packing.
+	 *
+	 * @param threshold content length, in bytes, below which content is packed
+	 * @return these properties
+	 */
+	FilesystemStoreProperties packing(long threshold);
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.fs.config;
+
+import java.time.Duration;
+
+import org.springframework.content.commons.store.Store;
+
+/**
+ * Tiering options of a {@link org.springframework.content.fs.store.TieredContentStore
+ * TieredContentStore}.
+ *
+ * @author marcobelligoli
+ */
+public interface TieredContentStoreConfiguration {
+
+	/**
+	 * Sets the store content is demoted to. It must use the same content ids as the filesystem
+	 * store, and its resources must be writable and deletable, as those of the S3, GCS, Azure
+	 * and JPA stores are. Required.
+	 */
+	TieredContentStoreConfiguration secondary(Store<?> store);
+
+	/**
+	 * Sets how long content must go unread and unwritten before it is demoted; defaults to 30
+	 * days.
+	 */
+	TieredContentStoreConfiguration demoteAfter(Duration idle);
+
+	/**
+	 * Sets how often the filesystem is checked for content to demote; defaults to an hour.
+	 */
+	TieredContentStoreConfiguration demotionInterval(Duration interval);
+
+	/**
+	 * Sets how many items of content are demoted at a time; defaults to 1000. Batches follow
+	 * each other without waiting for the next interval while there is more to demote.
+	 */
+	TieredContentStoreConfiguration demotionBatchSize(int batchSize);
+
+	/**
+	 * Sets how many files are looked at in one check for content to demote; defaults to 100000.
+	 * A check resumes where the previous one stopped, so that a large filesystem is covered over
+	 * several intervals rather than walked whole every time.
+	 */
+	TieredContentStoreConfiguration demotionScanLimit(int files);
+
+	/**
+	 * Moves demoted content back to the filesystem once it has been read this many times within
+	 * one demotion interval; defaults to 0, which never promotes content.
+	 */
+	TieredContentStoreConfiguration promoteAfter(int reads);
+}
@@ -2,8 +2,12 @@ package org.springframework.content.fs.io;
 
 import static org.springframework.util.StringUtils.cleanPath;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.content.commons.io.DeletableResource;
 import org.springframework.content.commons.utils.FileService;
 import org.springframework.content.commons.utils.FileServiceImpl;
@@ -13,7 +17,9 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.util.Assert;
 
+import internal.org.springframework.content.fs.io.DirectoryReaper;
 import internal.org.springframework.content.fs.io.FileSystemDeletableResource;
+import internal.org.springframework.content.fs.io.PackStore;
 
 /**
  * {@link ResourceLoader} implementation that resolves plain paths as
@@ -27,18 +33,21 @@ import internal.org.springframework.content.fs.io.FileSystemDeletableResource;
  * behavior, even if they start with a slash.
  */
 public class FileSystemResourceLoader
-		extends org.springframework.core.io.FileSystemResourceLoader {
+		extends org.springframework.core.io.FileSystemResourceLoader implements DisposableBean {
 
     private static Log logger = LogFactory.getLog(FileSystemResourceLoader.class);
 
 	private FileSystemResource root;
 	private FileService fileService = null;
+	private final DirectoryReaper reaper;
+	private PackStore packs;
 
 	public FileSystemResourceLoader(String root) {
 		Assert.notNull(root, "root must not be null");
 		logger.info(String.format("Defaulting filesystem root to %s", root));
 		this.root = new FileSystemResource(suffixPath(cleanPath(root)));
 		this.fileService = new FileServiceImpl();
+		this.reaper = new DirectoryReaper(Paths.get(this.root.getPath()), DirectoryReaper.DEFAULT_DELAY);
 	}
 
 	@Deprecated
@@ -50,6 +59,24 @@ public class FileSystemResourceLoader
 		return root;
 	}
 
+	/**
+	 * Returns the reaper that removes directories left empty under the root by deleted content.
+	 */
+	public DirectoryReaper getDirectoryReaper() {
+		return reaper;
+	}
+
+	/**
+	 * Returns the store of small content packed under the root, opening it on first use. Stores
+	 * sharing this loader share its packs.
+	 */
+	public synchronized PackStore getPackStore() throws IOException {
+		if (packs == null) {
+			packs = new PackStore(Paths.get(root.getPath()).resolve(PackStore.DIRECTORY));
+		}
+		return packs;
+	}
+
 	private String suffixPath(String path) {
 		if (path.endsWith("/") == false) {
 			return path + "/";
@@ -62,8 +89,18 @@ public class FileSystemResourceLoader
 		Assert.notNull(root, "root must not be null");
 		Resource resource = root.createRelative(location);
 		if (resource instanceof FileSystemResource) {
-			resource = new FileSystemDeletableResource((FileSystemResource) resource, fileService);
+			resource = new FileSystemDeletableResource((FileSystemResource) resource, fileService, reaper);
 		}
 		return resource;
 	}
+
+	@Override
+	public void destroy() {
+		reaper.destroy();
+		synchronized (this) {
+			if (packs != null) {
+				packs.close();
+			}
+		}
+	}
 }
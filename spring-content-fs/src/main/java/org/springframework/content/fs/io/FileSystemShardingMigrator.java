@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.fs.io;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.content.commons.utils.FileService;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.util.Assert;
+
+import internal.org.springframework.content.fs.io.PackStore;
+import internal.org.springframework.content.fs.io.ShardedLayout;
+import internal.org.springframework.content.fs.io.TemporaryFiles;
+
+/**
+ * Relocates content already held by filesystem stores into a sharded layout, while the stores
+ * keep serving requests.
+ * <p>
+ * Stores must be configured with the same sharding and with
+ * {@link org.springframework.content.fs.config.FilesystemStoreProperties#shardingMigration(boolean)
+ * shardingMigration(true)} for the duration of the migration, so that they find content at
+ * either location and write new content to the sharded one. Every file under the store root
+ * that is not already in the sharded layout is moved by creating a hard link at its sharded
+ * location and then removing the previous link, so the content is always reachable and a file
+ * written to the sharded location in the meantime is never overwritten with an older version
+ * (the older one is removed instead). Where hard links are not supported the file is moved
+ * instead. Files are relocated in parallel; the migration may be interrupted and run again.
+ * Temporary files that stores write content to before renaming it into place are left alone.
+ */
+public class FileSystemShardingMigrator {
+
+	private static final Log logger = LogFactory.getLog(FileSystemShardingMigrator.class);
+
+	private final Path root;
+	private final Path packs;
+	private final ShardedLayout layout;
+	private final FileService fileService = new FileServiceImpl();
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	public FileSystemShardingMigrator(FileSystemResourceLoader loader, int levels, int width) {
+		Assert.notNull(loader, "loader must not be null");
+		this.root = loader.getRootResource().getFile().toPath();
+		this.packs = root.resolve(PackStore.DIRECTORY);
+		this.layout = new ShardedLayout(levels, width);
+	}
+
+	/**
+	 * Sets the number of files relocated concurrently; defaults to the number of processors.
+	 */
+	public FileSystemShardingMigrator parallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "parallelism must be positive");
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * Relocates every file under the store root that is not yet in the sharded layout, and
+	 * returns once all of them have been processed.
+	 */
+	public Result migrate() throws IOException {
+		LongAdder migrated = new LongAdder();
+		LongAdder skipped = new LongAdder();
+		LongAdder failed = new LongAdder();
+
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		Semaphore pending = new Semaphore(parallelism * 64);
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+					// packed content is keyed by location, not placed at it
+					return dir.equals(packs) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					// a temporary file is content still being written, which its writer renames into place
+					if (attrs.isRegularFile() == false || TemporaryFiles.isTemporary(file)) {
+						return FileVisitResult.CONTINUE;
+					}
+					String location = location(file);
+					if (layout.unshard(location) != null) {
+						skipped.increment();
+						return FileVisitResult.CONTINUE;
+					}
+
+					pending.acquireUninterruptibly();
+					executor.execute(() -> {
+						try {
+							if (relocate(file, root.resolve(layout.locate(location)))) {
+								migrated.increment();
+							} else {
+								skipped.increment();
+							}
+						} catch (IOException | RuntimeException e) {
+							failed.increment();
+							logger.warn(format("Unable to relocate %s", file), e);
+						} finally {
+							pending.release();
+						}
+					});
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException e) {
+					if (e instanceof NoSuchFileException == false) {
+						logger.warn(format("Unable to visit %s", file), e);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} finally {
+			executor.shutdown();
+			try {
+				while (executor.awaitTermination(1, TimeUnit.MINUTES) == false) {
+					logger.info(format("Relocated %d files so far", migrated.sum()));
+				}
+			} catch (InterruptedException e) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		Result result = new Result(migrated.sum(), skipped.sum(), failed.sum());
+		logger.info(format("Sharding migration of %s finished: %s", root, result));
+		return result;
+	}
+
+	/**
+	 * Moves {@code source} to {@code target} unless {@code target} already exists, in which case
+	 * {@code source} is older content and is removed. Returns false when {@code source} has gone.
+	 */
+	private boolean relocate(Path source, Path target) throws IOException {
+		Files.createDirectories(target.getParent());
+		try {
+			try {
+				Files.createLink(target, source);
+			} catch (FileAlreadyExistsException | NoSuchFileException e) {
+				throw e;
+			} catch (UnsupportedOperationException | FileSystemException linksUnsupported) {
+				Files.move(source, target);
+				removeEmptyParents(source);
+				return true;
+			}
+			Files.deleteIfExists(source);
+		} catch (FileAlreadyExistsException newer) {
+			Files.deleteIfExists(source);
+		} catch (NoSuchFileException removed) {
+			return false;
+		}
+		removeEmptyParents(source);
+		return true;
+	}
+
+	private void removeEmptyParents(Path file) throws IOException {
+		Path parent = file.getParent();
+		if (parent != null && parent.equals(root) == false) {
+			fileService.rmdirs(parent.toFile(), root.toFile());
+		}
+	}
+
+	private String location(Path file) {
+		Path relative = root.relativize(file);
+		StringBuilder location = new StringBuilder();
+		for (Path name : relative) {
+			if (location.length() > 0) {
+				location.append('/');
+			}
+			location.append(name);
+		}
+		return location.toString();
+	}
+
+	/**
+	 * Outcome of a migration: files relocated, files already in the sharded layout (or removed
+	 * concurrently), and files that could not be relocated.
+	 */
+	public record Result(long migrated, long skipped, long failed) {
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.fs.store;
+
+import java.io.InputStream;
+import java.io.Serializable;
+
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.GetResourceParams;
+import org.springframework.content.commons.store.SetContentParams;
+import org.springframework.content.commons.store.UnsetContentParams;
+import org.springframework.core.io.Resource;
+
+/**
+ * Store fragment that adds a second, colder tier to a filesystem store.
+ * <p>
+ * A store interface extending both {@link FilesystemContentStore} and this interface writes new
+ * content to the filesystem, and content that has not been read or written for a while is moved
+ * in the background to the secondary store configured through a
+ * {@link org.springframework.content.fs.config.TieredContentStoreConfigurer
+ * TieredContentStoreConfigurer}. Content is read from whichever tier holds it, and may be moved
+ * back to the filesystem when it is read repeatedly. Both tiers address content by its id, so
+ * the entity is not changed when content moves between them.
+ *
+ * @author marcobelligoli
+ */
+public interface TieredContentStore<S, SID extends Serializable> {
+
+	S setContent(S entity, PropertyPath propertyPath, InputStream content);
+
+	S setContent(S entity, PropertyPath propertyPath, InputStream content, long contentLen);
+
+	S setContent(S entity, PropertyPath propertyPath, InputStream content, SetContentParams params);
+
+	S setContent(S entity, PropertyPath propertyPath, Resource resourceContent);
+
+	S unsetContent(S entity, PropertyPath propertyPath);
+
+	S unsetContent(S entity, PropertyPath propertyPath, UnsetContentParams params);
+
+	InputStream getContent(S entity, PropertyPath propertyPath);
+
+	Resource getResource(S entity, PropertyPath propertyPath);
+
+	Resource getResource(S entity, PropertyPath propertyPath, GetResourceParams params);
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fragments;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ContentStore;
+import org.springframework.content.commons.store.Store;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.content.fs.config.TieredContentStoreConfiguration;
+import org.springframework.content.fs.config.TieredContentStoreConfigurer;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.content.fs.store.FilesystemContentStore;
+import org.springframework.content.fs.store.TieredContentStore;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.WritableResource;
+
+import internal.org.springframework.content.fs.store.DefaultFilesystemStoreImpl;
+import lombok.Getter;
+import lombok.Setter;
+
+@DisplayName("TieredContentStoreImpl")
+public class TieredContentStoreImplTest {
+
+	private static final PropertyPath CONTENT = PropertyPath.from("content");
+
+	@TempDir
+	Path tempDir;
+
+	private DefaultFilesystemStoreImpl<TestEntity, String> hot;
+	private DefaultFilesystemStoreImpl<TestEntity, String> secondary;
+	private TieredContentStoreImpl<TestEntity, String> store;
+
+	@BeforeEach
+	void setUp() {
+		hot = filesystemStore("hot");
+		secondary = filesystemStore("secondary");
+		configure(0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		store.destroy();
+	}
+
+	@Test
+	@DisplayName("should demote content unused for longer than the demotion age")
+	void shouldDemoteUnusedContent() throws IOException {
+		TestEntity unused = write("unused");
+		TestEntity recent = write("recent");
+		age(unused);
+
+		assertThat(store.demote(), is(1));
+
+		assertThat(hot.getResource(unused.getContentId()).exists(), is(false));
+		assertThat(read(secondary.getResource(unused.getContentId())), is("unused"));
+		assertThat(hot.getResource(recent.getContentId()).exists(), is(true));
+		assertThat(secondary.getResource(recent.getContentId()).exists(), is(false));
+	}
+
+	@Test
+	@DisplayName("should read demoted content from the secondary store")
+	void shouldReadDemotedContent() throws IOException {
+		TestEntity entity = write("demoted");
+		age(entity);
+		store.demote();
+
+		assertThat(read(store.getContent(entity, CONTENT)), is("demoted"));
+		assertThat(hot.getResource(entity.getContentId()).exists(), is(false));
+	}
+
+	@Test
+	@DisplayName("should read content demoted between looking it up and reading it")
+	void shouldReadContentDemotedWhileBeingRead() throws IOException {
+		TestEntity entity = write("moved");
+		Resource resource = store.getResource(entity, CONTENT);
+		assertThat(resource.exists(), is(true));
+
+		age(entity);
+		assertThat(store.demote(), is(1));
+
+		assertThat(hot.getResource(entity.getContentId()).exists(), is(false));
+		assertThat(resource.exists(), is(true));
+		assertThat(resource.contentLength(), is(5L));
+		assertThat(read(resource), is("moved"));
+		try (ReadableByteChannel channel = resource.readableChannel()) {
+			assertThat(read(Channels.newInputStream(channel)), is("moved"));
+		}
+	}
+
+	@Test
+	@DisplayName("should promote demoted content once it has been read often enough")
+	void shouldPromoteReadContent() throws IOException {
+		store.destroy();
+		configure(2);
+		TestEntity entity = write("popular");
+		age(entity);
+		store.demote();
+
+		assertThat(read(store.getContent(entity, CONTENT)), is("popular"));
+		assertThat(hot.getResource(entity.getContentId()).exists(), is(false));
+
+		assertThat(read(store.getContent(entity, CONTENT)), is("popular"));
+		assertThat(read(hot.getResource(entity.getContentId())), is("popular"));
+		assertThat(secondary.getResource(entity.getContentId()).exists(), is(false));
+	}
+
+	@Test
+	@DisplayName("should remove the demoted copy when content is overwritten")
+	void shouldRemoveDemotedCopyOnWrite() throws IOException {
+		TestEntity entity = write("old");
+		age(entity);
+		store.demote();
+
+		store.setContent(entity, CONTENT, stream("new"));
+
+		assertThat(read(store.getContent(entity, CONTENT)), is("new"));
+		assertThat(secondary.getResource(entity.getContentId()).exists(), is(false));
+	}
+
+	@Test
+	@DisplayName("should remove content from both tiers when it is unset")
+	void shouldRemoveFromBothTiers() throws IOException {
+		TestEntity entity = write("gone");
+		String id = entity.getContentId();
+		age(entity);
+		store.demote();
+
+		store.unsetContent(entity, CONTENT);
+
+		assertThat(entity.getContentId(), is(nullValue()));
+		assertThat(hot.getResource(id).exists(), is(false));
+		assertThat(secondary.getResource(id).exists(), is(false));
+	}
+
+	@Test
+	@DisplayName("should resume looking for content to demote where the previous check stopped")
+	void shouldResumeDemotion() throws IOException {
+		store.destroy();
+		configure(secondary, 0, 1);
+		for (String content : List.of("first", "second", "third")) {
+			age(write(content));
+		}
+
+		assertThat(store.demote(), is(1));
+		assertThat(store.demote(), is(1));
+		assertThat(store.demote(), is(1));
+		assertThat(store.demote(), is(0));
+	}
+
+	@Test
+	@DisplayName("should keep content the secondary store has not stored whole")
+	void shouldKeepContentNotStoredWhole() throws IOException {
+		store.destroy();
+		configure(id -> new LossyResource(), 0, 100);
+		TestEntity entity = write("kept");
+		age(entity);
+
+		assertThat(store.demote(), is(0));
+
+		assertThat(read(hot.getResource(entity.getContentId())), is("kept"));
+	}
+
+	private void configure(int promoteAfter) {
+		configure(secondary, promoteAfter, 100);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void configure(Store<String> secondary, int promoteAfter, int scanLimit) {
+		List<TieredContentStoreConfigurer<TestEntity>> configurers = (List) List.of(new TestStoreConfigurer(secondary, promoteAfter, scanLimit));
+		store = new TieredContentStoreImpl<>(null, configurers);
+		store.setIdClass(String.class);
+		store.setStoreInterfaceClass(TestStore.class);
+		store.setContentStore((ContentStore<TestEntity, String>) hot);
+	}
+
+	private TestEntity write(String content) {
+		return store.setContent(new TestEntity(), CONTENT, stream(content));
+	}
+
+	private void age(TestEntity entity) throws IOException {
+		Path file = hot.getResource(entity.getContentId()).getFile().toPath();
+		FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+		Files.getFileAttributeView(file, BasicFileAttributeView.class).setTimes(old, old, null);
+	}
+
+	private DefaultFilesystemStoreImpl<TestEntity, String> filesystemStore(String root) {
+		FileSystemResourceLoader loader = new FileSystemResourceLoader(tempDir.resolve(root).toString());
+		return new DefaultFilesystemStoreImpl<>(loader, null, new PlacementServiceImpl(), new FileServiceImpl());
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(Resource resource) throws IOException {
+		return read(resource.getInputStream());
+	}
+
+	private static String read(InputStream in) throws IOException {
+		try (in) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	public interface TestStore extends FilesystemContentStore<TestEntity, String>, TieredContentStore<TestEntity, String> {
+	}
+
+	public static class TestStoreConfigurer implements TieredContentStoreConfigurer<TestStore> {
+
+		private final Store<String> secondary;
+		private final int promoteAfter;
+		private final int scanLimit;
+
+		TestStoreConfigurer(Store<String> secondary, int promoteAfter, int scanLimit) {
+			this.secondary = secondary;
+			this.promoteAfter = promoteAfter;
+			this.scanLimit = scanLimit;
+		}
+
+		@Override
+		public void configure(TieredContentStoreConfiguration config) {
+			config.secondary(secondary)
+					.demoteAfter(Duration.ofDays(1))
+					.demotionScanLimit(scanLimit)
+					.promoteAfter(promoteAfter);
+		}
+	}
+
+	/**
+	 * A secondary store resource that loses whatever is written to it.
+	 */
+	private static class LossyResource extends AbstractResource implements WritableResource, DeletableResource {
+
+		@Override
+		public String getDescription() {
+			return "lossy resource";
+		}
+
+		@Override
+		public boolean exists() {
+			return false;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			throw new FileNotFoundException(getDescription());
+		}
+
+		@Override
+		public OutputStream getOutputStream() {
+			return OutputStream.nullOutputStream();
+		}
+
+		@Override
+		public void delete() {
+		}
+	}
+
+	@Getter
+	@Setter
+	public static class TestEntity {
+
+		@ContentId
+		private String contentId;
+
+		@ContentLength
+		private long contentLength;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("DirectoryReaper")
+public class DirectoryReaperTest {
+
+	@TempDir
+	Path tempDir;
+
+	private Path root;
+	private DirectoryReaper reaper;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		root = Files.createDirectory(tempDir.resolve("root"));
+		reaper = new DirectoryReaper(root, Duration.ofHours(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		reaper.destroy();
+	}
+
+	@Test
+	@DisplayName("should remove empty directories up to, but not including, the root")
+	void shouldRemoveEmptyDirectoriesBelowRoot() throws Exception {
+		Path c = Files.createDirectories(root.resolve("a/b/c"));
+		Path d = Files.createDirectories(root.resolve("a/d"));
+
+		reaper.reap(c);
+		reaper.reap(d);
+		reaper.reapAll();
+
+		assertThat(Files.exists(root.resolve("a")), is(false));
+		assertThat(Files.exists(root), is(true));
+	}
+
+	@Test
+	@DisplayName("should stop at the first directory that is not empty")
+	void shouldStopAtNonEmptyDirectory() throws Exception {
+		Path b = Files.createDirectories(root.resolve("a/b"));
+		Files.writeString(root.resolve("a/content"), "content");
+
+		reaper.reap(b);
+		reaper.reapAll();
+
+		assertThat(Files.exists(b), is(false));
+		assertThat(Files.exists(root.resolve("a/content")), is(true));
+	}
+
+	@Test
+	@DisplayName("should leave directories outside the root alone")
+	void shouldIgnoreDirectoriesOutsideRoot() throws Exception {
+		Path outside = Files.createDirectories(tempDir.resolve("outside/empty"));
+
+		reaper.reap(outside);
+		reaper.reapAll();
+
+		assertThat(Files.exists(outside), is(true));
+	}
+
+	@Test
+	@DisplayName("should reap outstanding directories when destroyed")
+	void shouldReapWhenDestroyed() throws Exception {
+		Path a = Files.createDirectories(root.resolve("a"));
+
+		reaper.reap(a);
+		assertThat(Files.exists(a), is(true));
+
+		reaper.destroy();
+		assertThat(Files.exists(a), is(false));
+	}
+}
@@ -1,13 +1,21 @@
 package internal.org.springframework.content.fs.io;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.content.commons.utils.FileService;
 import org.springframework.core.io.FileSystemResource;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -108,4 +116,52 @@ public class FileSystemDeletableResourceTest {
 			verify(delegate).getDescription();
 		}
 	}
+
+	@Nested
+	@DisplayName("given a byte range")
+	class GivenAByteRange {
+
+		@TempDir
+		Path dir;
+
+		private FileSystemDeletableResource ranged;
+
+		@BeforeEach
+		void setUp() throws Exception {
+			Path file = Files.writeString(dir.resolve("content"), "0123456789");
+			ranged = new FileSystemDeletableResource(new FileSystemResource(file), mock(FileService.class));
+		}
+
+		@Test
+		@DisplayName("should skip to the start of the range and end at its end")
+		void shouldServeTheRange() throws Exception {
+			ranged.setRange("bytes=3-5");
+
+			try (InputStream in = ranged.getInputStream()) {
+				assertThat(in.skip(3), is(3L));
+				assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is("345"));
+			}
+		}
+
+		@Test
+		@DisplayName("should serve an open-ended range to the end of the file")
+		void shouldServeAnOpenEndedRange() throws Exception {
+			ranged.setRange("bytes=7-");
+
+			try (InputStream in = ranged.getInputStream()) {
+				in.skipNBytes(7);
+				assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is("789"));
+			}
+		}
+
+		@Test
+		@DisplayName("should serve the whole file for ranges it does not support")
+		void shouldServeWholeFileForMultipleRanges() throws Exception {
+			ranged.setRange("bytes=0-1,4-5");
+
+			try (InputStream in = ranged.getInputStream()) {
+				assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is("0123456789"));
+			}
+		}
+	}
 }
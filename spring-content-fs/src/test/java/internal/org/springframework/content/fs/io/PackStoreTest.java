@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.io;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.SetContentParams;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+
+import internal.org.springframework.content.fs.config.FilesystemStorePropertiesImpl;
+import internal.org.springframework.content.fs.store.DefaultFilesystemStoreImpl;
+import lombok.Getter;
+import lombok.Setter;
+
+@DisplayName("PackStore")
+public class PackStoreTest {
+
+	@TempDir
+	Path tempDir;
+
+	private Path directory;
+	private PackStore packs;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = tempDir.resolve(PackStore.DIRECTORY);
+		packs = new PackStore(directory, 1024, null);
+	}
+
+	@AfterEach
+	void tearDown() {
+		packs.close();
+	}
+
+	@Test
+	@DisplayName("should read back content after it has been reopened")
+	void shouldReadBackAfterReopening() throws IOException {
+		packs.put("a", bytes("first"));
+		packs.put("b", bytes("second"));
+		packs.put("a", bytes("replaced"));
+
+		reopen();
+
+		assertThat(string(packs.get("a")), is("replaced"));
+		assertThat(string(packs.get("b")), is("second"));
+		assertThat(packs.length("a"), is(8L));
+		assertThat(packs.get("c"), is(nullValue()));
+	}
+
+	@Test
+	@DisplayName("should keep removed content removed after it has been reopened")
+	void shouldKeepRemovedContentRemoved() throws IOException {
+		packs.put("a", bytes("first"));
+
+		assertThat(packs.delete("a"), is(true));
+		assertThat(packs.delete("a"), is(false));
+		reopen();
+
+		assertThat(packs.contains("a"), is(false));
+	}
+
+	@Test
+	@DisplayName("should cut off a torn record at the end of the last pack")
+	void shouldCutOffTornRecord() throws IOException {
+		packs.put("a", bytes("intact"));
+		Path pack = packFiles()[0];
+		long size = Files.size(pack);
+		Files.write(pack, new byte[] {0x53, 0x43, 0x50, 0x41, 1, 0}, StandardOpenOption.APPEND);
+
+		reopen();
+
+		assertThat(string(packs.get("a")), is("intact"));
+		assertThat(Files.size(pack), is(size));
+	}
+
+	@Test
+	@DisplayName("should reclaim the space of removed content by compacting")
+	void shouldCompact() throws IOException {
+		for (int i = 0; i < 20; i++) {
+			packs.put("key-" + i, new byte[100]);
+		}
+		for (int i = 0; i < 20; i++) {
+			if (i % 5 != 0) {
+				packs.delete("key-" + i);
+			}
+		}
+		long before = totalSize();
+
+		packs.compact();
+
+		assertThat(totalSize(), is(lessThan(before)));
+		for (int i = 0; i < 20; i++) {
+			assertThat(packs.contains("key-" + i), is(i % 5 == 0));
+		}
+
+		reopen();
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(packs.contains("key-" + i), is(i % 5 == 0));
+			if (i % 5 == 0) {
+				assertThat(packs.get("key-" + i).length, is(100));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("should drop tombstones once no earlier pack holds the content they removed")
+	void shouldDropTombstones() throws IOException {
+		// fills the first pack, so that the tombstones start the second
+		for (int i = 0; i < 8; i++) {
+			packs.put("key-" + i, new byte[100]);
+		}
+		for (int i = 0; i < 8; i++) {
+			packs.delete("key-" + i);
+		}
+		packs.put("large", new byte[900]);
+		assertThat(packFiles().length, is(3));
+
+		packs.compact();
+
+		assertThat(packFiles().length, is(1));
+		reopen();
+		for (int i = 0; i < 8; i++) {
+			assertThat(packs.contains("key-" + i), is(false));
+		}
+		assertThat(packs.get("large").length, is(900));
+	}
+
+	@Test
+	@DisplayName("should not rewrite a pack of tombstones that are still needed on every compaction")
+	void shouldKeepNeededTombstonesInPlace() throws IOException {
+		// fills the first pack, so that the tombstone starts the second
+		packs.put("removed", new byte[226]);
+		for (int i = 0; i < 6; i++) {
+			packs.put("key-" + i, new byte[100]);
+		}
+		packs.delete("removed");
+		packs.put("large", new byte[1000]);
+		Path tombstones = packFiles()[1];
+
+		packs.compact();
+		Object compacted = Files.readAttributes(tombstones, BasicFileAttributes.class).fileKey();
+		packs.compact();
+
+		assertThat(Files.readAttributes(tombstones, BasicFileAttributes.class).fileKey(), is(compacted));
+		reopen();
+		assertThat(packs.contains("removed"), is(false));
+		for (int i = 0; i < 6; i++) {
+			assertThat(packs.get("key-" + i).length, is(100));
+		}
+	}
+
+	@Nested
+	@DisplayName("given a store packing small content")
+	class GivenAPackingStore {
+
+		private final PropertyPath content = PropertyPath.from("content");
+
+		private FileSystemResourceLoader loader;
+		private DefaultFilesystemStoreImpl<TestEntity, String> store;
+
+		@BeforeEach
+		void setUp() {
+			loader = new FileSystemResourceLoader(tempDir.resolve("root").toString());
+			FilesystemStorePropertiesImpl properties = new FilesystemStorePropertiesImpl();
+			properties.packing(64);
+			store = new DefaultFilesystemStoreImpl<>(loader, null, new PlacementServiceImpl(), new FileServiceImpl(), properties);
+		}
+
+		@AfterEach
+		void tearDown() {
+			loader.destroy();
+		}
+
+		@Test
+		@DisplayName("should pack content below the threshold and store larger content in files")
+		void shouldPackSmallContent() throws IOException {
+			TestEntity small = store.setContent(new TestEntity(), content, new ByteArrayInputStream(bytes("small")));
+			TestEntity large = store.setContent(new TestEntity(), content, new ByteArrayInputStream(new byte[100]));
+
+			assertThat(Files.exists(root().resolve(small.getContentId())), is(false));
+			assertThat(store.getResource(small, content), is(instanceOf(PackedResource.class)));
+			assertThat(small.getContentLength(), is(5L));
+			assertThat(read(store.getContent(small, content)), is("small"));
+
+			assertThat(Files.size(root().resolve(large.getContentId())), is(100L));
+			assertThat(large.getContentLength(), is(100L));
+		}
+
+		@Test
+		@DisplayName("should move content between the packs and its file as its size changes")
+		void shouldMoveContent() throws IOException {
+			TestEntity entity = store.setContent(new TestEntity(), content, new ByteArrayInputStream(bytes("small")));
+
+			store.setContent(entity, content, new ByteArrayInputStream(new byte[100]), SetContentParams.builder().contentLength(100).build());
+
+			assertThat(Files.size(root().resolve(entity.getContentId())), is(100L));
+			assertThat(loader.getPackStore().contains(entity.getContentId()), is(false));
+
+			store.setContent(entity, content, new ByteArrayInputStream(bytes("small again")));
+
+			assertThat(Files.exists(root().resolve(entity.getContentId())), is(false));
+			assertThat(read(store.getContent(entity, content)), is("small again"));
+		}
+
+		@Test
+		@DisplayName("should remove packed content")
+		void shouldUnsetContent() throws IOException {
+			TestEntity entity = store.setContent(new TestEntity(), content, new ByteArrayInputStream(bytes("small")));
+			String id = entity.getContentId();
+
+			store.unsetContent(entity, content);
+
+			assertThat(loader.getPackStore().contains(id), is(false));
+			assertThat(entity.getContentId(), is(nullValue()));
+		}
+
+		private Path root() {
+			return tempDir.resolve("root");
+		}
+	}
+
+	private void reopen() throws IOException {
+		packs.close();
+		packs = new PackStore(directory, 1024, null);
+	}
+
+	private Path[] packFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.sorted().toArray(Path[]::new);
+		}
+	}
+
+	private long totalSize() throws IOException {
+		long size = 0;
+		for (Path pack : packFiles()) {
+			size += Files.size(pack);
+		}
+		return size;
+	}
+
+	private static byte[] bytes(String content) {
+		return content.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String string(byte[] content) {
+		return new String(content, StandardCharsets.UTF_8);
+	}
+
+	private static String read(InputStream in) throws IOException {
+		try (in) {
+			return string(in.readAllBytes());
+		}
+	}
+
+	@Getter
+	@Setter
+	public static class TestEntity {
+
+		@ContentId
+		private String contentId;
+
+		@ContentLength
+		private long contentLength;
+	}
+}
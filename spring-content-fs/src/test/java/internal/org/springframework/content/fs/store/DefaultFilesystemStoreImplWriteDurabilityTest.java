@@ -23,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
 import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.annotations.ContentLength;
 import org.springframework.content.commons.mappingcontext.ContentProperty;
@@ -35,7 +36,10 @@ import org.springframework.content.commons.utils.PlacementService;
 import org.springframework.content.fs.io.FileSystemResourceLoader;
 import org.springframework.core.io.FileSystemResource;
 
+import internal.org.springframework.content.fs.config.FilesystemStorePropertiesImpl;
+
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -49,12 +53,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -137,12 +145,7 @@ class DefaultFilesystemStoreImplWriteDurabilityTest {
             doReturn(resource).when(store).getResource(entity);
 
             List<String> events = new ArrayList<>();
-            FileChannel real = FileChannel.open(blobPath,
-                    java.nio.file.StandardOpenOption.CREATE,
-                    java.nio.file.StandardOpenOption.WRITE,
-                    java.nio.file.StandardOpenOption.TRUNCATE_EXISTING);
-            RecordingFileChannel recording = new RecordingFileChannel(real, events, false, false);
-            doReturn(recording).when(store).openChannel(any());
+            doAnswer(recording(events, false, false)).when(store).openChannel(any());
 
             store.setContent(entity, new ByteArrayInputStream(CONTENT));
 
@@ -151,6 +154,132 @@ class DefaultFilesystemStoreImplWriteDurabilityTest {
         }
     }
 
+    @Nested
+    @DisplayName("file-backed content")
+    class FileBackedContent {
+
+        @Test
+        @DisplayName("transfers a FileInputStream from its current position to the end")
+        void transfersFromCurrentPosition() throws Exception {
+            TestEntity entity = new TestEntity();
+            doReturn(resource).when(store).getResource(entity);
+            Path source = Files.write(tempDir.resolve("source.bin"), CONTENT);
+
+            try (FileInputStream in = new FileInputStream(source.toFile())) {
+                in.skipNBytes(6);
+                store.setContent(entity, in);
+
+                assertEquals(-1, in.read());
+            }
+
+            assertEquals("durable world", new String(Files.readAllBytes(blobPath), StandardCharsets.UTF_8));
+            assertEquals((long) CONTENT.length - 6, entity.getContentLength());
+        }
+
+        @Test
+        @DisplayName("writes a file-backed resource and fsyncs it")
+        void writesFileResource() throws Exception {
+            TestEntity entity = new TestEntity();
+            doReturn(resource).when(store).getResource(entity);
+            Path source = Files.write(tempDir.resolve("source.bin"), CONTENT);
+
+            List<String> events = new ArrayList<>();
+            doAnswer(recording(events, false, false)).when(store).openChannel(any());
+
+            store.setContent(entity, new FileSystemResource(source));
+
+            assertEquals(new String(CONTENT, StandardCharsets.UTF_8),
+                    new String(Files.readAllBytes(blobPath), StandardCharsets.UTF_8));
+            assertEquals(List.of("force", "close"), events);
+        }
+    }
+
+    @Nested
+    @DisplayName("content of known length")
+    class KnownLength {
+
+        private DefaultFilesystemStoreImpl<TestEntity, String> largeFileStore;
+
+        @BeforeEach
+        void setUp() {
+            FilesystemStorePropertiesImpl properties = new FilesystemStorePropertiesImpl();
+            properties.writeBufferSize(7).preallocation(0).directIo(0, 4096);
+            largeFileStore = spy(new DefaultFilesystemStoreImpl<>(loader, mappingContext, placer, fileService, properties));
+        }
+
+        @Test
+        @DisplayName("writes exactly the content when it spans several buffers and a partial block")
+        void writesContentSpanningBuffers() throws Exception {
+            TestEntity entity = new TestEntity();
+            PropertyPath propertyPath = PropertyPath.from(PROPERTY_NAME);
+            stubContentProperty();
+            doReturn(resource).when(largeFileStore).getResource(eq(entity), eq(propertyPath));
+
+            byte[] content = new byte[3 * 4096 + 17];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = (byte) i;
+            }
+            SetContentParams params = SetContentParams.builder().contentLength((long) content.length).build();
+
+            largeFileStore.setContent(entity, propertyPath, new ByteArrayInputStream(content), params);
+
+            assertArrayEquals(content, Files.readAllBytes(blobPath));
+        }
+
+        @Test
+        @DisplayName("truncates the blob to the content written when less than the length given")
+        void truncatesToContentWritten() throws Exception {
+            TestEntity entity = new TestEntity();
+            PropertyPath propertyPath = PropertyPath.from(PROPERTY_NAME);
+            stubContentProperty();
+            doReturn(resource).when(largeFileStore).getResource(eq(entity), eq(propertyPath));
+
+            SetContentParams params = SetContentParams.builder().contentLength(1024L * 1024L).build();
+
+            largeFileStore.setContent(entity, propertyPath, new ByteArrayInputStream(CONTENT), params);
+
+            assertArrayEquals(CONTENT, Files.readAllBytes(blobPath));
+        }
+    }
+
+    @Nested
+    @DisplayName("atomic replacement")
+    class AtomicReplacement {
+
+        @Test
+        @DisplayName("replaces existing content without leaving temporary files behind")
+        void replacesExistingContent() throws Exception {
+            TestEntity entity = new TestEntity();
+            doReturn(resource).when(store).getResource(entity);
+            Files.write(blobPath, "previous content that is longer".getBytes(StandardCharsets.UTF_8));
+
+            store.setContent(entity, new ByteArrayInputStream(CONTENT));
+
+            assertArrayEquals(CONTENT, Files.readAllBytes(blobPath));
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(List.of(blobPath), files.collect(Collectors.toList()));
+            }
+        }
+
+        @Test
+        @DisplayName("leaves the previous content in place when the write fails")
+        void keepsPreviousContentOnFailure() throws Exception {
+            TestEntity entity = new TestEntity();
+            doReturn(resource).when(store).getResource(entity);
+            byte[] previous = "previous".getBytes(StandardCharsets.UTF_8);
+            Files.write(blobPath, previous);
+            doAnswer(recording(new ArrayList<>(), true, false)).when(store).openChannel(any());
+
+            assertThrows(StoreAccessException.class,
+                    () -> store.setContent(entity, new ByteArrayInputStream(CONTENT)));
+
+            assertArrayEquals(previous, Files.readAllBytes(blobPath));
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(List.of(blobPath), files.collect(Collectors.toList()));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("failure propagation")
     class FailurePropagation {
@@ -160,7 +289,7 @@ class DefaultFilesystemStoreImplWriteDurabilityTest {
         void forceFailureEntityPath() throws Exception {
             TestEntity entity = new TestEntity();
             doReturn(resource).when(store).getResource(entity);
-            doReturn(faultChannel(true, false)).when(store).openChannel(any());
+            doAnswer(recording(new ArrayList<>(), true, false)).when(store).openChannel(any());
 
             assertThrows(StoreAccessException.class,
                     () -> store.setContent(entity, new ByteArrayInputStream(CONTENT)));
@@ -171,7 +300,7 @@ class DefaultFilesystemStoreImplWriteDurabilityTest {
         void closeFailureEntityPath() throws Exception {
             TestEntity entity = new TestEntity();
             doReturn(resource).when(store).getResource(entity);
-            doReturn(faultChannel(false, true)).when(store).openChannel(any());
+            doAnswer(recording(new ArrayList<>(), false, true)).when(store).openChannel(any());
 
             assertThrows(StoreAccessException.class,
                     () -> store.setContent(entity, new ByteArrayInputStream(CONTENT)));
@@ -184,7 +313,7 @@ class DefaultFilesystemStoreImplWriteDurabilityTest {
             PropertyPath propertyPath = PropertyPath.from(PROPERTY_NAME);
             stubContentProperty();
             doReturn(resource).when(store).getResource(eq(entity), eq(propertyPath));
-            doReturn(faultChannel(true, false)).when(store).openChannel(any());
+            doAnswer(recording(new ArrayList<>(), true, false)).when(store).openChannel(any());
 
             SetContentParams params = SetContentParams.builder().contentLength((long) CONTENT.length).build();
 
@@ -199,7 +328,7 @@ class DefaultFilesystemStoreImplWriteDurabilityTest {
             PropertyPath propertyPath = PropertyPath.from(PROPERTY_NAME);
             stubContentProperty();
             doReturn(resource).when(store).getResource(eq(entity), eq(propertyPath));
-            doReturn(faultChannel(false, true)).when(store).openChannel(any());
+            doAnswer(recording(new ArrayList<>(), false, true)).when(store).openChannel(any());
 
             SetContentParams params = SetContentParams.builder().contentLength((long) CONTENT.length).build();
 
@@ -208,12 +337,18 @@ class DefaultFilesystemStoreImplWriteDurabilityTest {
         }
     }
 
-    private RecordingFileChannel faultChannel(boolean failForce, boolean failClose) throws IOException {
-        FileChannel real = FileChannel.open(blobPath,
-                java.nio.file.StandardOpenOption.CREATE,
-                java.nio.file.StandardOpenOption.WRITE,
-                java.nio.file.StandardOpenOption.TRUNCATE_EXISTING);
-        return new RecordingFileChannel(real, new ArrayList<>(), failForce, failClose);
+    /**
+     * Opens the channel the store asks for, which is the temporary file it renames over the blob,
+     * as a {@link RecordingFileChannel}.
+     */
+    private static Answer<FileChannel> recording(List<String> events, boolean failForce, boolean failClose) {
+        return invocation -> {
+            FileChannel real = FileChannel.open(invocation.<Path>getArgument(0),
+                    java.nio.file.StandardOpenOption.CREATE,
+                    java.nio.file.StandardOpenOption.WRITE,
+                    java.nio.file.StandardOpenOption.TRUNCATE_EXISTING);
+            return new RecordingFileChannel(real, events, failForce, failClose);
+        };
     }
 
     /**
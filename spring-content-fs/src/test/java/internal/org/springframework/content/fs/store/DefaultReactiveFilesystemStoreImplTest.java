@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.GetResourceParams;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+
+import internal.org.springframework.content.fs.config.FilesystemStorePropertiesImpl;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DefaultReactiveFilesystemStoreImpl")
+class DefaultReactiveFilesystemStoreImplTest {
+
+    private static final PropertyPath CONTENT = PropertyPath.from("content");
+
+    @TempDir
+    Path root;
+
+    private FileSystemResourceLoader loader;
+    private DefaultReactiveFilesystemStoreImpl<TestEntity, String> store;
+
+    @BeforeEach
+    void setUp() {
+        loader = new FileSystemResourceLoader(root.toString());
+        store = new DefaultReactiveFilesystemStoreImpl<>(loader, null, new PlacementServiceImpl(), new FileServiceImpl(),
+                new FilesystemStorePropertiesImpl(), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.destroy();
+    }
+
+    @Test
+    @DisplayName("writes every buffer in order and records the content's id and length")
+    void writesBuffersInOrder() throws Exception {
+        byte[] content = bytes(3 * DefaultReactiveFilesystemStoreImpl.READ_BUFFER_SIZE + 17);
+        TestEntity entity = new TestEntity();
+
+        TestEntity result = store.setContent(entity, CONTENT, content.length, chunks(content, 1000)).block();
+
+        assertNotNull(result.getContentId());
+        assertEquals(content.length, result.getContentLength());
+        assertArrayEquals(content, Files.readAllBytes(root.resolve(result.getContentId())));
+    }
+
+    @Test
+    @DisplayName("reads content back in chunks")
+    void readsContentBack() {
+        byte[] content = bytes(2 * DefaultReactiveFilesystemStoreImpl.READ_BUFFER_SIZE + 5);
+        TestEntity entity = store.setContent(new TestEntity(), CONTENT, content.length, chunks(content, 4096)).block();
+
+        List<ByteBuffer> buffers = store.getContent(entity, CONTENT).collectList().block();
+
+        assertEquals(3, buffers.size());
+        assertArrayEquals(content, concat(buffers));
+    }
+
+    @Test
+    @DisplayName("reads no further than the subscriber has requested")
+    void readsOnDemand() {
+        byte[] content = bytes(4 * DefaultReactiveFilesystemStoreImpl.READ_BUFFER_SIZE);
+        TestEntity entity = store.setContent(new TestEntity(), CONTENT, content.length, chunks(content, 4096)).block();
+
+        List<ByteBuffer> buffers = store.getContent(entity, CONTENT).limitRate(1).take(1).collectList().block();
+
+        assertEquals(1, buffers.size());
+        assertEquals(DefaultReactiveFilesystemStoreImpl.READ_BUFFER_SIZE, buffers.get(0).remaining());
+    }
+
+    @Test
+    @DisplayName("looks for the content when subscribed to rather than when asked for it")
+    void looksForContentOnSubscription() throws Exception {
+        byte[] content = bytes(1000);
+        TestEntity entity = new TestEntity();
+        entity.setContentId("later");
+
+        Flux<ByteBuffer> read = store.getContent(entity, CONTENT);
+        Files.write(root.resolve("later"), content);
+
+        assertArrayEquals(content, concat(read.collectList().block()));
+    }
+
+    @Test
+    @DisplayName("reads only the bytes of a range")
+    void readsRange() {
+        byte[] content = bytes(3 * DefaultReactiveFilesystemStoreImpl.READ_BUFFER_SIZE);
+        TestEntity entity = store.setContent(new TestEntity(), CONTENT, content.length, chunks(content, 4096)).block();
+        int first = DefaultReactiveFilesystemStoreImpl.READ_BUFFER_SIZE - 10;
+        int last = 2 * DefaultReactiveFilesystemStoreImpl.READ_BUFFER_SIZE + 9;
+
+        List<ByteBuffer> buffers = store.getContent(entity, CONTENT, range("bytes=" + first + "-" + last)).collectList().block();
+
+        assertArrayEquals(Arrays.copyOfRange(content, first, last + 1), concat(buffers));
+    }
+
+    @Test
+    @DisplayName("reads open-ended and suffix ranges to the end of the content")
+    void readsOpenRanges() {
+        byte[] content = bytes(1000);
+        TestEntity entity = store.setContent(new TestEntity(), CONTENT, content.length, chunks(content, 100)).block();
+
+        assertArrayEquals(Arrays.copyOfRange(content, 900, 1000),
+                concat(store.getContent(entity, CONTENT, range("bytes=900-")).collectList().block()));
+        assertArrayEquals(Arrays.copyOfRange(content, 750, 1000),
+                concat(store.getContent(entity, CONTENT, range("bytes=-250")).collectList().block()));
+        assertArrayEquals(Arrays.copyOfRange(content, 990, 1000),
+                concat(store.getContent(entity, CONTENT, range("bytes=990-5000")).collectList().block()));
+    }
+
+    @Test
+    @DisplayName("reads the whole content for a range it cannot serve")
+    void readsWholeContentForUnsupportedRange() {
+        byte[] content = bytes(1000);
+        TestEntity entity = store.setContent(new TestEntity(), CONTENT, content.length, chunks(content, 100)).block();
+
+        assertArrayEquals(content, concat(store.getContent(entity, CONTENT, range("bytes=0-9,20-29")).collectList().block()));
+    }
+
+    @Test
+    @DisplayName("returns no content for an entity without any")
+    void returnsNothingWithoutContent() {
+        assertEquals(0L, (long) store.getContent(new TestEntity(), CONTENT).count().block());
+    }
+
+    @Test
+    @DisplayName("deletes content and resets the entity's content attributes")
+    void unsetsContent() {
+        byte[] content = bytes(100);
+        TestEntity entity = store.setContent(new TestEntity(), CONTENT, content.length, chunks(content, 10)).block();
+        Path blob = root.resolve(entity.getContentId());
+
+        store.unsetContent(entity, CONTENT).block();
+
+        assertFalse(Files.exists(blob));
+        assertNull(entity.getContentId());
+        assertEquals(0L, entity.getContentLength());
+    }
+
+    @Nested
+    @DisplayName("with group commit")
+    class WithGroupCommit {
+
+        private GroupCommitFlusher flusher;
+
+        @BeforeEach
+        void setUp() {
+            flusher = new GroupCommitFlusher(Duration.ofMillis(5));
+            store = new DefaultReactiveFilesystemStoreImpl<>(loader, null, new PlacementServiceImpl(), new FileServiceImpl(),
+                    new FilesystemStorePropertiesImpl(), flusher);
+        }
+
+        @AfterEach
+        void tearDown() throws Exception {
+            flusher.destroy();
+        }
+
+        @Test
+        @DisplayName("completes once the flusher has made the content durable")
+        void writesThroughTheFlusher() throws Exception {
+            byte[] content = bytes(10_000);
+
+            TestEntity entity = store.setContent(new TestEntity(), CONTENT, content.length, chunks(content, 1024)).block();
+
+            assertTrue(Files.exists(root.resolve(entity.getContentId())));
+            assertArrayEquals(content, Files.readAllBytes(root.resolve(entity.getContentId())));
+        }
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static GetResourceParams range(String range) {
+        return GetResourceParams.builder().range(range).build();
+    }
+
+    private static Flux<ByteBuffer> chunks(byte[] content, int size) {
+        return Flux.range(0, (content.length + size - 1) / size)
+                .map(i -> ByteBuffer.wrap(content, i * size, Math.min(size, content.length - i * size)));
+    }
+
+    private static byte[] concat(List<ByteBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.content.commons.store.StoreAccessException;
+import org.springframework.content.commons.utils.FileService;
+import org.springframework.content.commons.utils.PlacementService;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+
+import internal.org.springframework.content.fs.config.FilesystemStorePropertiesImpl;
+import internal.org.springframework.content.fs.store.DefaultFilesystemStoreImplWriteDurabilityTest.RecordingFileChannel;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+@DisplayName("GroupCommitFlusher")
+class GroupCommitFlusherTest {
+
+    private static final int WRITERS = 8;
+
+    @TempDir
+    Path tempDir;
+
+    private List<Path> syncedDirectories;
+    private GroupCommitFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        syncedDirectories = new CopyOnWriteArrayList<>();
+        flusher = new GroupCommitFlusher(Duration.ofMillis(200)) {
+            @Override
+            void syncDirectory(Path directory) {
+                syncedDirectories.add(directory);
+                super.syncDirectory(directory);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        flusher.destroy();
+    }
+
+    @Test
+    @DisplayName("flushes concurrent writers together and syncs their directory once per batch")
+    void coalescesConcurrentWriters() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Callable<Void>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                Path blob = tempDir.resolve("blob-" + i);
+                writers.add(() -> {
+                    try (FileChannel channel = open(blob)) {
+                        channel.write(ByteBuffer.wrap(blob.toString().getBytes(StandardCharsets.UTF_8)));
+                        flusher.commit(channel, tempDir);
+                    }
+                    return null;
+                });
+            }
+
+            for (Future<Void> writer : executor.invokeAll(writers)) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(syncedDirectories.size() < WRITERS,
+                "expected fewer directory fsyncs than writers but saw " + syncedDirectories.size());
+        for (int i = 0; i < WRITERS; i++) {
+            Path blob = tempDir.resolve("blob-" + i);
+            assertEquals(blob.toString(), Files.readString(blob));
+        }
+    }
+
+    @Test
+    @DisplayName("fsyncs concurrent writers' blobs in parallel rather than one after another")
+    void forcesBlobsInParallel() throws Exception {
+        CyclicBarrier forcing = new CyclicBarrier(WRITERS);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Callable<Void>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                Path blob = tempDir.resolve("blob-" + i);
+                writers.add(() -> {
+                    try (FileChannel channel = new RecordingFileChannel(open(blob), new CopyOnWriteArrayList<>(), false, false) {
+                        @Override
+                        public void force(boolean metaData) throws IOException {
+                            // only returns once every writer is inside force at the same time
+                            try {
+                                forcing.await(10, TimeUnit.SECONDS);
+                            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                                throw new IOException("blobs were not fsync'd in parallel", e);
+                            }
+                            super.force(metaData);
+                        }
+                    }) {
+                        flusher.commit(channel, tempDir);
+                    }
+                    return null;
+                });
+            }
+
+            for (Future<Void> writer : executor.invokeAll(writers)) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(syncedDirectories.size() < WRITERS,
+                "expected fewer directory fsyncs than writers but saw " + syncedDirectories.size());
+    }
+
+    @Test
+    @DisplayName("fails only the writer whose blob could not be fsync'd")
+    void failsOnlyTheFailingWriter() throws Exception {
+        try (FileChannel failing = new RecordingFileChannel(open(tempDir.resolve("failing")), new ArrayList<>(), true, false);
+             FileChannel healthy = open(tempDir.resolve("healthy"))) {
+
+            assertThrows(IOException.class, () -> flusher.commit(failing, tempDir));
+            flusher.commit(healthy, tempDir);
+        }
+    }
+
+    @Test
+    @DisplayName("commits a directory on its own, as after a rename")
+    void commitsDirectoryAlone() throws Exception {
+        flusher.commit(tempDir);
+
+        assertEquals(List.of(tempDir), syncedDirectories);
+    }
+
+    @Test
+    @DisplayName("makes writes durable on the caller's thread once destroyed")
+    void commitsSynchronouslyOnceDestroyed() throws Exception {
+        flusher.destroy();
+
+        List<String> events = new ArrayList<>();
+        try (FileChannel channel = new RecordingFileChannel(open(tempDir.resolve("blob")), events, false, false)) {
+            flusher.commit(channel, tempDir);
+        }
+
+        assertEquals(List.of("force", "close"), events);
+    }
+
+    @Test
+    @DisplayName("surfaces a failed fsync from setContent as a StoreAccessException")
+    void storeSurfacesFlushFailure() throws Exception {
+        Path blobPath = tempDir.resolve("blob.bin");
+        DefaultFilesystemStoreImpl<TestEntity, String> store = spy(new DefaultFilesystemStoreImpl<>(
+                mock(FileSystemResourceLoader.class), null, mock(PlacementService.class), mock(FileService.class),
+                new FilesystemStorePropertiesImpl(), flusher));
+        TestEntity entity = new TestEntity();
+        doReturn(new FileSystemResource(blobPath.toFile())).when(store).getResource(entity);
+        doReturn(new RecordingFileChannel(open(blobPath), new ArrayList<>(), true, false)).when(store).openChannel(any());
+
+        assertThrows(StoreAccessException.class,
+                () -> store.setContent(entity, new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+}
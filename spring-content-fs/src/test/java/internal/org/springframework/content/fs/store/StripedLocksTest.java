@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.fs.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StripedLocks")
+class StripedLocksTest {
+
+    @Test
+    @DisplayName("rounds the number of stripes up to a power of two")
+    void roundsStripesUp() {
+        assertEquals(1, new StripedLocks(1).stripes());
+        assertEquals(8, new StripedLocks(5).stripes());
+        assertEquals(1024, new StripedLocks(StripedLocks.DEFAULT_STRIPES).stripes());
+    }
+
+    @Test
+    @DisplayName("returns the same lock for equal content ids, including none")
+    void sameLockForEqualIds() {
+        StripedLocks locks = new StripedLocks(64);
+        String id = UUID.randomUUID().toString();
+
+        assertSame(locks.get(id), locks.get(new String(id)));
+        assertSame(locks.get(null), locks.get(null));
+    }
+
+    @Test
+    @DisplayName("spreads content ids over the stripes")
+    void spreadsIds() {
+        StripedLocks locks = new StripedLocks(64);
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 1024; i++) {
+            used.add(locks.index(UUID.randomUUID()));
+        }
+
+        assertTrue(used.size() > 48, "expected most stripes to be used but saw " + used.size());
+    }
+
+    @Test
+    @DisplayName("excludes a second holder of the same content id's lock")
+    void excludesSameId() throws Exception {
+        StripedLocks locks = new StripedLocks(64);
+        Lock lock = locks.get("id");
+        lock.lock();
+        try {
+            CountDownLatch tried = new CountDownLatch(1);
+            boolean[] acquired = new boolean[1];
+            Thread other = new Thread(() -> {
+                acquired[0] = locks.get("id").tryLock();
+                tried.countDown();
+            });
+            other.start();
+
+            assertTrue(tried.await(10, TimeUnit.SECONDS));
+            assertFalse(acquired[0]);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
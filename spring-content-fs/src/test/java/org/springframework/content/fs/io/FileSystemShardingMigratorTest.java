@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.springframework.content.fs.io;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileSystemUtils;
+
+import internal.org.springframework.content.fs.config.FilesystemStorePropertiesImpl;
+import internal.org.springframework.content.fs.io.ShardedLayout;
+import internal.org.springframework.content.fs.io.TemporaryFiles;
+import internal.org.springframework.content.fs.store.DefaultFilesystemStoreImpl;
+
+@DisplayName("FileSystemShardingMigrator")
+public class FileSystemShardingMigratorTest {
+
+	private Path root;
+	private FileSystemResourceLoader loader;
+	private ShardedLayout layout;
+	private DefaultFilesystemStoreImpl<Object, String> store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		root = Files.createTempDirectory("sharding");
+		loader = new FileSystemResourceLoader(root.toString());
+		layout = new ShardedLayout(2, 2);
+
+		FilesystemStorePropertiesImpl properties = new FilesystemStorePropertiesImpl();
+		properties.sharding(2, 2).shardingMigration(true);
+		store = new DefaultFilesystemStoreImpl<>(loader, null, new PlacementServiceImpl(), new FileServiceImpl(), properties);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(root);
+	}
+
+	@Test
+	@DisplayName("should shard a location under directories derived from its hash")
+	void shouldShardLocations() {
+		String location = UUID.randomUUID().toString();
+		String sharded = layout.locate(location);
+
+		assertThat(sharded.matches("[0-9a-f]{2}/[0-9a-f]{2}/" + location), is(true));
+		assertThat(layout.locate("/" + location), is(sharded));
+		assertThat(layout.unshard(sharded), is(location));
+		assertThat(layout.unshard(location), is(nullValue()));
+	}
+
+	@Test
+	@DisplayName("should leave content still being written where it is")
+	void shouldSkipTemporaryFiles() throws IOException {
+		Path temporary = TemporaryFiles.siblingOf(root.resolve(UUID.randomUUID().toString()));
+		Files.writeString(temporary, "partial");
+
+		FileSystemShardingMigrator.Result result = new FileSystemShardingMigrator(loader, 2, 2).migrate();
+
+		assertThat(result.migrated(), is(0L));
+		assertThat(Files.readString(temporary), is("partial"));
+	}
+
+	@Nested
+	@DisplayName("given content in the unsharded layout")
+	class GivenUnshardedContent {
+
+		private String id;
+
+		@BeforeEach
+		void setUp() throws IOException {
+			id = UUID.randomUUID().toString();
+			Files.writeString(root.resolve(id), "old");
+		}
+
+		@Test
+		@DisplayName("should be resolved by the store before and after migration")
+		void shouldResolveDuringMigration() throws IOException {
+			assertThat(read(store.getResource(id)), is("old"));
+
+			FileSystemShardingMigrator.Result result = new FileSystemShardingMigrator(loader, 2, 2).parallelism(2).migrate();
+
+			assertThat(result.migrated(), is(1L));
+			assertThat(result.failed(), is(0L));
+			assertThat(Files.exists(root.resolve(id)), is(false));
+			assertThat(Files.readString(root.resolve(layout.locate(id))), is("old"));
+			assertThat(read(store.getResource(id)), is("old"));
+		}
+
+		@Test
+		@DisplayName("should not overwrite content written to the sharded layout since")
+		void shouldKeepNewerContent() throws IOException {
+			Path sharded = root.resolve(layout.locate(id));
+			Files.createDirectories(sharded.getParent());
+			Files.writeString(sharded, "new");
+
+			new FileSystemShardingMigrator(loader, 2, 2).migrate();
+
+			assertThat(Files.readString(sharded), is("new"));
+			assertThat(Files.exists(root.resolve(id)), is(false));
+		}
+
+		@Test
+		@DisplayName("should delete content from both layouts")
+		void shouldDeleteBoth() throws IOException {
+			Path sharded = root.resolve(layout.locate(id));
+			Files.createDirectories(sharded.getParent());
+			Files.writeString(sharded, "new");
+
+			((DeletableResource) store.getResource(id)).delete();
+
+			assertThat(Files.exists(sharded), is(false));
+			assertThat(Files.exists(root.resolve(id)), is(false));
+			assertThat(store.getResource(id).exists(), is(false));
+		}
+	}
+
+	private static String read(Resource resource) throws IOException {
+		try (InputStream in = resource.getInputStream()) {
+			return IOUtils.toString(in, StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -9,7 +9,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
-import java.nio.channels.ReadableByteChannel;
 import java.time.ZonedDateTime;
 
 /**
@@ -73,11 +72,6 @@ public class RenderedResource extends InputStreamResource {
         return original.getFile();
     }
 
-    @Override
-    public ReadableByteChannel readableChannel() throws IOException {
-        return original.readableChannel();
-    }
-
     @Override
     public Resource createRelative(String relativePath) throws IOException {
         return original.createRelative(relativePath);
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.rest.mappings;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link ResourceHttpMessageConverter} that writes file-backed content from the resource's
+ * {@link Resource#readableChannel() channel}.
+ * <p>
+ * When the resource opens as a {@link FileChannel} the body is written with
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel) transferTo}, leaving it to the
+ * JDK to use the most direct copy the response's output allows. Any other resource is written
+ * as {@link ResourceHttpMessageConverter} always has.
+ */
+public class ChannelResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+	@Override
+	protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+		if (resource.isFile() == false) {
+			super.writeContent(resource, outputMessage);
+			return;
+		}
+
+		try (ReadableByteChannel in = resource.readableChannel()) {
+			OutputStream out = outputMessage.getBody();
+			if (in instanceof FileChannel file) {
+				transfer(file, Channels.newChannel(out));
+			} else {
+				StreamUtils.copy(Channels.newInputStream(in), out);
+			}
+			out.flush();
+		} catch (FileNotFoundException | NoSuchFileException ex) {
+			// ignore, as ResourceHttpMessageConverter does
+		}
+	}
+
+	private static void transfer(FileChannel in, WritableByteChannel out) throws IOException {
+		long position = 0;
+		long size = in.size();
+		long transferred;
+		while (position < size && (transferred = in.transferTo(position, size - position, out)) > 0) {
+			position += transferred;
+		}
+	}
+}
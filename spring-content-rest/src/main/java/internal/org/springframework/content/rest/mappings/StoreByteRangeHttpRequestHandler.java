@@ -6,7 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
-import org.springframework.http.converter.ResourceHttpMessageConverter;
 import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 
@@ -30,7 +29,7 @@ public class StoreByteRangeHttpRequestHandler extends ResourceHttpRequestHandler
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
-		this.setResourceHttpMessageConverter(new ResourceHttpMessageConverter());
+		this.setResourceHttpMessageConverter(new ChannelResourceHttpMessageConverter());
 		this.setResourceRegionHttpMessageConverter(new ResourceRegionHttpMessageConverter());
 	}
 }
@@ -54,6 +54,7 @@ public class RestConfiguration implements InitializingBean {
 	public static UnsetContentDisposition UNSETCONTENT_CONTENT_DISPOSITION_DEFAULT = UnsetContentDisposition.Remove;
 	public static boolean FULLY_QUALIFIED_DEFAULTS_DEFAULT = true;
     public static boolean SHORTCUT_LINKS_DEFAULT = true;
+    public static boolean PREPARE_MAPPING_CONTEXT_DEFAULT = false;
 
 	private static final URI NO_URI = URI.create("");
 
@@ -68,6 +69,7 @@ public class RestConfiguration implements InitializingBean {
 	private boolean fullyQualifiedLinks = FULLY_QUALIFIED_DEFAULTS_DEFAULT;
     private boolean shortcutLinks = SHORTCUT_LINKS_DEFAULT;
 	private boolean overwriteExistingContent = OVERWRITE_EXISTING_CONTENT_DEFAULT;
+    private boolean prepareMappingContext = PREPARE_MAPPING_CONTEXT_DEFAULT;
 	private SetContentDisposition setContentDisposition = SETCONTENT_CONTENT_DISPOSITION_DEFAULT;
 	private UnsetContentDisposition unsetContentDisposition = UNSETCONTENT_CONTENT_DISPOSITION_DEFAULT;
 	private ConverterRegistry converters = new DefaultConversionService();
@@ -114,6 +116,20 @@ public class RestConfiguration implements InitializingBean {
 		this.overwriteExistingContent = overwriteExistingContent;
 	}
 
+    public boolean prepareMappingContext() {
+        return this.prepareMappingContext;
+    }
+
+    /**
+     * When set, the content properties of every domain class known to the stores are resolved
+     * at startup rather than on first request.
+     *
+     * @param prepareMappingContext whether to resolve content properties at startup
+     */
+    public void setPrepareMappingContext(boolean prepareMappingContext) {
+        this.prepareMappingContext = prepareMappingContext;
+    }
+
 	public SetContentDisposition getSetContentDisposition() {
 		return setContentDisposition;
 	}
@@ -297,6 +313,10 @@ public class RestConfiguration implements InitializingBean {
 			if (repoInvokerFactory == null) {
 				repoInvokerFactory = new DefaultRepositoryInvokerFactory(repositories);
 			}
+
+			if (config.prepareMappingContext()) {
+				mappingContext.prepare(stores);
+			}
 		}
 
 		private static <T> void insertBeforeOrAppend(T elementToInsert, List<T> listToInsertInto, Class<? extends T> elementTypeToInsertBefore) {
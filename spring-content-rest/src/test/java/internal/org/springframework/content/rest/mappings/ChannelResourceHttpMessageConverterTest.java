@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.rest.mappings;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.content.commons.store.ContentStore;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import internal.org.springframework.content.commons.store.factory.StoreMetricsInterceptor;
+import internal.org.springframework.content.rest.io.RenderedResource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChannelResourceHttpMessageConverter")
+public class ChannelResourceHttpMessageConverterTest {
+
+	@TempDir
+	Path tempDir;
+
+	private ChannelResourceHttpMessageConverter converter;
+	private MockHttpOutputMessage message;
+
+	@BeforeEach
+	void setUp() {
+		converter = new ChannelResourceHttpMessageConverter();
+		message = new MockHttpOutputMessage();
+	}
+
+	private Path file(String content) throws Exception {
+		return Files.writeString(Files.createTempFile(tempDir, "content", ".txt"), content);
+	}
+
+	@Nested
+	@DisplayName("given a file-backed resource")
+	class GivenFileResource {
+
+		@Test
+		@DisplayName("should write the content from a file channel")
+		void shouldWriteFromFileChannel() throws Exception {
+			Resource resource = new FileSystemResource(file("file content"));
+			try (ReadableByteChannel channel = resource.readableChannel()) {
+				assertThat(channel, is(instanceOf(FileChannel.class)));
+			}
+
+			converter.writeContent(resource, message);
+
+			assertThat(message.getBodyAsString(), is("file content"));
+		}
+
+		@Test
+		@DisplayName("should write the content of a channel that is not a file channel")
+		void shouldWriteFromOtherChannels() throws Exception {
+			Resource resource = new FileSystemResource(file("streamed content")) {
+				@Override
+				public ReadableByteChannel readableChannel() throws IOException {
+					return Channels.newChannel(getInputStream());
+				}
+			};
+
+			converter.writeContent(resource, message);
+
+			assertThat(message.getBodyAsString(), is("streamed content"));
+		}
+
+		@Test
+		@DisplayName("should write nothing when the file is missing")
+		void shouldIgnoreMissingFile() throws Exception {
+			Resource resource = new FileSystemResource(tempDir.resolve("missing.txt"));
+
+			converter.writeContent(resource, message);
+
+			assertThat(message.getBodyAsBytes().length, is(0));
+		}
+	}
+
+	@Nested
+	@DisplayName("given a resource that is not file-backed")
+	class GivenOtherResource {
+
+		@Test
+		@DisplayName("should write the content")
+		void shouldWriteContent() throws Exception {
+			converter.writeContent(new ByteArrayResource("in memory".getBytes(StandardCharsets.UTF_8)), message);
+
+			assertThat(message.getBodyAsString(), is("in memory"));
+		}
+	}
+
+	@Nested
+	@DisplayName("given a rendition of a file-backed resource")
+	class GivenRendition {
+
+		private Resource resource;
+
+		@BeforeEach
+		void setUp() throws Exception {
+			Resource original = new FileSystemResource(file("original content"));
+			resource = new RenderedResource(new ByteArrayInputStream("rendered content".getBytes(StandardCharsets.UTF_8)), original);
+		}
+
+		@Test
+		@DisplayName("should read the rendition from its channel")
+		void shouldReadRenditionFromChannel() throws Exception {
+			try (InputStream in = Channels.newInputStream(resource.readableChannel())) {
+				assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is("rendered content"));
+			}
+		}
+
+		@Test
+		@DisplayName("should write the rendition rather than the original")
+		void shouldWriteRendition() throws Exception {
+			converter.writeContent(resource, message);
+
+			assertThat(message.getBodyAsString(), is("rendered content"));
+		}
+	}
+
+	@Nested
+	@DisplayName("given a resource from a metered store")
+	class GivenMeteredStore {
+
+		private SimpleMeterRegistry registry;
+		private Resource resource;
+
+		@SuppressWarnings("unchecked")
+		@BeforeEach
+		void setUp() throws Exception {
+			registry = new SimpleMeterRegistry();
+			ContentStore<Object, String> target = mock(ContentStore.class);
+			Object entity = new Object();
+			when(target.getResource(entity)).thenReturn(new FileSystemResource(file("metered content")));
+
+			ProxyFactory factory = new ProxyFactory(target);
+			factory.addInterface(ContentStore.class);
+			factory.addAdvice(new StoreMetricsInterceptor(registry, ContentStore.class, target, true));
+			ContentStore<Object, String> store = (ContentStore<Object, String>) factory.getProxy(getClass().getClassLoader());
+
+			resource = store.getResource(entity);
+		}
+
+		@Test
+		@DisplayName("should still open a file channel")
+		void shouldOpenFileChannel() throws Exception {
+			try (ReadableByteChannel channel = resource.readableChannel()) {
+				assertThat(channel, is(instanceOf(FileChannel.class)));
+			}
+		}
+
+		@Test
+		@DisplayName("should write the content and count its bytes")
+		void shouldWriteAndCountContent() throws Exception {
+			converter.write(resource, MediaType.APPLICATION_OCTET_STREAM, message);
+
+			assertThat(message.getBodyAsString(), is("metered content"));
+			assertThat(registry.get(StoreMetricsInterceptor.BYTES_SUMMARY).tags("operation", "getResource").summary().totalAmount(), is(15.0));
+		}
+	}
+}
@@ -15,9 +15,15 @@ import org.springframework.content.commons.utils.PlacementService;
 import org.springframework.content.s3.config.MultiTenantS3ClientProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.format.datetime.standard.DurationFormatterUtils;
 import org.springframework.versions.LockingAndVersioningProxyFactory;
 
+import internal.org.springframework.content.s3.io.ObjectMetadataCache;
+import internal.org.springframework.content.s3.io.ParallelDownloads;
+import internal.org.springframework.content.s3.io.PartBufferPool;
 import internal.org.springframework.content.s3.io.SimpleStorageProtocolResolver;
+import internal.org.springframework.content.s3.io.SimpleStorageResource;
 import internal.org.springframework.content.s3.store.DefaultReactiveS3StoreImpl;
 import internal.org.springframework.content.s3.store.DefaultS3StoreImpl;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -47,6 +53,37 @@ public class S3StoreFactoryBean extends AbstractStoreFactoryBean {
 	@Value("${spring.content.s3.bucket:#{environment.AWS_BUCKET}}")
 	private String bucket;
 
+	@Autowired(required=false)
+	@Qualifier("s3StoreTaskExecutor")
+	private TaskExecutor taskExecutor;
+
+	@Value("${spring.content.s3.upload.part-size:" + PartBufferPool.MIN_PART_SIZE + "}")
+	private int partSize = PartBufferPool.MIN_PART_SIZE;
+
+	@Value("${spring.content.s3.upload.max-in-flight-parts:" + SimpleStorageResource.DEFAULT_MAX_IN_FLIGHT_PARTS + "}")
+	private int maxInFlightParts = SimpleStorageResource.DEFAULT_MAX_IN_FLIGHT_PARTS;
+
+	@Value("${spring.content.s3.upload.direct-buffers:false}")
+	private boolean directBuffers;
+
+	@Value("${spring.content.s3.download.threshold:0}")
+	private long downloadThreshold;
+
+	@Value("${spring.content.s3.download.part-size:" + ParallelDownloads.DEFAULT_PART_SIZE + "}")
+	private int downloadPartSize = ParallelDownloads.DEFAULT_PART_SIZE;
+
+	@Value("${spring.content.s3.download.max-in-flight-parts:" + SimpleStorageResource.DEFAULT_MAX_IN_FLIGHT_PARTS + "}")
+	private int downloadMaxInFlightParts = SimpleStorageResource.DEFAULT_MAX_IN_FLIGHT_PARTS;
+
+	@Value("${spring.content.s3.metadata-cache.max-entries:0}")
+	private int metadataCacheMaxEntries;
+
+	@Value("${spring.content.s3.metadata-cache.ttl:60s}")
+	private String metadataCacheTtl = "60s";
+
+	@Value("${spring.content.s3.metadata-cache.populate-from-get:true}")
+	private boolean metadataCachePopulateFromGet = true;
+
 	public S3StoreFactoryBean(Class<? extends Store> storeInterface) {
 		super(storeInterface);
 	}
@@ -76,7 +113,21 @@ public class S3StoreFactoryBean extends AbstractStoreFactoryBean {
 	@Override
 	protected Object getContentStoreImpl() {
 
+		PartBufferPool partBuffers = new PartBufferPool(partSize, directBuffers, maxInFlightParts);
+
 		SimpleStorageProtocolResolver s3Protocol = new SimpleStorageProtocolResolver(client);
+		s3Protocol.setTaskExecutor(taskExecutor);
+		s3Protocol.setMaxInFlightParts(maxInFlightParts);
+		s3Protocol.setPartBuffers(partBuffers);
+		// parallel downloads need an executor to download on
+		if (downloadThreshold > 0 && taskExecutor != null) {
+			s3Protocol.setParallelDownloads(new ParallelDownloads(downloadThreshold,
+					new PartBufferPool(downloadPartSize, false, downloadMaxInFlightParts + 1), downloadMaxInFlightParts));
+		}
+		if (metadataCacheMaxEntries > 0) {
+			s3Protocol.setMetadataCache(new ObjectMetadataCache(metadataCacheMaxEntries,
+					DurationFormatterUtils.detectAndParse(metadataCacheTtl), metadataCachePopulateFromGet));
+		}
 		s3Protocol.afterPropertiesSet();
 
 		DefaultResourceLoader loader = new DefaultResourceLoader();
@@ -91,7 +142,8 @@ public class S3StoreFactoryBean extends AbstractStoreFactoryBean {
             if (asyncClient == null) {
                 throw new NoSuchBeanDefinitionException(S3AsyncClient.class.getCanonicalName());
             }
-            return new DefaultReactiveS3StoreImpl(context, loader, mappingContext, s3StorePlacementService, asyncClient, s3Provider);
+            return new DefaultReactiveS3StoreImpl(context, loader, mappingContext, s3StorePlacementService, asyncClient, s3Provider,
+                    partBuffers, maxInFlightParts);
 		}
 	}
 }
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Output stream that uploads what is written to it to an S3 object.
+ * <p>
+ * Content is written into part buffers taken from a {@link PartBufferPool}, sized by the
+ * stream's {@link UploadPlan}. Content that fits in one part is stored with a single put when
+ * the stream is closed. Otherwise a multipart upload is started, and each buffer is uploaded as
+ * a part on the task executor as soon as it is full, and handed back to the pool when the
+ * upload has completed. S3 verifies every request against a CRC32C checksum that the client
+ * computes as it sends the content. At most
+ * {@code maxInFlightParts} parts are uploaded at once; once that many are, writes wait for one
+ * to complete, which bounds the memory held by an upload. If a part fails, the writer is told at
+ * its next write or on close, the parts still being uploaded are cancelled and the multipart
+ * upload is aborted.
+ * <p>
+ * Like other output streams this one is not safe for use by several threads at once.
+ */
+class MultipartUploadOutputStream extends OutputStream {
+
+    private final S3Client client;
+    private final String bucketName;
+    private final String key;
+    private final String contentType;
+    private final TaskExecutor taskExecutor;
+    private final PartBufferPool buffers;
+    private final UploadPlan plan;
+    private final Semaphore inFlight;
+    private final Runnable onUploaded;
+
+    private final List<Future<CompletedPart>> parts = new ArrayList<>();
+
+    private ByteBuffer current;
+    private String uploadId;
+    private volatile Throwable failure;
+    private boolean closed;
+
+    MultipartUploadOutputStream(S3Client client, String bucketName, String key, String contentType,
+            TaskExecutor taskExecutor, PartBufferPool buffers, UploadPlan plan, int maxInFlightParts,
+            Runnable onUploaded) {
+        this.client = client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.contentType = contentType;
+        this.taskExecutor = taskExecutor;
+        this.buffers = buffers;
+        this.plan = plan;
+        this.inFlight = new Semaphore(maxInFlightParts);
+        this.onUploaded = onUploaded;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureBuffer();
+        current.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            ensureBuffer();
+            int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (uploadId == null) {
+                putObject();
+            } else {
+                if (current != null && current.position() > 0) {
+                    submitPart();
+                }
+                complete();
+            }
+            if (onUploaded != null) {
+                onUploaded.run();
+            }
+        } finally {
+            buffers.release(current);
+            current = null;
+        }
+    }
+
+    /**
+     * Makes sure there is a buffer with room in it, uploading the current one if it is full.
+     */
+    private void ensureBuffer() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        checkFailure();
+        if (current == null) {
+            current = buffers.acquire(plan.partSize(parts.size() + 1));
+        } else if (current.hasRemaining() == false) {
+            submitPart();
+            current = buffers.acquire(plan.partSize(parts.size() + 1));
+        }
+    }
+
+    private void submitPart() throws IOException {
+        if (uploadId == null) {
+            uploadId = createMultipartUpload();
+        }
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("Interrupted waiting to upload a part");
+        }
+
+        ByteBuffer buffer = current.flip();
+        current = null;
+        int partNumber = parts.size() + 1;
+        FutureTask<CompletedPart> part = new FutureTask<>(() -> {
+            try {
+                return uploadPart(partNumber, buffer);
+            } catch (RuntimeException | Error e) {
+                failure = e;
+                throw e;
+            } finally {
+                buffers.release(buffer);
+                inFlight.release();
+            }
+        });
+        parts.add(part);
+
+        try {
+            taskExecutor.execute(part);
+        } catch (TaskRejectedException e) {
+            parts.remove(part);
+            buffers.release(buffer);
+            inFlight.release();
+            abort();
+            throw new IOException("Multi part upload failed ", e);
+        }
+        checkFailure();
+    }
+
+    private CompletedPart uploadPart(int partNumber, ByteBuffer buffer) {
+        UploadPartResponse response = client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32_C)
+                        .build(),
+                body(buffer));
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .checksumCRC32C(response.checksumCRC32C())
+                .build();
+    }
+
+    private void complete() throws IOException {
+        List<CompletedPart> completed = new ArrayList<>(parts.size());
+        try {
+            // in part number order, as S3 requires
+            for (Future<CompletedPart> part : parts) {
+                completed.add(part.get());
+            }
+        } catch (ExecutionException e) {
+            abort();
+            throw new IOException("Multi part upload failed ", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("Interrupted waiting for parts to upload");
+        }
+
+        try {
+            client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            abort();
+            throw new IOException("Multi part upload failed ", e);
+        }
+    }
+
+    private void putObject() {
+        ByteBuffer content = current != null ? current.flip() : ByteBuffer.allocate(0);
+
+        PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32_C);
+        if (contentType != null) {
+            requestBuilder.contentType(contentType);
+        }
+
+        client.putObject(requestBuilder.build(), body(content));
+    }
+
+    private String createMultipartUpload() {
+        CreateMultipartUploadRequest.Builder requestBuilder = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32_C);
+        if (contentType != null) {
+            requestBuilder.contentType(contentType);
+        }
+        return client.createMultipartUpload(requestBuilder.build()).uploadId();
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable cause = failure;
+        if (cause != null) {
+            abort();
+            throw new IOException("Multi part upload failed ", cause);
+        }
+    }
+
+    /**
+     * Cancels the parts still being uploaded and aborts the multipart upload, so that S3 frees
+     * the parts already stored.
+     */
+    private void abort() {
+        closed = true;
+        for (Future<CompletedPart> part : parts) {
+            part.cancel(true);
+        }
+        parts.clear();
+        if (uploadId != null) {
+            String id = uploadId;
+            uploadId = null;
+            client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(id)
+                    .build());
+        }
+    }
+
+    /**
+     * Returns a request body reading the buffer in place, afresh for each retry of the request.
+     */
+    private static RequestBody body(ByteBuffer buffer) {
+        return RequestBody.fromContentProvider(() -> new ByteBufferInputStream(buffer.duplicate()),
+                buffer.remaining(), "application/octet-stream");
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (buffer.hasRemaining() == false) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
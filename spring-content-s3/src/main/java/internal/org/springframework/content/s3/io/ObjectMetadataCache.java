@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Metadata of the S3 objects of a store, shared by its resources so that looking up an object's
+ * existence, length or modification time does not cost a {@code HeadObject} request per
+ * resource.
+ * <p>
+ * Entries expire after a time to live, and are evicted when the store writes or deletes the
+ * object. Changes made to objects by anything other than the store are seen once the entry
+ * expires. Objects found not to exist are not cached. Up to {@code maxEntries} entries are kept;
+ * when they are all taken, expired entries and then arbitrary ones are evicted, a quarter of
+ * them at a time.
+ * <p>
+ * The cache may also be populated from the headers of full {@code GetObject} responses, so that
+ * content downloaded once is found in the cache by later requests for it.
+ */
+public class ObjectMetadataCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+
+    private final long timeToLiveMillis;
+
+    private final boolean populatedFromGet;
+
+    private final Clock clock;
+
+    public ObjectMetadataCache(int maxEntries, Duration timeToLive, boolean populatedFromGet) {
+        this(maxEntries, timeToLive, populatedFromGet, Clock.systemUTC());
+    }
+
+    ObjectMetadataCache(int maxEntries, Duration timeToLive, boolean populatedFromGet, Clock clock) {
+        Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+        Assert.isTrue(timeToLive != null && timeToLive.isNegative() == false && timeToLive.isZero() == false, "timeToLive must be positive");
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.populatedFromGet = populatedFromGet;
+        this.clock = clock;
+    }
+
+    public boolean isPopulatedFromGet() {
+        return populatedFromGet;
+    }
+
+    /**
+     * Returns the cached metadata of an object, or {@code null} if there is none or it has
+     * expired.
+     */
+    public HeadObjectResponse get(String bucket, String key, String versionId) {
+        Key cacheKey = new Key(bucket, key, versionId);
+        Entry entry = entries.get(cacheKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expires <= clock.millis()) {
+            entries.remove(cacheKey, entry);
+            return null;
+        }
+        return entry.metadata;
+    }
+
+    public void put(String bucket, String key, String versionId, HeadObjectResponse metadata) {
+        if (metadata == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(new Key(bucket, key, versionId), new Entry(metadata, clock.millis() + timeToLiveMillis));
+    }
+
+    /**
+     * Evicts the metadata of the current version of an object, after the object has been
+     * written or deleted. The metadata of a specific version never changes.
+     */
+    public void evict(String bucket, String key) {
+        entries.remove(new Key(bucket, key, null));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = clock.millis();
+        entries.values().removeIf(entry -> entry.expires <= now);
+
+        int target = maxEntries - Math.max(1, maxEntries / 4);
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Key(String bucket, String key, String versionId) {
+
+        private Key {
+            Objects.requireNonNull(bucket, "bucket");
+            Objects.requireNonNull(key, "key");
+        }
+    }
+
+    private record Entry(HeadObjectResponse metadata, long expires) {
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Input stream that downloads an S3 object as consecutive byte ranges, several at once.
+ * <p>
+ * Each range is downloaded on the task executor into a part buffer taken from a
+ * {@link PartBufferPool}, and read from the stream in order. At most {@code maxInFlightParts}
+ * ranges are downloaded or waiting to be read ahead of the one being read; a range is only
+ * requested once an earlier one has been read, which bounds the memory held by a download to
+ * {@code maxInFlightParts + 1} buffers. If a range cannot be downloaded, the reader is told when
+ * it reaches that range, and the ranges still being downloaded are cancelled.
+ * <p>
+ * Like other input streams this one is not safe for use by several threads at once.
+ */
+class ParallelDownloadInputStream extends InputStream {
+
+    /**
+     * Opens the bytes {@code first} to {@code last}, inclusive, of the object being downloaded.
+     */
+    @FunctionalInterface
+    interface RangeReader {
+
+        InputStream open(long first, long last) throws IOException;
+    }
+
+    private final RangeReader reader;
+    private final long contentLength;
+    private final TaskExecutor taskExecutor;
+    private final PartBufferPool buffers;
+    private final int maxInFlightParts;
+
+    private final Deque<Future<ByteBuffer>> parts = new ArrayDeque<>();
+
+    private long requested;
+    private ByteBuffer current;
+    private boolean closed;
+
+    ParallelDownloadInputStream(RangeReader reader, long contentLength, TaskExecutor taskExecutor,
+            PartBufferPool buffers, int maxInFlightParts) {
+        this.reader = reader;
+        this.contentLength = contentLength;
+        this.taskExecutor = taskExecutor;
+        this.buffers = buffers;
+        this.maxInFlightParts = maxInFlightParts;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (ensureBuffer() == false) {
+            return -1;
+        }
+        return current.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (ensureBuffer() == false) {
+            return -1;
+        }
+        int n = Math.min(len, current.remaining());
+        current.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0 || ensureBuffer() == false) {
+            return 0;
+        }
+        int skipped = (int) Math.min(n, current.remaining());
+        current.position(current.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return current != null ? current.remaining() : 0;
+    }
+
+    /**
+     * Cancels the ranges still being downloaded and hands the downloaded ones back to the pool.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        for (Future<ByteBuffer> part : parts) {
+            if (part.cancel(true) == false && part.isDone()) {
+                try {
+                    buffers.release(part.get());
+                } catch (ExecutionException | InterruptedException e) {
+                    // nothing was downloaded
+                }
+            }
+        }
+        parts.clear();
+        buffers.release(current);
+        current = null;
+    }
+
+    /**
+     * Makes sure there is a buffer with content left in it, waiting for the next range if the
+     * current one has been read. Returns {@code false} at the end of the object.
+     */
+    private boolean ensureBuffer() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (current != null && current.hasRemaining()) {
+            return true;
+        }
+        buffers.release(current);
+        current = null;
+
+        requestParts();
+        Future<ByteBuffer> part = parts.poll();
+        if (part == null) {
+            return false;
+        }
+        try {
+            current = part.get();
+        } catch (ExecutionException e) {
+            close();
+            throw new IOException("Ranged download failed ", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException("Interrupted waiting for a range to download");
+        }
+        requestParts();
+        return true;
+    }
+
+    private void requestParts() throws IOException {
+        while (parts.size() < maxInFlightParts && requested < contentLength) {
+            long first = requested;
+            int size = (int) Math.min(buffers.getPartSize(), contentLength - first);
+            requested += size;
+
+            FutureTask<ByteBuffer> part = new FutureTask<>(() -> download(first, size));
+            parts.add(part);
+            try {
+                taskExecutor.execute(part);
+            } catch (TaskRejectedException e) {
+                close();
+                throw new IOException("Ranged download failed ", e);
+            }
+        }
+    }
+
+    private ByteBuffer download(long first, int size) throws IOException {
+        ByteBuffer buffer = buffers.acquire(size);
+        try (InputStream in = reader.open(first, first + size - 1);
+                ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Range at %d ended after %d of %d bytes".formatted(first, buffer.position(), size));
+                }
+            }
+            return buffer.flip();
+        } catch (IOException | RuntimeException | Error e) {
+            buffers.release(buffer);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import java.io.InputStream;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+import internal.org.springframework.content.s3.io.ParallelDownloadInputStream.RangeReader;
+
+/**
+ * How a store downloads large objects: objects longer than {@code threshold} bytes are read as
+ * consecutive ranges of the buffer pool's part size, with up to {@code maxInFlightParts} ranges
+ * downloaded at once.
+ */
+public class ParallelDownloads {
+
+    // within the 8 to 16MB S3 recommends for ranged downloads
+    public static final int DEFAULT_PART_SIZE = 1024 * 1024 * 8;
+
+    private final long threshold;
+    private final PartBufferPool buffers;
+    private final int maxInFlightParts;
+
+    public ParallelDownloads(long threshold, PartBufferPool buffers, int maxInFlightParts) {
+        Assert.isTrue(threshold >= 0, "threshold must not be negative");
+        Assert.notNull(buffers, "buffers must not be null");
+        Assert.isTrue(maxInFlightParts > 0, "maxInFlightParts must be positive");
+        this.threshold = threshold;
+        this.buffers = buffers;
+        this.maxInFlightParts = maxInFlightParts;
+    }
+
+    /**
+     * Returns whether content of the given length is downloaded in parallel. Content that fits
+     * in one part never is.
+     */
+    boolean appliesTo(long contentLength) {
+        return contentLength > threshold && contentLength > buffers.getPartSize();
+    }
+
+    InputStream open(RangeReader reader, long contentLength, TaskExecutor taskExecutor) {
+        return new ParallelDownloadInputStream(reader, contentLength, taskExecutor, buffers, maxInFlightParts);
+    }
+}
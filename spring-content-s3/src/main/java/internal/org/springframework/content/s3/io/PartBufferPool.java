@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.util.Assert;
+
+/**
+ * Buffers for the parts of multipart uploads or parallel downloads, shared by the transfers of a
+ * store so that a part's buffer is reused for a later part rather than reallocated.
+ * <p>
+ * Buffers may be allocated off-heap. Up to {@code retained} released buffers of the pool's part
+ * size are kept for reuse; any others, including the larger buffers of uploads that need larger
+ * parts, are left to the garbage collector.
+ */
+public class PartBufferPool {
+
+    // The minimum size for a multi part is 5 MB
+    public static final int MIN_PART_SIZE = 1024 * 1024 * 5;
+
+    private final int partSize;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> idle;
+
+    /**
+     * @param partSize size of the pool's buffers; pools for uploads need at least
+     *                 {@link #MIN_PART_SIZE}, see {@link #forUploads()}
+     */
+    public PartBufferPool(int partSize, boolean direct, int retained) {
+        Assert.isTrue(partSize > 0, "partSize must be positive");
+        Assert.isTrue(retained >= 0, "retained must not be negative");
+        this.partSize = partSize;
+        this.direct = direct;
+        this.idle = retained > 0 ? new ArrayBlockingQueue<>(retained) : null;
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * Returns this pool once it has checked that its buffers can hold the parts of multipart
+     * uploads, every one of which but the last must be at least {@link #MIN_PART_SIZE} long.
+     * Ranges of downloads have no such minimum.
+     */
+    PartBufferPool forUploads() {
+        Assert.isTrue(partSize >= MIN_PART_SIZE, "upload partSize must be at least 5MB");
+        return this;
+    }
+
+    /**
+     * Returns an empty buffer of the given size.
+     */
+    ByteBuffer acquire(int size) {
+        ByteBuffer buffer = idle != null && size == partSize ? idle.poll() : null;
+        if (buffer == null) {
+            return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * Returns a buffer to the pool once nothing reads it any longer.
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer != null && idle != null && buffer.capacity() == partSize) {
+            idle.offer(buffer);
+        }
+    }
+}
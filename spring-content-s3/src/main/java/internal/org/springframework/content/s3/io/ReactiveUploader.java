@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Uploads a {@link Flux} of content to S3 without blocking, the reactive counterpart of
+ * {@link MultipartUploadOutputStream}.
+ * <p>
+ * Content known to be shorter than a part is streamed to S3 with a single put as it arrives.
+ * Other content is gathered into part buffers taken from a {@link PartBufferPool} and sized by an
+ * {@link UploadPlan}; content that turns out to fit in one part is still stored with a single
+ * put, and longer content with a multipart upload. At most {@code maxInFlightParts} parts are
+ * uploaded at once, and more content is only requested once one of them has been uploaded, so
+ * an upload holds at most that many part buffers plus the one being filled however fast the
+ * content is produced. If a part fails or the upload is cancelled, the multipart upload is
+ * aborted.
+ */
+public class ReactiveUploader {
+
+    private final S3AsyncClient client;
+    private final PartBufferPool buffers;
+    private final int maxInFlightParts;
+
+    public ReactiveUploader(S3AsyncClient client, PartBufferPool buffers, int maxInFlightParts) {
+        Assert.notNull(client, "client must not be null");
+        Assert.notNull(buffers, "buffers must not be null");
+        Assert.isTrue(maxInFlightParts > 0, "maxInFlightParts must be positive");
+        this.client = client;
+        this.buffers = buffers.forUploads();
+        this.maxInFlightParts = maxInFlightParts;
+    }
+
+    /**
+     * Uploads {@code content} to the given object, producing the number of bytes uploaded.
+     * {@code contentLength} is negative when it is not known.
+     */
+    public Mono<Long> upload(String bucketName, String key, String contentType, long contentLength,
+            Flux<ByteBuffer> content) {
+        return Mono.defer(() -> {
+            UploadPlan plan = UploadPlan.forLength(contentLength, buffers.getPartSize());
+            if (plan.isSinglePut()) {
+                return Mono.fromFuture(() -> client.putObject(putObjectRequest(bucketName, key, contentType, contentLength),
+                                AsyncRequestBody.fromPublisher(content)))
+                        .thenReturn(contentLength);
+            }
+
+            return parts(content, plan)
+                    .switchOnFirst((first, parts) -> {
+                        if (first.hasValue() == false) {
+                            // failed before a part could be made
+                            return parts.thenMany(Flux.<Long>empty());
+                        }
+                        if (first.get().last()) {
+                            return parts.next().flatMap(part -> putObject(bucketName, key, contentType, part));
+                        }
+                        return multipartUpload(bucketName, key, contentType, parts);
+                    })
+                    .next();
+        });
+    }
+
+    private Flux<Part> parts(Flux<ByteBuffer> content, UploadPlan plan) {
+        return Flux.defer(() -> {
+            PartAssembler assembler = new PartAssembler(plan);
+            return content.concatMapIterable(assembler::add, 1)
+                    .concatWith(Mono.fromSupplier(assembler::finish));
+        });
+    }
+
+    private Mono<Long> putObject(String bucketName, String key, String contentType, Part part) {
+        long length = part.content().remaining();
+        return Mono.fromFuture(() -> client.putObject(putObjectRequest(bucketName, key, contentType, length),
+                        AsyncRequestBody.fromByteBufferUnsafe(part.content())))
+                .doFinally(signal -> release(part, signal))
+                .thenReturn(length);
+    }
+
+    private Mono<Long> multipartUpload(String bucketName, String key, String contentType, Flux<Part> parts) {
+        CreateMultipartUploadRequest.Builder requestBuilder = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32_C);
+        if (contentType != null) {
+            requestBuilder.contentType(contentType);
+        }
+
+        return Mono.fromFuture(() -> client.createMultipartUpload(requestBuilder.build()))
+                .map(CreateMultipartUploadResponse::uploadId)
+                .flatMap(uploadId -> {
+                    AtomicLong length = new AtomicLong();
+                    // in part number order, as S3 requires
+                    return parts
+                            .doOnNext(part -> length.addAndGet(part.content().remaining()))
+                            .flatMapSequential(part -> uploadPart(bucketName, key, uploadId, part), maxInFlightParts, 1)
+                            .collectList()
+                            .flatMap(completed -> Mono.fromFuture(() -> client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                                    .bucket(bucketName)
+                                    .key(key)
+                                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                                    .uploadId(uploadId)
+                                    .build())))
+                            .map(response -> length.get())
+                            .onErrorResume(e -> abort(bucketName, key, uploadId).then(Mono.error(e)))
+                            .doOnCancel(() -> abort(bucketName, key, uploadId).subscribe());
+                });
+    }
+
+    private Mono<CompletedPart> uploadPart(String bucketName, String key, String uploadId, Part part) {
+        return Mono.fromFuture(() -> client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(part.number())
+                                .contentLength((long) part.content().remaining())
+                                .checksumAlgorithm(ChecksumAlgorithm.CRC32_C)
+                                .build(),
+                        AsyncRequestBody.fromByteBufferUnsafe(part.content())))
+                .map(response -> CompletedPart.builder()
+                        .partNumber(part.number())
+                        .eTag(response.eTag())
+                        .checksumCRC32C(response.checksumCRC32C())
+                        .build())
+                .doFinally(signal -> release(part, signal));
+    }
+
+    /**
+     * Aborts a multipart upload so that S3 frees the parts already stored. A failure to abort
+     * is ignored in favour of the failure that caused it.
+     */
+    private Mono<Void> abort(String bucketName, String key, String uploadId) {
+        return Mono.fromFuture(() -> client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Hands a part's buffer back to the pool, unless its request was cancelled and may still be
+     * reading it.
+     */
+    private void release(Part part, SignalType signal) {
+        if (signal != SignalType.CANCEL) {
+            buffers.release(part.content());
+        }
+    }
+
+    private static PutObjectRequest putObjectRequest(String bucketName, String key, String contentType, long contentLength) {
+        PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentLength(contentLength)
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32_C);
+        if (contentType != null) {
+            requestBuilder.contentType(contentType);
+        }
+        return requestBuilder.build();
+    }
+
+    /**
+     * A part of the content, and whether it is known to be the last one.
+     */
+    record Part(int number, ByteBuffer content, boolean last) {
+    }
+
+    /**
+     * Copies content into part buffers. A full part is only handed on once more content
+     * arrives, so that the part is known not to be the last one.
+     */
+    private final class PartAssembler {
+
+        private final UploadPlan plan;
+
+        private ByteBuffer current;
+        private int number;
+
+        private PartAssembler(UploadPlan plan) {
+            this.plan = plan;
+        }
+
+        List<Part> add(ByteBuffer content) {
+            List<Part> full = new ArrayList<>(1);
+            ByteBuffer remaining = content.duplicate();
+            while (remaining.hasRemaining()) {
+                if (current != null && current.hasRemaining() == false) {
+                    full.add(new Part(number, current.flip(), false));
+                    current = null;
+                }
+                if (current == null) {
+                    number++;
+                    current = buffers.acquire(plan.partSize(number));
+                }
+                int n = Math.min(remaining.remaining(), current.remaining());
+                current.put(remaining.slice(remaining.position(), n));
+                remaining.position(remaining.position() + n);
+            }
+            return full;
+        }
+
+        Part finish() {
+            if (current == null) {
+                return new Part(number + 1, ByteBuffer.allocate(0), true);
+            }
+            Part last = new Part(number, current.flip(), true);
+            current = null;
+            return last;
+        }
+    }
+}
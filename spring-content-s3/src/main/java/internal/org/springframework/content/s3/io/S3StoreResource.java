@@ -104,6 +104,9 @@ public class S3StoreResource implements WritableResource, DeletableResource, Ran
 	                .build();
 
 	        client.deleteObject(deleteObjectRequest);
+			if (delegate instanceof SimpleStorageResource) {
+				((SimpleStorageResource) delegate).evictMetadata();
+			}
 		}
 	}
 
@@ -117,6 +120,21 @@ public class S3StoreResource implements WritableResource, DeletableResource, Ran
 		return ((WritableResource) delegate).getOutputStream();
 	}
 
+	/**
+	 * Uploads {@code content}, which is {@code contentLength} bytes long, or of unknown length
+	 * when that is negative.
+	 */
+	public void upload(InputStream content, long contentLength) throws IOException {
+		if (delegate instanceof SimpleStorageResource) {
+			((SimpleStorageResource) delegate).upload(content, contentLength);
+			return;
+		}
+
+		try (OutputStream os = getOutputStream()) {
+			content.transferTo(os);
+		}
+	}
+
     @Override
     public void setRange(String range) {
         ((RangeableResource)delegate).setRange(range);
@@ -6,6 +6,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
 
 import software.amazon.awssdk.services.s3.S3Client;
 
@@ -19,12 +20,19 @@ public class SimpleStorageProtocolResolver implements ProtocolResolver, Initiali
     private final S3Client amazonS3;
 
     /**
-     * <b>IMPORTANT:</b> If a task executor is set with an unbounded queue there will be a
-     * huge memory consumption. The reason is that each multipart of 5MB will be put in
-     * the queue to be uploaded. Therefore a bounded queue is recommended.
+     * Executes the part uploads of multipart uploads. Each upload has at most
+     * {@link #setMaxInFlightParts(int) maxInFlightParts} parts queued or running at once.
      */
     private TaskExecutor taskExecutor;
 
+    private PartBufferPool partBuffers;
+
+    private int maxInFlightParts = SimpleStorageResource.DEFAULT_MAX_IN_FLIGHT_PARTS;
+
+    private ObjectMetadataCache metadataCache;
+
+    private ParallelDownloads parallelDownloads;
+
     public SimpleStorageProtocolResolver(S3Client amazonS3) {
 //        this.amazonS3 = AmazonS3ProxyFactory.createProxy(amazonS3);
         this.amazonS3 = amazonS3;
@@ -34,21 +42,69 @@ public class SimpleStorageProtocolResolver implements ProtocolResolver, Initiali
         this.taskExecutor = taskExecutor;
     }
 
+    public void setPartBuffers(PartBufferPool partBuffers) {
+        this.partBuffers = partBuffers != null ? partBuffers.forUploads() : null;
+    }
+
+    public void setMaxInFlightParts(int maxInFlightParts) {
+        Assert.isTrue(maxInFlightParts > 0, "maxInFlightParts must be positive");
+        this.maxInFlightParts = maxInFlightParts;
+    }
+
+    /**
+     * Sets the cache of object metadata shared by the resources this resolver creates. Resolvers
+     * for other clients do not share it, since their buckets may live in other accounts.
+     */
+    public void setMetadataCache(ObjectMetadataCache metadataCache) {
+        this.metadataCache = metadataCache;
+    }
+
+    /**
+     * Sets how the resources this resolver creates download large objects in parallel ranges, on
+     * the task executor.
+     */
+    public void setParallelDownloads(ParallelDownloads parallelDownloads) {
+        this.parallelDownloads = parallelDownloads;
+    }
+
     @Override
     public void afterPropertiesSet() {
         if (this.taskExecutor == null) {
             this.taskExecutor = new SyncTaskExecutor();
         }
+        if (this.partBuffers == null) {
+            this.partBuffers = new PartBufferPool(PartBufferPool.MIN_PART_SIZE, false, this.maxInFlightParts);
+        }
+    }
+
+    /**
+     * Returns a resolver for resources of another client that uploads as this one does, sharing
+     * its task executor, part buffers and parallel downloads.
+     */
+    public SimpleStorageProtocolResolver forClient(S3Client amazonS3) {
+        SimpleStorageProtocolResolver resolver = new SimpleStorageProtocolResolver(amazonS3);
+        resolver.setTaskExecutor(this.taskExecutor);
+        resolver.setPartBuffers(this.partBuffers);
+        resolver.setMaxInFlightParts(this.maxInFlightParts);
+        resolver.setParallelDownloads(this.parallelDownloads);
+        resolver.afterPropertiesSet();
+        return resolver;
     }
 
     @Override
     public Resource resolve(String location, ResourceLoader resourceLoader) {
         if (SimpleStorageNameUtils.isSimpleStorageResource(location)) {
-            return new SimpleStorageResource(this.amazonS3,
+            SimpleStorageResource resource = new SimpleStorageResource(this.amazonS3,
                     SimpleStorageNameUtils.getBucketNameFromLocation(location),
                     SimpleStorageNameUtils.getObjectNameFromLocation(location),
                     this.taskExecutor,
-                    SimpleStorageNameUtils.getVersionIdFromLocation(location));
+                    SimpleStorageNameUtils.getVersionIdFromLocation(location),
+                    null,
+                    this.partBuffers,
+                    this.maxInFlightParts);
+            resource.setMetadataCache(this.metadataCache);
+            resource.setParallelDownloads(this.parallelDownloads);
+            return resource;
         }
         else {
             return null;
@@ -1,46 +1,28 @@
 package internal.org.springframework.content.s3.io;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.Future;
 
 import org.springframework.content.commons.io.RangeableResource;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.WritableResource;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.core.task.support.ExecutorServiceAdapter;
 
-import org.springframework.util.FastByteArrayOutputStream;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
-import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
-import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
-import software.amazon.awssdk.services.s3.model.CompletedPart;
-import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
-import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
-import software.amazon.awssdk.services.s3.model.UploadPartRequest;
-import software.amazon.awssdk.services.s3.model.UploadPartResponse;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * {@link org.springframework.core.io.Resource} implementation for
@@ -53,6 +35,10 @@ import software.amazon.awssdk.utils.BinaryUtils;
  */
 public class SimpleStorageResource extends AbstractResource implements WritableResource, RangeableResource {
 
+    public static final int DEFAULT_MAX_IN_FLIGHT_PARTS = 4;
+
+    private static final PartBufferPool DEFAULT_PART_BUFFERS = new PartBufferPool(PartBufferPool.MIN_PART_SIZE, false, DEFAULT_MAX_IN_FLIGHT_PARTS);
+
     private final String bucketName;
 
     private final String objectName;
@@ -63,8 +49,16 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
 
     private final TaskExecutor taskExecutor;
 
+    private final PartBufferPool partBuffers;
+
+    private final int maxInFlightParts;
+
     private volatile HeadObjectResponse objectMetadata;
 
+    private ObjectMetadataCache metadataCache;
+
+    private ParallelDownloads parallelDownloads;
+
     private String range;
 
     private String contentType;
@@ -81,6 +75,12 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
 
     public SimpleStorageResource(S3Client amazonS3, String bucketName, String objectName,
             TaskExecutor taskExecutor, String versionId, String contentType) {
+        this(amazonS3, bucketName, objectName, taskExecutor, versionId, contentType, DEFAULT_PART_BUFFERS, DEFAULT_MAX_IN_FLIGHT_PARTS);
+    }
+
+    public SimpleStorageResource(S3Client amazonS3, String bucketName, String objectName,
+            TaskExecutor taskExecutor, String versionId, String contentType,
+            PartBufferPool partBuffers, int maxInFlightParts) {
 //        this.amazonS3 = AmazonS3ProxyFactory.createProxy(amazonS3);
         this.amazonS3 = amazonS3;
         this.bucketName = bucketName;
@@ -88,6 +88,8 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
         this.taskExecutor = taskExecutor;
         this.versionId = versionId;
         this.contentType = contentType;
+        this.partBuffers = partBuffers;
+        this.maxInFlightParts = maxInFlightParts;
     }
 
     @Override
@@ -121,6 +123,24 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
         return getRequiredObjectMetadata().contentType();
     }
 
+    /**
+     * Sets the cache of object metadata shared by the store's resources, or {@code null} for
+     * none.
+     */
+    public void setMetadataCache(ObjectMetadataCache metadataCache) {
+        this.metadataCache = metadataCache;
+    }
+
+    /**
+     * Sets how large objects are downloaded in parallel ranges, or {@code null} to download
+     * every object with a single request. An object is only downloaded in ranges when its length
+     * is already known, from an earlier request for this resource or from the metadata cache,
+     * rather than sending a {@code HeadObject} request before every download to find it out.
+     */
+    public void setParallelDownloads(ParallelDownloads parallelDownloads) {
+        this.parallelDownloads = parallelDownloads;
+    }
+
     @Override
     public void setRange(String range) {
         this.range = range;
@@ -128,34 +148,76 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
 
     @Override
     public InputStream getInputStream() throws IOException {
+        if (this.range != null) {
+            return getRange(this.range, null);
+        }
+
+        if (this.parallelDownloads != null) {
+            HeadObjectResponse metadata = getKnownObjectMetadata();
+            if (metadata != null && this.parallelDownloads.appliesTo(metadata.contentLength())) {
+                // every range must come from the same version of the object
+                String eTag = this.versionId == null ? metadata.eTag() : null;
+                return this.parallelDownloads.open((first, last) -> {
+                    InputStream part = getRange("bytes=%d-%d".formatted(first, last), eTag);
+                    part.skipNBytes(first);
+                    return part;
+                }, metadata.contentLength(), this.taskExecutor);
+            }
+        }
+
+        ResponseInputStream<GetObjectResponse> object = this.amazonS3.getObject(getObjectRequest().build());
+        GetObjectResponse response = object.response();
+        HeadObjectResponse metadata = HeadObjectResponse.builder()
+                .contentLength(response.contentLength())
+                .contentType(response.contentType())
+                .lastModified(response.lastModified())
+                .eTag(response.eTag())
+                .versionId(response.versionId())
+                .build();
+        this.objectMetadata = metadata;
+        if (this.metadataCache != null && this.metadataCache.isPopulatedFromGet()) {
+            this.metadataCache.put(this.bucketName, this.objectName, this.versionId, metadata);
+        }
+        return object;
+    }
+
+    private GetObjectRequest.Builder getObjectRequest() {
         GetObjectRequest.Builder getObjectRequestBuilder = GetObjectRequest.builder()
                 .bucket(this.bucketName).key(this.objectName);
         if (this.versionId != null) {
             getObjectRequestBuilder.versionId(this.versionId);
         }
-        if (this.range != null) {
-            getObjectRequestBuilder.range(range);
-            var getObjectResponse = this.amazonS3.getObject(getObjectRequestBuilder.build());
-            var sdkResponse = getObjectResponse.response().sdkHttpResponse();
-            switch (sdkResponse.statusCode()) {
-                case 206: // Partial content
-                    var contentRange = getObjectResponse.response().contentRange();
-                    // As per https://www.rfc-editor.org/rfc/rfc9110.html#name-206-partial-content,
-                    // a Content-Range header MUST be present when responding with a single part.
-                    if(contentRange == null) {
-                        throw new IOException("Received HTTP 206, but missing a Content-Range header. Only single-part responses are supported.");
-                    }
-                    return PartialContentInputStream.fromContentRange(
-                            getObjectResponse,
-                            contentRange
-                    );
-                case 200: // OK -> this is a full response
-                    return getObjectResponse;
-                default:
-                    throw new IOException("Unexpected HTTP response code %d %s".formatted(sdkResponse.statusCode(), sdkResponse.statusText().orElse("")));
-            }
+        return getObjectRequestBuilder;
+    }
+
+    /**
+     * Returns a stream over the object of which only the given range is read, and which reads
+     * as zeroes elsewhere.
+     */
+    private InputStream getRange(String range, String ifMatch) throws IOException {
+        GetObjectRequest.Builder getObjectRequestBuilder = getObjectRequest().range(range);
+        if (ifMatch != null) {
+            getObjectRequestBuilder.ifMatch(ifMatch);
+        }
+        var getObjectResponse = this.amazonS3.getObject(getObjectRequestBuilder.build());
+        var sdkResponse = getObjectResponse.response().sdkHttpResponse();
+        switch (sdkResponse.statusCode()) {
+            case 206: // Partial content
+                var contentRange = getObjectResponse.response().contentRange();
+                // As per https://www.rfc-editor.org/rfc/rfc9110.html#name-206-partial-content,
+                // a Content-Range header MUST be present when responding with a single part.
+                if(contentRange == null) {
+                    throw new IOException("Received HTTP 206, but missing a Content-Range header. Only single-part responses are supported.");
+                }
+                return PartialContentInputStream.fromContentRange(
+                        getObjectResponse,
+                        contentRange
+                );
+            case 200: // OK -> this is a full response
+                return getObjectResponse;
+            default:
+                throw new IOException("Unexpected HTTP response code %d %s".formatted(sdkResponse.statusCode(), sdkResponse.statusText().orElse("")));
         }
-        return this.amazonS3.getObject(getObjectRequestBuilder.build());
     }
 
     @Override
@@ -215,18 +277,76 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
 
     @Override
     public OutputStream getOutputStream() throws IOException {
-        return new SimpleStorageOutputStream();
+        evictMetadata();
+        return new MultipartUploadOutputStream(this.amazonS3, this.bucketName, this.objectName, this.contentType,
+                this.taskExecutor, this.partBuffers, UploadPlan.forUnknownLength(this.partBuffers.getPartSize()),
+                this.maxInFlightParts, this::evictMetadata);
+    }
+
+    /**
+     * Uploads {@code content}, which is {@code contentLength} bytes long, or of unknown length
+     * when that is negative. Content known to be shorter than a part is streamed to S3 with a
+     * single put, without being buffered; longer content is uploaded in parts sized for its
+     * length.
+     */
+    public void upload(InputStream content, long contentLength) throws IOException {
+        UploadPlan plan = UploadPlan.forLength(contentLength, this.partBuffers.getPartSize());
+        evictMetadata();
+
+        if (plan.isSinglePut()) {
+            PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
+                    .bucket(this.bucketName)
+                    .key(this.objectName)
+                    .contentLength(contentLength)
+                    .checksumAlgorithm(ChecksumAlgorithm.CRC32_C);
+            if (this.contentType != null) {
+                requestBuilder.contentType(this.contentType);
+            }
+            this.amazonS3.putObject(requestBuilder.build(), RequestBody.fromInputStream(content, contentLength));
+            evictMetadata();
+            return;
+        }
+
+        try (OutputStream out = new MultipartUploadOutputStream(this.amazonS3, this.bucketName, this.objectName,
+                this.contentType, this.taskExecutor, this.partBuffers, plan, this.maxInFlightParts, this::evictMetadata)) {
+            content.transferTo(out);
+        }
+    }
+
+    /**
+     * Forgets the object's metadata, here and in the store's cache, once the object has been
+     * written or deleted.
+     */
+    public void evictMetadata() {
+        this.objectMetadata = null;
+        if (this.metadataCache != null) {
+            this.metadataCache.evict(this.bucketName, this.objectName);
+        }
     }
 
     @Override
     public SimpleStorageResource createRelative(String relativePath) throws IOException {
         String relativeKey = this.objectName + "/" + relativePath;
-        return new SimpleStorageResource(this.amazonS3, this.bucketName, relativeKey,
-                this.taskExecutor);
+        SimpleStorageResource relative = new SimpleStorageResource(this.amazonS3, this.bucketName, relativeKey,
+                this.taskExecutor, null, null, this.partBuffers, this.maxInFlightParts);
+        relative.setMetadataCache(this.metadataCache);
+        relative.setParallelDownloads(this.parallelDownloads);
+        return relative;
+    }
+
+    /**
+     * Returns the object's metadata if it is already known, here or in the store's cache, without
+     * asking S3 for it.
+     */
+    private HeadObjectResponse getKnownObjectMetadata() {
+        if (this.objectMetadata == null && this.metadataCache != null) {
+            this.objectMetadata = this.metadataCache.get(this.bucketName, this.objectName, this.versionId);
+        }
+        return this.objectMetadata;
     }
 
     private HeadObjectResponse getObjectMetadata() {
-        if (this.objectMetadata == null) {
+        if (getKnownObjectMetadata() == null) {
             try {
                 HeadObjectRequest.Builder headObjectRequestBuilder = HeadObjectRequest
                         .builder().bucket(this.bucketName).key(this.objectName);
@@ -235,6 +355,9 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
                 }
                 this.objectMetadata = this.amazonS3
                         .headObject(headObjectRequestBuilder.build());
+                if (this.metadataCache != null) {
+                    this.metadataCache.put(this.bucketName, this.objectName, this.versionId, this.objectMetadata);
+                }
             }
             catch (S3Exception e) {
                 // Catch 404 (object not found) and 301 (bucket not found, moved
@@ -250,215 +373,4 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
         return this.objectMetadata;
     }
 
-    private class SimpleStorageOutputStream extends OutputStream {
-
-        // The minimum size for a multi part is 5 MB, hence the buffer size of 5 MB
-        private static final int BUFFER_SIZE = 1024 * 1024 * 5;
-
-        private final Object monitor = new Object();
-
-        private final CompletionService<CompletedPart> completionService;
-
-        @SuppressWarnings("FieldMayBeFinal")
-        private FastByteArrayOutputStream currentOutputStream = new FastByteArrayOutputStream();
-
-        private int partNumberCounter = 1;
-
-        private CreateMultipartUploadResponse multiPartUploadResult;
-
-        SimpleStorageOutputStream() {
-            this.completionService = new ExecutorCompletionService<>(
-                    new ExecutorServiceAdapter(SimpleStorageResource.this.taskExecutor));
-        }
-
-        @Override
-        public void write(int b) throws IOException {
-            synchronized (this.monitor) {
-                if (this.currentOutputStream.size() == BUFFER_SIZE) {
-                    initiateMultiPartIfNeeded();
-                    this.completionService.submit(new UploadPartResultCallable(
-                            SimpleStorageResource.this.amazonS3,
-                            this.currentOutputStream.toByteArray(),
-                            this.currentOutputStream.size(),
-                            SimpleStorageResource.this.bucketName,
-                            SimpleStorageResource.this.objectName,
-                            this.multiPartUploadResult.uploadId(),
-                            this.partNumberCounter++));
-                    this.currentOutputStream.reset();
-                }
-                this.currentOutputStream.write(b);
-            }
-        }
-
-        @Override
-        public void close() throws IOException {
-            synchronized (this.monitor) {
-                if (this.currentOutputStream == null) {
-                    return;
-                }
-
-                if (isMultiPartUpload()) {
-                    finishMultiPartUpload();
-                }
-                else {
-                    finishSimpleUpload();
-                }
-            }
-        }
-
-        private boolean isMultiPartUpload() {
-            return this.multiPartUploadResult != null;
-        }
-
-        private void finishSimpleUpload() {
-            byte[] content = this.currentOutputStream.toByteArray();
-            String md5Digest;
-            try {
-                MessageDigest messageDigest = MessageDigest.getInstance("MD5");
-                md5Digest = BinaryUtils.toBase64(messageDigest.digest(content));
-            }
-            catch (NoSuchAlgorithmException e) {
-                throw new IllegalStateException(
-                        "MessageDigest could not be initialized because it uses an unknown algorithm",
-                        e);
-            }
-
-            PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
-                .bucket(SimpleStorageResource.this.bucketName)
-                .key(SimpleStorageResource.this.objectName)
-                .contentMD5(md5Digest);
-
-            if (SimpleStorageResource.this.contentType != null) {
-                requestBuilder.contentType(SimpleStorageResource.this.contentType);
-            }
-
-            SimpleStorageResource.this.amazonS3.putObject(requestBuilder.build(), RequestBody.fromBytes(content));
-
-            // Release the memory early
-            this.currentOutputStream = null;
-        }
-
-        private void finishMultiPartUpload() throws IOException {
-            this.completionService.submit(new UploadPartResultCallable(
-                    SimpleStorageResource.this.amazonS3,
-                    this.currentOutputStream.toByteArray(),
-                    this.currentOutputStream.size(),
-                    SimpleStorageResource.this.bucketName,
-                    SimpleStorageResource.this.objectName,
-                    this.multiPartUploadResult.uploadId(), this.partNumberCounter));
-            try {
-                CompletedMultipartUpload multipartUpload = CompletedMultipartUpload
-                        .builder().parts(getCompletedMultiParts()).build();
-                SimpleStorageResource.this.amazonS3
-                        .completeMultipartUpload(CompleteMultipartUploadRequest.builder()
-                                .bucket(this.multiPartUploadResult.bucket())
-                                .key(this.multiPartUploadResult.key())
-                                .multipartUpload(multipartUpload)
-                                .uploadId(this.multiPartUploadResult.uploadId()).build());
-            }
-            catch (ExecutionException e) {
-                abortMultiPartUpload();
-                throw new IOException("Multi part upload failed ", e.getCause());
-            }
-            catch (InterruptedException e) {
-                abortMultiPartUpload();
-                Thread.currentThread().interrupt();
-            }
-            finally {
-                this.currentOutputStream = null;
-            }
-        }
-
-        private void initiateMultiPartIfNeeded() {
-            if (this.multiPartUploadResult == null) {
-                CreateMultipartUploadRequest.Builder requestBuilder = CreateMultipartUploadRequest.builder()
-                        .bucket(SimpleStorageResource.this.bucketName)
-                        .key(SimpleStorageResource.this.objectName);
-
-                if (SimpleStorageResource.this.contentType != null) {
-                    requestBuilder.contentType(SimpleStorageResource.this.contentType);
-                }
-
-                this.multiPartUploadResult = SimpleStorageResource.this.amazonS3
-                        .createMultipartUpload(requestBuilder.build());
-            }
-        }
-
-        private void abortMultiPartUpload() {
-            if (isMultiPartUpload()) {
-                SimpleStorageResource.this.amazonS3
-                        .abortMultipartUpload(AbortMultipartUploadRequest.builder()
-                                .bucket(this.multiPartUploadResult.bucket())
-                                .key(this.multiPartUploadResult.key())
-                                .uploadId(this.multiPartUploadResult.uploadId()).build());
-            }
-        }
-
-        private List<CompletedPart> getCompletedMultiParts()
-                throws ExecutionException, InterruptedException {
-            List<CompletedPart> result = new ArrayList<>(this.partNumberCounter);
-            for (int i = 0; i < this.partNumberCounter; i++) {
-                Future<CompletedPart> uploadPartResultFuture = this.completionService
-                        .take();
-                result.add(uploadPartResultFuture.get());
-            }
-            return result;
-        }
-
-        private final class UploadPartResultCallable implements Callable<CompletedPart> {
-
-            private final S3Client amazonS3;
-
-            private final int contentLength;
-
-            private final int partNumber;
-
-            private final String bucketName;
-
-            private final String key;
-
-            private final String uploadId;
-
-            @SuppressWarnings("FieldMayBeFinal")
-            private byte[] content;
-
-            private UploadPartResultCallable(S3Client amazon, byte[] content,
-                    int writtenDataSize, String bucketName, String key, String uploadId,
-                    int partNumber) {
-                this.amazonS3 = amazon;
-                this.content = content;
-                this.contentLength = writtenDataSize;
-                this.partNumber = partNumber;
-                this.bucketName = bucketName;
-                this.key = key;
-                this.uploadId = uploadId;
-            }
-
-            @Override
-            public CompletedPart call() throws Exception {
-                try {
-                    final UploadPartResponse uploadPartResponse = this.amazonS3
-                            .uploadPart(
-                                    UploadPartRequest.builder().bucket(this.bucketName)
-                                            .key(this.key).uploadId(this.uploadId)
-                                            .partNumber(this.partNumber).build(),
-                                    RequestBody.fromInputStream(
-                                            new ByteArrayInputStream(this.content),
-                                            this.contentLength));
-                    return CompletedPart.builder().partNumber(this.partNumber)
-                            .eTag(uploadPartResponse.eTag()).build();
-
-                }
-                finally {
-                    // Release the memory, as the callable may still live inside the
-                    // CompletionService which would cause
-                    // an exhaustive memory usage
-                    this.content = null;
-                }
-            }
-
-        }
-
-    }
-
 }
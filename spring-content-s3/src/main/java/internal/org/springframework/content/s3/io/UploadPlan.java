@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+/**
+ * How content of a given length is uploaded: with a single put when it is shorter than a part,
+ * and otherwise with a multipart upload whose part sizes keep it within S3's limit of 10,000
+ * parts.
+ * <p>
+ * When the length is known every part is the same size, the base part size or, for content
+ * longer than 10,000 of those, the smallest whole number of megabytes that fits the content in
+ * 10,000 parts, so that objects of up to S3's maximum of 5TB can be uploaded. When it is not,
+ * the part size doubles every 1,000 parts, up to 1GB, which allows for about 3TB of content while
+ * keeping the parts of smaller content, and so the memory buffering them, small.
+ */
+final class UploadPlan {
+
+    static final int MAX_PARTS = 10_000;
+
+    static final long MAX_OBJECT_SIZE = 5L * 1024 * 1024 * 1024 * 1024;
+
+    // parts are buffered, so they are kept well below S3's maximum of 5GB
+    static final int MAX_PART_SIZE = 1024 * 1024 * 1024;
+
+    private static final int PARTS_PER_DOUBLING = 1_000;
+
+    private static final int MB = 1024 * 1024;
+
+    private final long contentLength;
+
+    private final int partSize;
+
+    private UploadPlan(long contentLength, int partSize) {
+        this.contentLength = contentLength;
+        this.partSize = partSize;
+    }
+
+    /**
+     * Plans the upload of content of unknown length.
+     */
+    static UploadPlan forUnknownLength(int basePartSize) {
+        return new UploadPlan(-1L, basePartSize);
+    }
+
+    /**
+     * Plans the upload of {@code contentLength} bytes, or of content of unknown length when it
+     * is negative.
+     */
+    static UploadPlan forLength(long contentLength, int basePartSize) {
+        if (contentLength < 0) {
+            return forUnknownLength(basePartSize);
+        }
+        if (contentLength > MAX_OBJECT_SIZE) {
+            throw new IllegalArgumentException(String.format("Content of %d bytes is longer than the maximum S3 object size", contentLength));
+        }
+
+        long fitting = (contentLength + MAX_PARTS - 1) / MAX_PARTS;
+        long rounded = (fitting + MB - 1) / MB * MB;
+        return new UploadPlan(contentLength, (int) Math.max(basePartSize, rounded));
+    }
+
+    /**
+     * Whether the content is known to be short enough to be uploaded with a single put.
+     */
+    boolean isSinglePut() {
+        return contentLength >= 0 && contentLength < partSize;
+    }
+
+    long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Returns the size of the part with the given (1-based) number.
+     */
+    int partSize(int partNumber) {
+        if (contentLength >= 0) {
+            return partSize;
+        }
+
+        int doublings = Math.min((partNumber - 1) / PARTS_PER_DOUBLING, Integer.numberOfLeadingZeros(partSize) - 1);
+        return (int) Math.min((long) partSize << doublings, Math.max(partSize, MAX_PART_SIZE));
+    }
+}
@@ -1,11 +1,9 @@
 package internal.org.springframework.content.s3.store;
 
-import java.io.File;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.nio.ByteBuffer;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -13,6 +11,7 @@ import org.springframework.content.commons.config.ContentPropertyInfo;
 import org.springframework.content.commons.mappingcontext.ContentProperty;
 import org.springframework.content.commons.mappingcontext.MappingContext;
 import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.GetResourceParams;
 import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.content.commons.store.StoreAccessException;
 import org.springframework.content.commons.utils.BeanUtils;
@@ -26,19 +25,27 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import internal.org.springframework.content.commons.utils.ContentPropertyInfoTypeDescriptor;
+import internal.org.springframework.content.s3.io.PartBufferPool;
+import internal.org.springframework.content.s3.io.ReactiveUploader;
+import internal.org.springframework.content.s3.io.SimpleStorageResource;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
-import software.amazon.awssdk.core.async.ResponsePublisher;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
-
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * Non-blocking S3-backed {@link ReactiveContentStore}.
+ * <p>
+ * No method waits for S3: every request is made when the returned publisher is subscribed to,
+ * and completes it when S3 responds. Content is read as the subscriber demands it, whole or in
+ * the range given by {@link GetResourceParams#getRange()}. Content is written by a
+ * {@link ReactiveUploader}, so its length need not be known up front; a negative
+ * {@code contentLen} means it is not, and the content length set on the entity is the number of
+ * bytes actually stored.
+ */
 @Transactional
 public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
 		implements org.springframework.content.commons.repository.ReactiveContentStore<S, SID>,
@@ -55,7 +62,15 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
 
     private S3AsyncClient asyncClient;
 
+    private ReactiveUploader uploader;
+
 	public DefaultReactiveS3StoreImpl(ApplicationContext context, ResourceLoader loader, MappingContext mappingContext, PlacementService placementService, S3AsyncClient asyncClient, MultiTenantS3ClientProvider provider) {
+		this(context, loader, mappingContext, placementService, asyncClient, provider,
+				new PartBufferPool(PartBufferPool.MIN_PART_SIZE, false, SimpleStorageResource.DEFAULT_MAX_IN_FLIGHT_PARTS),
+				SimpleStorageResource.DEFAULT_MAX_IN_FLIGHT_PARTS);
+	}
+
+	public DefaultReactiveS3StoreImpl(ApplicationContext context, ResourceLoader loader, MappingContext mappingContext, PlacementService placementService, S3AsyncClient asyncClient, MultiTenantS3ClientProvider provider, PartBufferPool partBuffers, int maxInFlightParts) {
         Assert.notNull(context, "context must be specified");
 		Assert.notNull(loader, "loader must be specified");
 		Assert.notNull(placementService, "placementService must be specified");
@@ -68,6 +83,7 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
         if (this.mappingContext == null) {
             this.mappingContext = new MappingContext("/", ".");
         }
+        this.uploader = new ReactiveUploader(asyncClient, partBuffers, maxInFlightParts);
 	}
 
     private S3ObjectId getS3ObjectId(S entity, PropertyPath path, ContentProperty property) {
@@ -105,24 +121,11 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
 
         final S3ObjectId s3ObjectId = getS3ObjectId(entity, path, property);
 
-        PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
-                .bucket(s3ObjectId.getBucket())
-                .contentLength(contentLen)
-                .key(s3ObjectId.getKey());
-
         Object mimeType = property.getMimeType(entity);
-        if (mimeType != null) {
-            String strMimeType = mimeType.toString();
-            requestBuilder.contentType(strMimeType);
-        }
+        String contentType = mimeType != null ? mimeType.toString() : null;
 
-        CompletableFuture<PutObjectResponse> future = asyncClient.putObject(
-                requestBuilder.build(),
-                AsyncRequestBody.fromPublisher(buffer)
-        );
-
-        return Mono.fromFuture(future)
-          .map((response) -> {
+        return uploader.upload(s3ObjectId.getBucket(), s3ObjectId.getKey(), contentType, contentLen, buffer)
+          .map((length) -> {
               try {
                   property.setContentId(entity, s3ObjectId.getKey(), null);
               } catch (Exception e) {
@@ -130,9 +133,9 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
                   throw e;
               }
               try {
-                  property.setContentLength(entity, contentLen);
+                  property.setContentLength(entity, length);
               } catch (Exception e) {
-                  logger.error("Error setting content length " + contentLen, e);
+                  logger.error("Error setting content length " + length, e);
                   throw e;
               }
               return entity;
@@ -142,6 +145,15 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
 
     @Override
     public Flux<ByteBuffer> getContent(S entity, PropertyPath path) {
+        return readContent(entity, path, null);
+    }
+
+    @Override
+    public Flux<ByteBuffer> getContent(S entity, PropertyPath path, GetResourceParams params) {
+        return readContent(entity, path, params != null ? params.getRange() : null);
+    }
+
+    private Flux<ByteBuffer> readContent(S entity, PropertyPath path, String range) {
 
         if (entity == null)
             return Flux.empty();
@@ -158,17 +170,17 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
 
         final S3ObjectId s3ObjectId = getS3ObjectId(entity, path, property);
 
-        GetObjectRequest request = GetObjectRequest.builder()
+        GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
                 .bucket(s3ObjectId.getBucket())
-                .key(s3ObjectId.getKey())
-                .build();
-
-        AsyncResponseTransformer.toFile(new File("/tmp/foo"));
-        CompletableFuture<ResponsePublisher<GetObjectResponse>> responseFuture =
-                asyncClient.getObject(request, AsyncResponseTransformer.toPublisher());
+                .key(s3ObjectId.getKey());
+        if (range != null) {
+            requestBuilder.range(range);
+        }
+        GetObjectRequest request = requestBuilder.build();
 
-        ResponsePublisher<GetObjectResponse> responsePublisher = responseFuture.join();
-        return Flux.from(responsePublisher);
+        return Mono.fromFuture(() -> asyncClient.getObject(request, AsyncResponseTransformer.toPublisher()))
+                .flatMapMany(Flux::from)
+                .onErrorResume(NoSuchKeyException.class, e -> Flux.empty());
     }
 
     @Transactional
@@ -176,7 +188,7 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
     public Mono<S> unsetContent(S entity, PropertyPath propertyPath) {
 
         if (entity == null)
-            return Mono.just(entity);
+            return Mono.empty();
 
         ContentProperty property = this.mappingContext.getContentProperty(entity.getClass(), propertyPath.getName());
         if (property == null) {
@@ -195,9 +207,7 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
                 .key(s3ObjectId.getKey())
                 .build();
 
-        CompletableFuture<DeleteObjectResponse> future = asyncClient.deleteObject(deleteRequest);
-
-        return Mono.fromFuture(future)
+        return Mono.fromFuture(() -> asyncClient.deleteObject(deleteRequest))
                 .map((response) -> {
                     property.setContentId(entity, null, new org.springframework.content.commons.mappingcontext.Condition() {
                         @Override
@@ -36,6 +36,7 @@ import org.springframework.content.s3.config.MultiTenantS3ClientProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ProtocolResolver;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.WritableResource;
@@ -174,8 +175,7 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
         if (clientProvider != null) {
 			S3Client client = clientProvider.getS3Client();
 			if (client != null) {
-				SimpleStorageProtocolResolver s3Protocol = new SimpleStorageProtocolResolver(client);
-				s3Protocol.afterPropertiesSet();
+				SimpleStorageProtocolResolver s3Protocol = protocolResolverFor(client);
 
 				DefaultResourceLoader loader = new DefaultResourceLoader();
 				loader.addProtocolResolver(s3Protocol);
@@ -191,6 +191,24 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
 		return s3Resource;
 	}
 
+	/**
+	 * Returns a resolver for the given tenant client that uploads as the store's own resolver
+	 * does.
+	 */
+	private SimpleStorageProtocolResolver protocolResolverFor(S3Client client) {
+		if (loader instanceof DefaultResourceLoader defaultLoader) {
+			for (ProtocolResolver resolver : defaultLoader.getProtocolResolvers()) {
+				if (resolver instanceof SimpleStorageProtocolResolver s3Protocol) {
+					return s3Protocol.forClient(client);
+				}
+			}
+		}
+
+		SimpleStorageProtocolResolver s3Protocol = new SimpleStorageProtocolResolver(client);
+		s3Protocol.afterPropertiesSet();
+		return s3Protocol;
+	}
+
 	@Override
 	public void associate(Object entity, Serializable id) {
 		BeanUtils.setFieldWithAnnotation(entity, ContentId.class, id);
@@ -366,15 +384,21 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
 
 		setResourceContentTypeFromMimeType(entity, property, resource);
 
-		if (resource instanceof WritableResource) {
-			try (OutputStream os = ((WritableResource) resource).getOutputStream()) {
-				IOUtils.copy(content, os);
+		try {
+			if (resource instanceof S3StoreResource s3Resource) {
+				// a known length lets the upload be planned rather than buffered
+				s3Resource.upload(content, params.getContentLength());
 			}
-			catch (IOException e) {
-				logger.error(format("Unexpected error setting content for entity %s", entity), e);
-				throw new StoreAccessException(format("Setting content for entity %s", entity), e);
+			else if (resource instanceof WritableResource) {
+				try (OutputStream os = ((WritableResource) resource).getOutputStream()) {
+					IOUtils.copy(content, os);
+				}
 			}
 		}
+		catch (IOException e) {
+			logger.error(format("Unexpected error setting content for entity %s", entity), e);
+			throw new StoreAccessException(format("Setting content for entity %s", entity), e);
+		}
 
 		try {
 			long len = params.getContentLength();
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@DisplayName("MultipartUploadOutputStream")
+public class MultipartUploadOutputStreamTest {
+
+    private static final int PART_SIZE = PartBufferPool.MIN_PART_SIZE;
+
+    private S3Client client;
+    private ExecutorService executor;
+    private PartBufferPool buffers;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(S3Client.class);
+        when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build());
+        executor = Executors.newFixedThreadPool(8);
+        buffers = new PartBufferPool(PART_SIZE, false, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should store content shorter than a part with a single put")
+    void shouldPutSmallContent() throws IOException {
+        try (OutputStream out = stream(4)) {
+            out.write(new byte[1024]);
+        }
+
+        verify(client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("should bound the number of parts uploaded at once")
+    void shouldBoundPartsInFlight() throws IOException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return UploadPartResponse.builder().eTag("etag").build();
+        });
+
+        try (OutputStream out = stream(2)) {
+            write(out, 8 * PART_SIZE + 1);
+        }
+
+        assertThat(peak.get(), is(lessThanOrEqualTo(2)));
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(client).completeMultipartUpload(complete.capture());
+        List<Integer> partNumbers = complete.getValue().multipartUpload().parts().stream()
+                .map(CompletedPart::partNumber)
+                .collect(Collectors.toList());
+        assertThat(partNumbers, is(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+
+    @Test
+    @DisplayName("should abort the multipart upload when a part fails")
+    void shouldAbortOnFailure() {
+        when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(new IllegalStateException("part failed"));
+
+        assertThrows(IOException.class, () -> {
+            try (OutputStream out = stream(2)) {
+                write(out, 4 * PART_SIZE);
+            }
+        });
+
+        verify(client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    private OutputStream stream(int maxInFlightParts) {
+        return new MultipartUploadOutputStream(client, "bucket", "key", null, executor::execute, buffers,
+                UploadPlan.forUnknownLength(PART_SIZE), maxInFlightParts, null);
+    }
+
+    private static void write(OutputStream out, long length) throws IOException {
+        byte[] chunk = new byte[64 * 1024];
+        for (long written = 0; written < length; ) {
+            int n = (int) Math.min(chunk.length, length - written);
+            out.write(chunk, 0, n);
+            written += n;
+        }
+    }
+}
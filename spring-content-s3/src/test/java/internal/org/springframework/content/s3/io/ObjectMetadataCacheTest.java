@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+@DisplayName("ObjectMetadataCache")
+public class ObjectMetadataCacheTest {
+
+    private MutableClock clock;
+    private ObjectMetadataCache cache;
+    private HeadObjectResponse metadata;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new ObjectMetadataCache(8, Duration.ofSeconds(60), true, clock);
+        metadata = HeadObjectResponse.builder().contentLength(42L).build();
+    }
+
+    @Test
+    @DisplayName("should return cached metadata until it expires")
+    void shouldExpire() {
+        cache.put("bucket", "key", null, metadata);
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.get("bucket", "key", null), is(sameInstance(metadata)));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get("bucket", "key", null), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    @DisplayName("should keep the metadata of each version apart")
+    void shouldKeepVersionsApart() {
+        HeadObjectResponse version = HeadObjectResponse.builder().contentLength(7L).versionId("v1").build();
+        cache.put("bucket", "key", null, metadata);
+        cache.put("bucket", "key", "v1", version);
+
+        assertThat(cache.get("bucket", "key", null), is(sameInstance(metadata)));
+        assertThat(cache.get("bucket", "key", "v1"), is(sameInstance(version)));
+        assertThat(cache.get("other", "key", null), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("should evict the current version but not specific versions when an object changes")
+    void shouldEvictCurrentVersion() {
+        HeadObjectResponse version = HeadObjectResponse.builder().contentLength(7L).versionId("v1").build();
+        cache.put("bucket", "key", null, metadata);
+        cache.put("bucket", "key", "v1", version);
+
+        cache.evict("bucket", "key");
+
+        assertThat(cache.get("bucket", "key", null), is(nullValue()));
+        assertThat(cache.get("bucket", "key", "v1"), is(sameInstance(version)));
+    }
+
+    @Test
+    @DisplayName("should not cache missing objects")
+    void shouldNotCacheMisses() {
+        cache.put("bucket", "key", null, null);
+
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    @DisplayName("should stay within its maximum number of entries")
+    void shouldStayBounded() {
+        for (int i = 0; i < 100; i++) {
+            cache.put("bucket", "key-" + i, null, metadata);
+            assertThat(cache.size(), is(lessThanOrEqualTo(8)));
+        }
+        assertThat(cache.get("bucket", "key-99", null), is(sameInstance(metadata)));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import internal.org.springframework.content.s3.io.ParallelDownloadInputStream.RangeReader;
+
+@DisplayName("ParallelDownloadInputStream")
+public class ParallelDownloadInputStreamTest {
+
+    // ranges of downloads, unlike parts of uploads, may be shorter than 5MB
+    private static final int PART_SIZE = 1024 * 1024;
+
+    private ExecutorService executor;
+    private PartBufferPool buffers;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        buffers = new PartBufferPool(PART_SIZE, false, 4);
+        content = new byte[PART_SIZE * 5 + 123];
+        new Random(42).nextBytes(content);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should reassemble the ranges in order")
+    void shouldReassembleRanges() throws IOException {
+        AtomicInteger opened = new AtomicInteger();
+        RangeReader reader = (first, last) -> {
+            opened.incrementAndGet();
+            return range(first, last);
+        };
+
+        try (InputStream in = stream(reader, 3)) {
+            assertThat(in.readAllBytes(), is(content));
+        }
+        assertThat(opened.get(), is(6));
+    }
+
+    @Test
+    @DisplayName("should download at most maxInFlightParts ranges at once")
+    void shouldBoundRangesInFlight() throws IOException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger mostActive = new AtomicInteger();
+        RangeReader reader = (first, last) -> {
+            mostActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+            return range(first, last);
+        };
+
+        try (InputStream in = stream(reader, 2)) {
+            in.readAllBytes();
+        }
+        assertThat(mostActive.get(), is(lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    @DisplayName("should fail the read reaching a range that could not be downloaded")
+    void shouldFailOnFailedRange() throws IOException {
+        RangeReader reader = (first, last) -> {
+            if (first >= PART_SIZE * 2L) {
+                throw new IOException("boom");
+            }
+            return range(first, last);
+        };
+
+        try (InputStream in = stream(reader, 3)) {
+            byte[] head = in.readNBytes(PART_SIZE * 2);
+            assertThat(head.length, is(PART_SIZE * 2));
+
+            IOException e = assertThrows(IOException.class, () -> in.read());
+            assertThat(e.getCause().getMessage(), is("boom"));
+            assertThrows(IOException.class, () -> in.read());
+        }
+    }
+
+    @Test
+    @DisplayName("should fail when a range ends early")
+    void shouldFailOnShortRange() {
+        RangeReader reader = (first, last) -> range(first, first + 9);
+
+        IOException e = assertThrows(IOException.class, () -> stream(reader, 2).read());
+        assertThat(e.getCause(), is(instanceOf(EOFException.class)));
+    }
+
+    private InputStream stream(RangeReader reader, int maxInFlightParts) {
+        return new ParallelDownloadInputStream(reader, content.length, executor::execute, buffers, maxInFlightParts);
+    }
+
+    private InputStream range(long first, long last) {
+        return new ByteArrayInputStream(content, (int) first, (int) (last - first + 1));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@DisplayName("ReactiveUploader")
+public class ReactiveUploaderTest {
+
+    private static final int PART_SIZE = PartBufferPool.MIN_PART_SIZE;
+
+    private S3AsyncClient client;
+    private ReactiveUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(S3AsyncClient.class);
+        when(client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+        when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload").build()));
+        when(client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag").build()));
+        when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+        when(client.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+        uploader = new ReactiveUploader(client, new PartBufferPool(PART_SIZE, false, 2), 2);
+    }
+
+    @Test
+    @DisplayName("should store content of unknown length shorter than a part with a single put")
+    void shouldPutShortContent() {
+        Long length = uploader.upload("bucket", "key", "text/plain", -1, chunks(3, 1024)).block();
+
+        assertThat(length, is(3072L));
+        verify(client).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("should store content of unknown length longer than a part with a multipart upload")
+    void shouldUploadLongContentInParts() {
+        Long length = uploader.upload("bucket", "key", null, -1, chunks(PART_SIZE / 1024 * 2 + 1, 1024)).block();
+
+        assertThat(length, is(PART_SIZE * 2L + 1024));
+        verify(client).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        verify(client, times(3)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        verify(client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(client, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @Test
+    @DisplayName("should refuse buffers too small for the parts of a multipart upload")
+    void shouldRefuseSmallBuffers() {
+        PartBufferPool small = new PartBufferPool(1024 * 1024, false, 2);
+
+        assertThrows(IllegalArgumentException.class, () -> new ReactiveUploader(client, small, 2));
+    }
+
+    @Test
+    @DisplayName("should not request content faster than parts are uploaded")
+    void shouldApplyBackpressure() {
+        CompletableFuture<UploadPartResponse> pending = new CompletableFuture<>();
+        when(client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(pending);
+        AtomicInteger produced = new AtomicInteger();
+
+        uploader.upload("bucket", "key", null, -1, chunks(PART_SIZE / 1024 * 10, 1024).doOnNext(chunk -> produced.incrementAndGet()))
+                .subscribe();
+
+        // two parts uploading and at most one more being gathered
+        assertThat(produced.get() <= PART_SIZE / 1024 * 3 + 1, is(true));
+        pending.complete(UploadPartResponse.builder().eTag("etag").build());
+    }
+
+    @Test
+    @DisplayName("should abort the multipart upload when a part fails")
+    void shouldAbortOnFailedPart() {
+        when(client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        assertThrows(IllegalStateException.class,
+                () -> uploader.upload("bucket", "key", null, -1, chunks(PART_SIZE / 1024 * 2, 1024)).block());
+
+        verify(client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("should not start an upload until subscribed to")
+    void shouldBeDeferred() {
+        uploader.upload("bucket", "key", null, 10, chunks(1, 10));
+
+        verify(client, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    private static Flux<ByteBuffer> chunks(int count, int size) {
+        return Flux.range(0, count).map(i -> ByteBuffer.allocate(size));
+    }
+}
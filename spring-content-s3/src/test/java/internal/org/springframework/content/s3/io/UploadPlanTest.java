@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Intesys S.r.l. and the Spring Content contributors
+ *
+ * This file is part of Spring Content.
+ *
+ * Spring Content is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Spring Content is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Spring Content.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package internal.org.springframework.content.s3.io;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UploadPlan")
+public class UploadPlanTest {
+
+    private static final int BASE = PartBufferPool.MIN_PART_SIZE;
+
+    @Test
+    @DisplayName("should put content known to be shorter than a part in one request")
+    void shouldPutShortContent() {
+        assertThat(UploadPlan.forLength(0, BASE).isSinglePut(), is(true));
+        assertThat(UploadPlan.forLength(BASE - 1, BASE).isSinglePut(), is(true));
+        assertThat(UploadPlan.forLength(BASE, BASE).isSinglePut(), is(false));
+        assertThat(UploadPlan.forUnknownLength(BASE).isSinglePut(), is(false));
+    }
+
+    @Test
+    @DisplayName("should keep the base part size for content that fits in 10,000 parts of it")
+    void shouldKeepBasePartSize() {
+        UploadPlan plan = UploadPlan.forLength(10L * 1024 * 1024 * 1024, BASE);
+
+        assertThat(plan.partSize(1), is(BASE));
+        assertThat(plan.partSize(UploadPlan.MAX_PARTS), is(BASE));
+    }
+
+    @Test
+    @DisplayName("should size parts to fit the largest object in 10,000 parts")
+    void shouldFitLargestObject() {
+        UploadPlan plan = UploadPlan.forLength(UploadPlan.MAX_OBJECT_SIZE, BASE);
+
+        long partSize = plan.partSize(1);
+        assertThat(partSize * UploadPlan.MAX_PARTS, is(greaterThanOrEqualTo(UploadPlan.MAX_OBJECT_SIZE)));
+        assertThat(partSize % (1024 * 1024), is(0L));
+    }
+
+    @Test
+    @DisplayName("should grow the parts of content of unknown length")
+    void shouldGrowPartsOfUnknownLength() {
+        UploadPlan plan = UploadPlan.forUnknownLength(BASE);
+
+        assertThat(plan.partSize(1), is(BASE));
+        assertThat(plan.partSize(1000), is(BASE));
+        assertThat(plan.partSize(1001), is(2 * BASE));
+        assertThat(plan.partSize(UploadPlan.MAX_PARTS), is(lessThanOrEqualTo(UploadPlan.MAX_PART_SIZE)));
+    }
+}
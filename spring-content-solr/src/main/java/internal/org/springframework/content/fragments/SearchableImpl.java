@@ -189,7 +189,7 @@ public class SearchableImpl implements Searchable<Object>, ContentStoreAware {
         }
 
         if (!ContentPropertyUtils.isPrimitiveContentPropertyClass(resultType)) {
-            for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(resultType, Attribute.class, new BeanWrapperImpl(resultType))) {
+            for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(resultType, Attribute.class)) {
                 Attribute fieldAnnotation = field.getAnnotation(Attribute.class);
                 query.addField(fieldAnnotation.name());
             }
@@ -263,7 +263,7 @@ public class SearchableImpl implements Searchable<Object>, ContentStoreAware {
                     BeanUtils.setFieldWithAnnotation(result, Highlight.class, highlight.get(0));
                 }
 
-                for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(searchType, Attribute.class, new BeanWrapperImpl(searchType))) {
+                for (java.lang.reflect.Field field : BeanUtils.findFieldsWithAnnotation(searchType, Attribute.class)) {
                     Attribute fieldAnnotation = field.getAnnotation(Attribute.class);
                     if (field.getType().isPrimitive() || field.getType().equals(String.class)) {
                         new BeanWrapperImpl(result).setPropertyValue(field.getName(), list.get(j).getFirstValue(fieldAnnotation.name()));